@@ -0,0 +1,269 @@
+package com.codedev.antro.compiler.frontend;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import com.codedev.antro.compiler.frontend.ast.rules.Program;
+import com.codedev.antro.compiler.frontend.ast.support.AstFile;
+import com.codedev.antro.compiler.frontend.ast.support.FlatAst;
+import com.codedev.antro.compiler.frontend.lexer.LexemeQueue;
+import com.codedev.antro.compiler.frontend.lexer.Span;
+import com.codedev.antro.compiler.frontend.lexer.metrics.LexemeQueueMetrics;
+
+import com.codedev.antro.compiler.frontend.helpers.NamedBufferedReader;
+import com.codedev.antro.compiler.frontend.contracts.concerns.LexisException;
+import com.codedev.antro.compiler.frontend.contracts.concerns.ParseException;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Runs the frontend over many source files concurrently.
+ *
+ * Every source file gets its own Tokenizer -> LexemeQueue -> Parser pair
+ * running on two virtual threads. Both threads are scoped to the file:
+ * a Tokenizer failure reaches the Parser as a poison token, and a Parser
+ * that bails out early cancels (i.e. interrupts) the Tokenizer and waits
+ * for it before the source file is closed.
+ */
+public class CompilationPipeline {
+    private final int queueCapacity;
+    private final boolean failFast;
+    // Where the AST of each parsed source file is written (or null for nowhere)
+    private final Path astOutputDirectory;
+    // Bounds the number of source files opened at the same time
+    private final Semaphore openFilePermits;
+    // Whether the token queues collect hand-off metrics (i.e. opt-in)
+    private final boolean collectMetrics;
+    // The hand-off metrics of every compilation run through this pipeline
+    private final LexemeQueueMetrics aggregateMetrics;
+
+    // @INFO: Default constructor (Arity = 0)
+    public CompilationPipeline() {
+        // pass default values inline
+        this(15, 512, false);
+    }
+
+    /**
+     * Constructs a new CompilationPipeline
+     *
+     * @param queueCapacity the capacity of each token queue.
+     * @param maxOpenFiles the maximum number of source files read at the same time.
+     * @param failFast whether the first failed source file cancels the whole batch.
+     */
+    public CompilationPipeline(int queueCapacity, int maxOpenFiles, boolean failFast) {
+        this(queueCapacity, maxOpenFiles, failFast, null);
+    }
+
+    /**
+     * Constructs a new CompilationPipeline that also writes the AST of each
+     * parsed source file to an output directory (see `AstFile`).
+     *
+     * @param queueCapacity the capacity of each token queue.
+     * @param maxOpenFiles the maximum number of source files read at the same time.
+     * @param failFast whether the first failed source file cancels the whole batch.
+     * @param astOutputDirectory where the ASTs are written (or null for nowhere), mirroring
+     *        the paths of the source files below the working directory (see `AstFile.pathFor(...)`).
+     */
+    public CompilationPipeline(int queueCapacity, int maxOpenFiles, boolean failFast, Path astOutputDirectory) {
+        this(queueCapacity, maxOpenFiles, failFast, astOutputDirectory, false);
+    }
+
+    /**
+     * Constructs a new CompilationPipeline
+     *
+     * @param queueCapacity the capacity of each token queue.
+     * @param maxOpenFiles the maximum number of source files read at the same time.
+     * @param failFast whether the first failed source file cancels the whole batch.
+     * @param astOutputDirectory where the ASTs are written (or null for nowhere).
+     * @param collectMetrics whether the token hand-off of each source file is measured.
+     */
+    public CompilationPipeline(int queueCapacity, int maxOpenFiles, boolean failFast, Path astOutputDirectory, boolean collectMetrics) {
+        this.collectMetrics = collectMetrics;
+        this.aggregateMetrics = collectMetrics ? new LexemeQueueMetrics() : LexemeQueueMetrics.DISABLED;
+        this.queueCapacity = queueCapacity;
+        this.failFast = failFast;
+        this.openFilePermits = new Semaphore(maxOpenFiles);
+        this.astOutputDirectory = astOutputDirectory;
+    }
+
+    /**
+     * Returns the hand-off metrics summed over every compilation so far
+     * (e.g. to register them with JMX via `LexemeQueueMetrics.register(...)`),
+     * or `LexemeQueueMetrics.DISABLED` if the pipeline collects none.
+     */
+    public final LexemeQueueMetrics getMetrics() {
+        return aggregateMetrics;
+    }
+
+    /**
+     * Compiles all the source files and returns their outcomes in the same
+     * order as the source files were given. The spans of each program are
+     * tagged with the index of its source file in the batch (i.e. its file id).
+     */
+    public final List<CompilationResult> compileAll(List<Path> sources) throws InterruptedException {
+        if (sources.size() > Span.MAX_FILE_ID + 1) {
+            throw new IllegalArgumentException(
+                "too many source files in one batch: " + sources.size() + " (at most " + (Span.MAX_FILE_ID + 1) + ")"
+            );
+        }
+
+        List<CompilationResult> results = new ArrayList<>(sources.size());
+        List<Future<CompilationResult>> pending = new ArrayList<>(sources.size());
+
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int index = 0; index < sources.size(); index++) {
+                Path source = sources.get(index);
+                int fileId = index;
+
+                try {
+                    pending.add(scope.submit(() -> compile(scope, source, fileId)));
+                } catch (RejectedExecutionException ex) {
+                    // @INFO: The scope was shut down by an earlier failure (fail-fast)
+                    pending.add(null);
+                }
+            }
+
+            try {
+                for (int index = 0; index < sources.size(); index++) {
+                    results.add(awaitResult(sources.get(index), pending.get(index)));
+                }
+            } catch (InterruptedException ex) {
+                // @NOTE: Cooperative cancellation of every file still in flight
+                scope.shutdownNow();
+                throw ex;
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Compiles a single source file: the Parser runs on the calling (virtual)
+     * thread while the Tokenizer runs on a sibling virtual thread.
+     */
+    private CompilationResult compile(ExecutorService scope, Path source, int fileId) throws InterruptedException {
+        openFilePermits.acquire();
+
+        CompilationResult result;
+
+        try (NamedBufferedReader reader = new NamedBufferedReader(
+                Files.newBufferedReader(source), source.toString())) {
+            // @HINT: Per-file histograms only live until they are folded into the aggregate
+            LexemeQueueMetrics metrics = collectMetrics ? new LexemeQueueMetrics() : LexemeQueueMetrics.DISABLED;
+            LexemeQueue queue = new LexemeQueue(queueCapacity, metrics);
+            Tokenizer tokenizer = new Tokenizer(reader, queue);
+
+            Thread lexer = Thread.ofVirtual().name("antro-tokenizer:" + source.getFileName()).start(() -> {
+                try {
+                    tokenizer.tokenize();
+                } catch (LexisException ex) {
+                    // @INFO: Already handed over to the Parser as a poison token
+                }
+            });
+
+            boolean parsed = false;
+
+            try {
+                Parser parser = new Parser(queue);
+                parser.setFileId(fileId);
+
+                Program program = parser.parseProgram();
+                parsed = true;
+
+                if (astOutputDirectory != null) {
+                    AstFile.write(FlatAst.of(program), AstFile.pathFor(source, astOutputDirectory), source);
+                }
+                result = CompilationResult.success(source, program, summaryOf(metrics), tokenizer.getLineIndex());
+            } catch (ParseException ex) {
+                result = CompilationResult.failure(source, ex, summaryOf(metrics));
+            } finally {
+                if (!parsed) {
+                    // @HINT: The Parser gave up before EOF; never leave the Tokenizer blocked on the queue
+                    lexer.interrupt();
+                }
+                // @HINT: The Tokenizer must be done with the reader before it is closed
+                joinUninterruptibly(lexer);
+                aggregateMetrics.add(metrics);
+            }
+        } catch (IOException ex) {
+            result = CompilationResult.failure(source, ex);
+        } finally {
+            openFilePermits.release();
+        }
+
+        if (failFast && !result.isSuccessful()) {
+            scope.shutdownNow();
+        }
+
+        return result;
+    }
+
+    private static LexemeQueueMetrics.Summary summaryOf(LexemeQueueMetrics metrics) {
+        return metrics.isEnabled() ? metrics.summarize() : null;
+    }
+
+    /**
+     * Waits for the outcome of a single source file.
+     */
+    private CompilationResult awaitResult(Path source, Future<CompilationResult> task) throws InterruptedException {
+        if (task == null) {
+            return CompilationResult.failure(source, new CancellationException("compilation of batch cancelled"));
+        }
+
+        try {
+            return task.get();
+        } catch (CancellationException ex) {
+            return CompilationResult.failure(source, ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            return CompilationResult.failure(
+                source,
+                cause instanceof Exception ? (Exception) cause : ex
+            );
+        }
+    }
+
+    /**
+     * Waits for a thread to terminate while deferring (and then restoring)
+     * any interruption of the waiting thread.
+     */
+    private static void joinUninterruptibly(Thread thread) {
+        boolean interrupted = false;
+
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException ex) {
+                /*
+                    @HINT:
+
+                    Record that an interruption happened but defer
+                    restoring the interrupted status.
+                */
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            // @HINT: Restore interrupted status
+            Thread.currentThread().interrupt();
+        }
+    }
+}
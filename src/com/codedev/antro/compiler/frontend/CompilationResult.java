@@ -0,0 +1,117 @@
+package com.codedev.antro.compiler.frontend;
+
+import java.nio.file.Path;
+
+import com.codedev.antro.compiler.frontend.ast.rules.Program;
+import com.codedev.antro.compiler.frontend.ast.support.AstIndex;
+import com.codedev.antro.compiler.frontend.lexer.LineIndex;
+import com.codedev.antro.compiler.frontend.lexer.metrics.LexemeQueueMetrics;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The outcome of running the frontend (i.e. Tokenizer and Parser) over
+ * a single source file. Holds either the parsed program or the failure.
+ */
+public class CompilationResult {
+    private final Path source;
+    private final Program program;
+    private final Exception failure;
+    // The hand-off counters of this compilation (null unless metrics were collected)
+    private final LexemeQueueMetrics.Summary queueSummary;
+    // Resolves the spans of the program's nodes to lines and columns
+    private final LineIndex lineIndex;
+    // Built on first use (i.e. only for results that are queried)
+    private volatile AstIndex index = null;
+
+    private CompilationResult(Path source, Program program, Exception failure, LexemeQueueMetrics.Summary queueSummary, LineIndex lineIndex) {
+        this.source = source;
+        this.program = program;
+        this.failure = failure;
+        this.queueSummary = queueSummary;
+        this.lineIndex = lineIndex;
+    }
+
+    /**
+     * Creates the outcome of a source file that parsed cleanly.
+     */
+    public static CompilationResult success(Path source, Program program, LexemeQueueMetrics.Summary queueSummary, LineIndex lineIndex) {
+        return new CompilationResult(source, program, null, queueSummary, lineIndex);
+    }
+
+    /**
+     * Creates the outcome of a source file that failed to tokenize or parse.
+     */
+    public static CompilationResult failure(Path source, Exception failure, LexemeQueueMetrics.Summary queueSummary) {
+        return new CompilationResult(source, null, failure, queueSummary, null);
+    }
+
+    /**
+     * Creates the outcome of a source file that could not be compiled at all (e.g. unreadable).
+     */
+    public static CompilationResult failure(Path source, Exception failure) {
+        return new CompilationResult(source, null, failure, null, null);
+    }
+
+    public final Path getSource() {
+        return source;
+    }
+
+    public final Program getProgram() {
+        return program;
+    }
+
+    public final Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns the line index of the source file (or null if it failed), to
+     * resolve the spans of the program's nodes with.
+     */
+    public final LineIndex getLineIndex() {
+        return lineIndex;
+    }
+
+    /**
+     * Returns the index of the program's calls, variables, functions,
+     * requires and exports (or null if it failed), building it on first use.
+     */
+    public final AstIndex getIndex() {
+        AstIndex builtIndex = index;
+
+        if (builtIndex == null && program != null) {
+            synchronized (this) {
+                if (index == null) {
+                    index = AstIndex.of(program);
+                }
+                builtIndex = index;
+            }
+        }
+        return builtIndex;
+    }
+
+    /**
+     * Returns the token hand-off counters of this compilation (or null if
+     * metrics were not collected, or the source file never reached the Tokenizer).
+     */
+    public final LexemeQueueMetrics.Summary getQueueSummary() {
+        return queueSummary;
+    }
+
+    /**
+     * Renders the per-compilation token hand-off report.
+     */
+    public final String getQueueReport() {
+        return queueSummary == null ? "" : queueSummary.toReport(source.toString());
+    }
+
+    public final boolean isSuccessful() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,245 @@
+package com.codedev.antro.compiler.frontend;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
+
+import com.codedev.antro.compiler.frontend.ast.rules.Assignment;
+import com.codedev.antro.compiler.frontend.ast.rules.Binary;
+import com.codedev.antro.compiler.frontend.ast.rules.Block;
+import com.codedev.antro.compiler.frontend.ast.rules.Break;
+import com.codedev.antro.compiler.frontend.ast.rules.Call;
+import com.codedev.antro.compiler.frontend.ast.rules.Continue;
+import com.codedev.antro.compiler.frontend.ast.rules.Defer;
+import com.codedev.antro.compiler.frontend.ast.rules.Dowhile;
+import com.codedev.antro.compiler.frontend.ast.rules.Export;
+import com.codedev.antro.compiler.frontend.ast.rules.ExpressionSet;
+import com.codedev.antro.compiler.frontend.ast.rules.For;
+import com.codedev.antro.compiler.frontend.ast.rules.Function;
+import com.codedev.antro.compiler.frontend.ast.rules.If;
+import com.codedev.antro.compiler.frontend.ast.rules.Invariants;
+import com.codedev.antro.compiler.frontend.ast.rules.Literal;
+import com.codedev.antro.compiler.frontend.ast.rules.MainBlock;
+import com.codedev.antro.compiler.frontend.ast.rules.Module;
+import com.codedev.antro.compiler.frontend.ast.rules.PanicOn;
+import com.codedev.antro.compiler.frontend.ast.rules.Program;
+import com.codedev.antro.compiler.frontend.ast.rules.Require;
+import com.codedev.antro.compiler.frontend.ast.rules.Return;
+import com.codedev.antro.compiler.frontend.ast.rules.Switch;
+import com.codedev.antro.compiler.frontend.ast.rules.Trial;
+import com.codedev.antro.compiler.frontend.ast.rules.Unary;
+import com.codedev.antro.compiler.frontend.ast.rules.Variable;
+import com.codedev.antro.compiler.frontend.ast.rules.While;
+
+import com.codedev.antro.compiler.frontend.lexer.Span;
+import com.codedev.antro.compiler.frontend.lexer.Token;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Rebuilds a construct as if it had been parsed further down (or up) the
+ * source file: every span moves by the offset delta, and every token by
+ * the offset and line delta (columns stay, since the construct moved as
+ * a whole). Used by `IncrementalReparser` to reuse a construct an edit
+ * above it has moved, without parsing it again.
+ *
+ * Nodes are rebuilt with a `switch` over the sealed `Stmt` / `Expr`
+ * hierarchies with no `default`, so a new kind of node fails to compile
+ * here until it is rebuilt too. Nodes with no position (i.e. `Literal`)
+ * are kept as they are.
+ */
+final class ConstructShifter {
+    private final int offsetDelta;
+    private final int lineDelta;
+
+    ConstructShifter(int offsetDelta, int lineDelta) {
+        this.offsetDelta = offsetDelta;
+        this.lineDelta = lineDelta;
+    }
+
+    final int getLineDelta() {
+        return lineDelta;
+    }
+
+    /**
+     * Checks if constructs are moved at all (i.e. the edit did not leave them in place).
+     */
+    final boolean isMoving() {
+        return offsetDelta != 0 || lineDelta != 0;
+    }
+
+    Stmt shift(Stmt stmt) {
+        if (stmt == null) {
+            return null;
+        }
+
+        return switch (stmt) {
+            case Program program -> new Program(
+                (Module) shift(program.getModule()),
+                shiftRequires(program.getRequires()),
+                shiftStatements(program.getDefinitions()),
+                (MainBlock) shift(program.getMainBlock()),
+                (Export) shift(program.getExport())
+            );
+            case Export export -> new Export(shiftTokens(export.getMembers()));
+            case MainBlock main -> new MainBlock(shiftTokens(main.getParameters()), shiftStatements(main.getBody()));
+            case Function function -> new Function(
+                shift(function.getName()),
+                shiftTokens(function.getParameters()),
+                shift(function.getBody()),
+                function.globalFlag
+            );
+            case Block block -> new Block(shiftStatements(block.getStatements()));
+            case If ifStmt -> new If(
+                shift(ifStmt.getCondition()),
+                shift(ifStmt.getIfBranch()),
+                shiftStatements(ifStmt.getElseIfBranches()),
+                shift(ifStmt.getElseBranch())
+            );
+            case While whileStmt -> new While(shift(whileStmt.getCondition()), shift(whileStmt.getBody()));
+            case Dowhile doWhile -> new Dowhile(shift(doWhile.getBody()), shift(doWhile.getCondition()));
+            case For forStmt -> new For(
+                shift(forStmt.getInitializer()),
+                shift(forStmt.getCondition()),
+                shift(forStmt.getIncrement()),
+                shift(forStmt.getBody())
+            );
+            case Switch switchStmt -> new Switch(
+                shift(switchStmt.getExpression()),
+                shiftCases(switchStmt.getCaseBranches()),
+                shift(switchStmt.getDefaultBranch())
+            );
+            case ExpressionSet set -> new ExpressionSet(shiftExpressions(set.getExpressions()));
+            case Return returnStmt -> new Return(shift(returnStmt.getValue()));
+            case Defer defer -> new Defer(shift(defer.getAttachedStatement()));
+            case Invariants invariants -> {
+                List<Expr> expressions = shiftExpressions(invariants.getExpressions());
+                yield new Invariants(expressions);
+            }
+            case Module module -> new Module(shift(module.getPath()));
+            case Require require -> new Require(shift(require.getPath()), shift(require.getNamespace()));
+            case Break breakStmt -> new Break(shift(breakStmt.getLabel()));
+            case Continue continueStmt -> new Continue(shift(continueStmt.getLabel()));
+            case PanicOn panic -> new PanicOn(shift(panic.getErrorVariable()));
+        };
+    }
+
+    Expr shift(Expr expr) {
+        if (expr == null) {
+            return null;
+        }
+
+        return switch (expr) {
+            case Binary binary -> new Binary(
+                shift(binary.getLeft()),
+                binary.getOperator(),
+                shift(binary.getRight()),
+                Span.shift(binary.getSpan(), offsetDelta)
+            );
+            case Unary unary -> new Unary(unary.getOperator(), shift(unary.getRight()), Span.shift(unary.getSpan(), offsetDelta));
+            case Assignment assignment -> new Assignment(
+                assignment.getName(),
+                assignment.getOperator(),
+                shift(assignment.getRight()),
+                Span.shift(assignment.getSpan(), offsetDelta)
+            );
+            case Call call -> new Call(
+                call.getName(),
+                shift(call.getCallee()),
+                shiftExpressions(call.getArguments()),
+                Span.shift(call.getSpan(), offsetDelta)
+            );
+            case Trial trial -> new Trial(
+                shift(trial.getPrefix()),
+                (Call) shift(trial.getCallExpression()),
+                shiftChains(trial.getChains())
+            );
+            // @INFO: No position (i.e. only a value), so it may well be shared
+            case Literal literal -> literal;
+            case Variable variable -> new Variable(variable.getName(), Span.shift(variable.getSpan(), offsetDelta));
+        };
+    }
+
+    Token shift(Token token) {
+        if (token == null || token.getOffset() < 0) {
+            return token;
+        }
+
+        return new Token(
+            token.getType(),
+            token.getImage(),
+            token.getLineNumber() + lineDelta,
+            token.getColumnNumber(),
+            token.getOffset() + offsetDelta,
+            token.getLength()
+        );
+    }
+
+    private List<Stmt> shiftStatements(List<Stmt> statements) {
+        List<Stmt> shifted = new ArrayList<>(statements.size());
+
+        for (Stmt stmt : statements) {
+            shifted.add(shift(stmt));
+        }
+        return shifted;
+    }
+
+    private List<Require> shiftRequires(List<Require> requires) {
+        List<Require> shifted = new ArrayList<>(requires.size());
+
+        for (Require require : requires) {
+            shifted.add((Require) shift(require));
+        }
+        return shifted;
+    }
+
+    private List<Expr> shiftExpressions(List<Expr> expressions) {
+        List<Expr> shifted = new ArrayList<>(expressions.size());
+
+        for (Expr expr : expressions) {
+            shifted.add(shift(expr));
+        }
+        return shifted;
+    }
+
+    private List<Token> shiftTokens(List<Token> tokens) {
+        List<Token> shifted = new ArrayList<>(tokens.size());
+
+        for (Token token : tokens) {
+            shifted.add(shift(token));
+        }
+        return shifted;
+    }
+
+    private List<Switch.Case> shiftCases(List<Switch.Case> cases) {
+        List<Switch.Case> shifted = new ArrayList<>(cases.size());
+
+        for (Switch.Case caseBranch : cases) {
+            shifted.add(new Switch.Case(shift(caseBranch.getValue()), shiftStatements(caseBranch.getBody())));
+        }
+        return shifted;
+    }
+
+    private List<Trial.Chain> shiftChains(List<Trial.Chain> chains) {
+        List<Trial.Chain> shifted = new ArrayList<>(chains.size());
+
+        for (Trial.Chain chain : chains) {
+            // @HINT: A chain holds either an expression (i.e. `eject_on`) or a block (i.e. `use`)
+            Object value = chain.getValue();
+
+            if (value instanceof Stmt stmt) {
+                shifted.add(new Trial.Chain(shift(chain.getType()), shift(stmt)));
+            } else {
+                shifted.add(new Trial.Chain(shift(chain.getType()), shift((Expr) value)));
+            }
+        }
+        return shifted;
+    }
+}
@@ -0,0 +1,57 @@
+package com.codedev.antro.compiler.frontend;
+
+import java.util.function.Supplier;
+
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
+import com.codedev.antro.compiler.frontend.ast.support.ExprInterner;
+
+import com.codedev.antro.compiler.frontend.lexer.TokenBuffer;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The tokens of a function body (i.e. from its `{` to its matching `}`)
+ * kept by a Parser in lazy mode, and parsed into a `Block` only when a
+ * later phase asks the `Function` for its body.
+ */
+final class DeferredFunctionBody implements Supplier<Stmt> {
+    private final TokenBuffer bodyTokens;
+    private final boolean tableDriven;
+    // The file id of the spans (i.e. that of the Parser that kept the tokens)
+    private final int fileId;
+    // The interner of the Parser that kept the tokens (if any)
+    private final ExprInterner interner;
+
+    // @INFO: Four-argument constructor (Arity = 4)
+    DeferredFunctionBody(TokenBuffer bodyTokens, boolean tableDriven, int fileId, ExprInterner interner) {
+        this.bodyTokens = bodyTokens;
+        this.tableDriven = tableDriven;
+        this.fileId = fileId;
+        this.interner = interner;
+    }
+
+    /**
+     * Parses the body.
+     *
+     * @throws DeferredParseException if the body has syntax errors.
+     */
+    @Override
+    public Stmt get() {
+        Parser parser = new Parser(null, new TokenCursor(bodyTokens.source()), tableDriven, false, null);
+        parser.setFileId(fileId);
+        parser.setExpressionInterner(interner);
+        return parser.parseDeferredFunctionBody();
+    }
+
+    /**
+     * Retrieves the number of tokens kept for the body.
+     */
+    public int size() {
+        return bodyTokens.size();
+    }
+}
@@ -0,0 +1,420 @@
+package com.codedev.antro.compiler.frontend;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
+import com.codedev.antro.compiler.frontend.ast.rules.Export;
+import com.codedev.antro.compiler.frontend.ast.rules.MainBlock;
+import com.codedev.antro.compiler.frontend.ast.rules.Module;
+import com.codedev.antro.compiler.frontend.ast.rules.Program;
+import com.codedev.antro.compiler.frontend.ast.rules.Require;
+import com.codedev.antro.compiler.frontend.ast.support.ExprInterner;
+
+import com.codedev.antro.compiler.frontend.lexer.PoisonToken;
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.lexer.TokenBuffer;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+
+import com.codedev.antro.compiler.frontend.diagnostics.Diagnostic;
+import com.codedev.antro.compiler.frontend.diagnostics.DiagnosticsCollector;
+import com.codedev.antro.compiler.frontend.contracts.concerns.ParseException;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Parses successive versions of the same source file (e.g. as it is
+ * edited), reparsing only the top-level constructs an edit touched.
+ *
+ * Each parse splits the token stream at `TopLevelBoundaries` and parses
+ * every top-level construct (i.e. a `def:`, the `begin` block, `module`,
+ * `require` or `export`) on its own. The next parse compares the edited
+ * token stream with the previous one: constructs that lie entirely within
+ * the unchanged leading or trailing tokens are spliced back in as they are
+ * (i.e. the very same `Stmt` subtrees); only the rest is parsed again.
+ *
+ * Leading tokens are compared by type and image as well as by position
+ * (i.e. line, column and offset), so a construct reused from there carries
+ * the very spans a fresh parse would give it. Trailing tokens are compared
+ * by type, image and column, and must all have moved by the same number of
+ * characters and lines (e.g. below an edit that added a line): a construct
+ * reused from there is rebuilt by `ConstructShifter` with its spans, tokens
+ * and diagnostics moved by as much, which is still far cheaper than parsing
+ * it again.
+ */
+public class IncrementalReparser {
+    // The parts of a program, in the order `Parser.parseProgram()` expects them
+    private static final int SECTION_IMPORTS = 0;
+    private static final int SECTION_DEFINITIONS = 1;
+    private static final int SECTION_EXPORT = 2;
+
+    private final boolean tableDriven;
+
+    // The token stream and constructs of the previous parse (if any)
+    private TokenBuffer previousTokens = null;
+    private Map<Long, ParsedSegment> previousSegments = new HashMap<>();
+
+    private int reusedCount = 0;
+    private int reparsedCount = 0;
+    // The file id the spans of the nodes built are tagged with
+    private int fileId = 0;
+    // Shares literals and variable names across every construct parsed (if any)
+    private ExprInterner interner = null;
+
+    // @INFO: Default constructor (Arity = 0)
+    public IncrementalReparser() {
+        // pass default value inline
+        this(true);
+    }
+
+    // @INFO: Single-argument constructor (Arity = 1)
+    public IncrementalReparser(boolean tableDriven) {
+        this.tableDriven = tableDriven;
+    }
+
+    /**
+     * Parses a (pre-lexed) version of the source file, reusing whatever the
+     * previous parse built for the constructs the edit left untouched. The
+     * constructs are remembered for the next parse even if this one fails.
+     */
+    public Program parse(TokenBuffer tokens) throws ParseException {
+        int prefix = 0;
+        int suffix = 0;
+        int shift = 0;
+        ConstructShifter shifter = null;
+
+        if (previousTokens != null) {
+            prefix = commonPrefix(previousTokens, tokens);
+            suffix = commonSuffix(previousTokens, tokens, prefix);
+            shift = tokens.size() - previousTokens.size();
+
+            if (suffix > 0) {
+                // @HINT: Every trailing token has moved by as much as the last one (see `commonSuffix(...)`)
+                Token previousLast = previousTokens.get(previousTokens.size() - 1);
+                Token currentLast = tokens.get(tokens.size() - 1);
+
+                shifter = new ConstructShifter(
+                    currentLast.getOffset() - previousLast.getOffset(),
+                    currentLast.getLineNumber() - previousLast.getLineNumber()
+                );
+            }
+        }
+
+        int suffixStart = tokens.size() - suffix;
+        TopLevelBoundaries boundaries = TopLevelBoundaries.scan(tokens);
+
+        Map<Long, ParsedSegment> segments = new HashMap<>();
+        List<ParsedSegment> ordered = new ArrayList<>();
+
+        reusedCount = 0;
+        reparsedCount = 0;
+
+        int from = 0;
+
+        while (from < tokens.size() && tokens.get(from).getType() != TokenType.EOF) {
+            int to = boundaries.segmentEnd(from);
+            ParsedSegment segment = null;
+
+            if (to <= prefix) {
+                segment = previousSegments.get(key(from, to));
+            } else if (from >= suffixStart) {
+                segment = previousSegments.get(key(from - shift, to - shift));
+
+                if (segment != null && shifter.isMoving()) {
+                    segment = segment.shift(shifter);
+                }
+            }
+
+            if (segment != null) {
+                reusedCount++;
+            } else {
+                segment = parseSegment(tokens, from, to);
+                reparsedCount++;
+            }
+
+            segments.put(key(from, to), segment);
+            ordered.add(segment);
+            from = to;
+        }
+
+        previousTokens = tokens;
+        previousSegments = segments;
+
+        return assemble(tokens, ordered);
+    }
+
+    /**
+     * Set the file id the spans of the nodes built are tagged with (see `Parser.setFileId(...)`).
+     */
+    public void setFileId(int fileId) {
+        this.fileId = fileId;
+    }
+
+    /**
+     * Set the interner every construct is parsed with (see `Parser.setExpressionInterner(...)`).
+     */
+    public void setExpressionInterner(ExprInterner interner) {
+        this.interner = interner;
+    }
+
+    /**
+     * Forgets the previous parse (i.e. the next one parses everything).
+     */
+    public void reset() {
+        previousTokens = null;
+        previousSegments = new HashMap<>();
+    }
+
+    /**
+     * Retrieves the number of top-level constructs reused by the last parse.
+     */
+    public final int getReusedCount() {
+        return reusedCount;
+    }
+
+    /**
+     * Retrieves the number of top-level constructs parsed by the last parse.
+     */
+    public final int getReparsedCount() {
+        return reparsedCount;
+    }
+
+    private ParsedSegment parseSegment(TokenBuffer tokens, int from, int to) {
+        Parser parser = new Parser(null, new TokenCursor(tokens.slice(from, to)), tableDriven, false, null);
+        parser.setFileId(fileId);
+        parser.setExpressionInterner(interner);
+        Stmt construct = parser.parseTopLevelSegment();
+
+        return new ParsedSegment(tokens.get(from), construct, parser.getDiagnostics());
+    }
+
+    /**
+     * Puts the constructs together as a program, checking what
+     * `Parser.parseProgram()` checks across constructs.
+     */
+    private Program assemble(TokenBuffer tokens, List<ParsedSegment> segments) throws ParseException {
+        DiagnosticsCollector diagnostics = new DiagnosticsCollector();
+        List<Exception> _exceptions = new ArrayList<>();
+        List<Require> _requires = new ArrayList<>();
+        List<Stmt> _definitions = new ArrayList<>();
+
+        Module _module = null;
+        MainBlock _main = null;
+        Export _export = null;
+
+        // Which part of the program the constructs have reached (i.e. the order `parseProgram()` expects)
+        int section = SECTION_IMPORTS;
+
+        for (ParsedSegment segment : segments) {
+            diagnostics.merge(segment.diagnostics);
+
+            int segmentSection = sectionOf(segment.leadingToken.getType());
+
+            if (segmentSection < section) {
+                // @INFO: A construct out of order (e.g. a `require` after a `def:`, or anything after `export`)
+                reportMisplaced(diagnostics, segment.leadingToken);
+
+                // @HINT: Like `parseProgram()`, only `export` is expected from here on
+                section = SECTION_EXPORT;
+                continue;
+            }
+            section = segmentSection;
+
+            Stmt construct = segment.construct;
+
+            if (construct instanceof Module) {
+                if (_module != null) {
+                    reportDuplicate(diagnostics, segment.leadingToken);
+                } else {
+                    _module = (Module) construct;
+                }
+            } else if (construct instanceof Require) {
+                _requires.add((Require) construct);
+            } else if (construct instanceof MainBlock) {
+                if (_main != null) {
+                    reportDuplicate(diagnostics, segment.leadingToken);
+                } else {
+                    _main = (MainBlock) construct;
+                }
+            } else if (construct instanceof Export) {
+                if (_export != null) {
+                    reportDuplicate(diagnostics, segment.leadingToken);
+                } else {
+                    _export = (Export) construct;
+                }
+            } else if (construct != null) {
+                _definitions.add(construct);
+            }
+        }
+
+        Token endToken = tokens.size() > 0
+            ? tokens.get(tokens.size() - 1)
+            : new Token(TokenType.EOF, String.valueOf('\0'), 1, 1);
+
+        if (endToken instanceof PoisonToken) {
+            // @INFO: The token stream was cut short by the Tokenizer, so report the lexer failure alone
+            PoisonToken poison = (PoisonToken) endToken;
+
+            diagnostics.clear();
+            _exceptions.add(poison.getFailure());
+            report(diagnostics, endToken, poison.getFailure().getMessage());
+        } else {
+            if (_module == null) {
+                report(diagnostics, segments.isEmpty() ? endToken : segments.get(0).leadingToken, "No `package` statement found");
+            }
+
+            if (_export == null) {
+                report(diagnostics, endToken, "No `export` statement found for module");
+            }
+        }
+
+        if (diagnostics.hasErrors()) {
+            throw diagnostics.toParseException("Syntax error encountered", _exceptions);
+        }
+
+        return new Program(
+            _module,
+            _requires,
+            _definitions,
+            _main,
+            _export
+        );
+    }
+
+    /**
+     * Retrieves the part of the program a top-level construct belongs in,
+     * by its leading token (so that constructs with syntax errors are
+     * placed too): `module` and `require` first, then `begin` and `def:`,
+     * then `export` last.
+     */
+    private static int sectionOf(TokenType leadingType) {
+        switch (leadingType) {
+            case MODULE:
+            case REQUIRE:
+                return SECTION_IMPORTS;
+            case EXPORT:
+                return SECTION_EXPORT;
+            default:
+                return SECTION_DEFINITIONS;
+        }
+    }
+
+    private static void reportMisplaced(DiagnosticsCollector diagnostics, Token token) {
+        report(
+            diagnostics,
+            token,
+            "Unexpected top-level construct - invalid invocation found; where '" + token.getImage() + "' is found"
+        );
+    }
+
+    private static void reportDuplicate(DiagnosticsCollector diagnostics, Token token) {
+        report(
+            diagnostics,
+            token,
+            "Unexpected top-level construct - duplicate occurence found; where '" + token.getImage() + "' is found"
+        );
+    }
+
+    private static void report(DiagnosticsCollector diagnostics, Token token, String message) {
+        diagnostics.report(
+            Diagnostic.error(
+                token.getLineNumber(),
+                token.getColumnNumber(),
+                message,
+                token.getImage(),
+                token.getType() == TokenType.EOF
+            )
+        );
+    }
+
+    private static int commonPrefix(TokenBuffer previous, TokenBuffer current) {
+        int limit = Math.min(previous.size(), current.size());
+        int length = 0;
+
+        while (length < limit && isSameLexeme(previous.get(length), current.get(length))) {
+            length++;
+        }
+        return length;
+    }
+
+    private static int commonSuffix(TokenBuffer previous, TokenBuffer current, int prefix) {
+        // @HINT: The suffix must not overlap the prefix in either stream
+        int limit = Math.min(previous.size(), current.size()) - prefix;
+
+        if (limit <= 0) {
+            return 0;
+        }
+
+        Token previousLast = previous.get(previous.size() - 1);
+        Token currentLast = current.get(current.size() - 1);
+
+        int offsetDelta = currentLast.getOffset() - previousLast.getOffset();
+        int lineDelta = currentLast.getLineNumber() - previousLast.getLineNumber();
+        int length = 0;
+
+        while (length < limit
+                && isMovedLexeme(previous.get(previous.size() - 1 - length), current.get(current.size() - 1 - length), offsetDelta, lineDelta)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Checks if two tokens are the same lexeme at the same place (i.e. a
+     * construct built from one is valid for the other as it is).
+     */
+    private static boolean isSameLexeme(Token first, Token second) {
+        return isMovedLexeme(first, second, 0, 0);
+    }
+
+    /**
+     * Checks if a token is the same lexeme as another, moved by a number of
+     * characters and lines (i.e. a construct built from one is valid for
+     * the other once shifted by as much).
+     */
+    private static boolean isMovedLexeme(Token previous, Token current, int offsetDelta, int lineDelta) {
+        return previous.getType() == current.getType()
+            && current.getOffset() - previous.getOffset() == offsetDelta
+            && current.getLineNumber() - previous.getLineNumber() == lineDelta
+            && previous.getColumnNumber() == current.getColumnNumber()
+            && previous.getImage().equals(current.getImage());
+    }
+
+    private static long key(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A top-level construct parsed from a slice of the token stream.
+     */
+    private static final class ParsedSegment {
+        final Token leadingToken;
+        // Null if the construct has syntax errors
+        final Stmt construct;
+        final DiagnosticsCollector diagnostics;
+
+        ParsedSegment(Token leadingToken, Stmt construct, DiagnosticsCollector diagnostics) {
+            this.leadingToken = leadingToken;
+            this.construct = construct;
+            this.diagnostics = diagnostics;
+        }
+
+        /**
+         * Retrieves this construct as if it were parsed where the shifter moves it to.
+         */
+        ParsedSegment shift(ConstructShifter shifter) {
+            return new ParsedSegment(
+                shifter.shift(leadingToken),
+                shifter.shift(construct),
+                diagnostics.shiftLines(shifter.getLineDelta())
+            );
+        }
+    }
+}
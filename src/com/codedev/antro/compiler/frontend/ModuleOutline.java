@@ -0,0 +1,110 @@
+package com.codedev.antro.compiler.frontend;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.codedev.antro.compiler.frontend.ast.rules.Require;
+
+import com.codedev.antro.compiler.frontend.lexer.Token;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The outline of a source file (i.e. its `module` path, `require` paths,
+ * `def:` signatures and constants, and `export` list), as extracted by
+ * `Parser.parseOutline()` without parsing function bodies or the `begin`
+ * block. Enough to plan the compilation order of many modules.
+ */
+public class ModuleOutline {
+    private final Token modulePath;
+    private final List<Require> requires;
+    private final List<Definition> definitions;
+    private final List<Token> exports;
+    private final boolean hasEntryPoint;
+
+    public ModuleOutline(Token modulePath, List<Require> requires, List<Definition> definitions, List<Token> exports, boolean hasEntryPoint) {
+        this.modulePath = modulePath;
+        this.requires = Collections.unmodifiableList(requires);
+        this.definitions = Collections.unmodifiableList(definitions);
+        this.exports = Collections.unmodifiableList(exports);
+        this.hasEntryPoint = hasEntryPoint;
+    }
+
+    public final Token getModulePath() {
+        return modulePath;
+    }
+
+    public final List<Require> getRequires() {
+        return requires;
+    }
+
+    public final List<Definition> getDefinitions() {
+        return definitions;
+    }
+
+    public final List<Token> getExports() {
+        return exports;
+    }
+
+    /**
+     * Checks if the source file has a `begin` block.
+     */
+    public final boolean hasEntryPoint() {
+        return hasEntryPoint;
+    }
+
+    /**
+     * A top-level `def:` (i.e. a function signature or a constant).
+     */
+    public static final class Definition {
+        private final Token name;
+        // Null for a constant
+        private final List<Token> parameters;
+        // Null for a function
+        private final Token value;
+
+        private Definition(Token name, List<Token> parameters, Token value) {
+            this.name = name;
+            this.parameters = parameters;
+            this.value = value;
+        }
+
+        /**
+         * Creates the signature of a function definition.
+         */
+        public static Definition function(Token name, List<Token> parameters) {
+            return new Definition(name, Collections.unmodifiableList(parameters), null);
+        }
+
+        /**
+         * Creates a constant definition.
+         */
+        public static Definition constant(Token name, Token value) {
+            return new Definition(name, null, value);
+        }
+
+        public final Token getName() {
+            return name;
+        }
+
+        public final boolean isFunction() {
+            return parameters != null;
+        }
+
+        public final List<Token> getParameters() {
+            return parameters == null ? Collections.emptyList() : parameters;
+        }
+
+        /**
+         * Retrieves the literal token of a constant (or null for a function).
+         */
+        public final Token getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.codedev.antro.compiler.frontend;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
+import com.codedev.antro.compiler.frontend.ast.rules.Program;
+import com.codedev.antro.compiler.frontend.ast.support.ExprInterner;
+
+import com.codedev.antro.compiler.frontend.lexer.LexemeQueue;
+import com.codedev.antro.compiler.frontend.lexer.TokenBuffer;
+
+import com.codedev.antro.compiler.frontend.diagnostics.DiagnosticsCollector;
+import com.codedev.antro.compiler.frontend.contracts.concerns.ParseException;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Parses a program with its top-level definitions (i.e. `def: ...`)
+ * spread over a fork-join pool.
+ *
+ * The whole token stream is first drained into a `TokenBuffer`. A single
+ * scan over it (tracking the nesting of `{ }` and `begin ... end`) finds
+ * where each top-level construct starts. The `Parser` then parses the
+ * program as usual, except that each top-level definition it reaches is
+ * handed over to the pool (as a slice of the buffer) and skipped. The
+ * parsed definitions are put back in source order once all are done.
+ *
+ * A syntax error in one definition never spills into the next one (the
+ * definition's slice ends where the next top-level construct starts).
+ */
+public class ParallelProgramParser {
+    // The number of tokens handed to the pool as one task (i.e. small definitions are batched)
+    private static final int DEFAULT_BATCH_SIZE = 2048;
+
+    private final LexemeQueue tokenQueue;
+    private final ForkJoinPool pool;
+    private final boolean tableDriven;
+    private final int batchSize;
+    // The file id the spans of the nodes built are tagged with
+    private int fileId = 0;
+    // Shares literals and variable names across every definition parsed (if any)
+    private ExprInterner interner = null;
+
+    private TokenBuffer buffer;
+    private TopLevelBoundaries boundaries;
+
+    private List<Segment> batch = new ArrayList<>();
+    private int batchTokens = 0;
+    private final List<ForkJoinTask<List<ParsedSegment>>> forks = new ArrayList<>();
+
+    // @INFO: Single-argument constructor (Arity = 1)
+    public ParallelProgramParser(LexemeQueue tokenQueue) {
+        // pass default values inline
+        this(tokenQueue, ForkJoinPool.commonPool(), true, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs a new ParallelProgramParser
+     *
+     * @param tokenQueue the token queue the Tokenizer feeds.
+     * @param pool the pool the top-level definitions are parsed on.
+     * @param tableDriven whether statements are dispatched through the `StatementPredictionTable`.
+     * @param batchSize the (minimum) number of tokens parsed as one task.
+     */
+    public ParallelProgramParser(LexemeQueue tokenQueue, ForkJoinPool pool, boolean tableDriven, int batchSize) {
+        this.tokenQueue = tokenQueue;
+        this.pool = pool;
+        this.tableDriven = tableDriven;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * Set the file id the spans of the nodes built are tagged with (see `Parser.setFileId(...)`).
+     */
+    public void setFileId(int fileId) {
+        this.fileId = fileId;
+    }
+
+    /**
+     * Set the interner every definition is parsed with (see `Parser.setExpressionInterner(...)`).
+     */
+    public void setExpressionInterner(ExprInterner interner) {
+        this.interner = interner;
+    }
+
+    public Program parseProgram() throws ParseException {
+        try {
+            buffer = TokenBuffer.drain(tokenQueue);
+        } catch (InterruptedException ex) {
+            // @INFO: Restore interrupted status
+            Thread.currentThread().interrupt();
+            throw new ParseException("Token stream interrupted before the end of the source file");
+        }
+
+        boundaries = TopLevelBoundaries.scan(buffer);
+
+        batch = new ArrayList<>();
+        batchTokens = 0;
+        forks.clear();
+
+        Parser parser = new Parser(tokenQueue, new TokenCursor(buffer.source()), tableDriven, false, this);
+        parser.setFileId(fileId);
+        parser.setExpressionInterner(interner);
+
+        try {
+            return parser.parseProgram();
+        } finally {
+            // @HINT: Whatever is still in flight (e.g. after an unexpected failure) is not needed
+            for (ForkJoinTask<List<ParsedSegment>> fork : forks) {
+                fork.cancel(false);
+            }
+            forks.clear();
+            buffer = null;
+            boundaries = null;
+        }
+    }
+
+    /**
+     * Hands the top-level definition starting at a buffer position over to
+     * the pool.
+     *
+     * @param from the position of the definition's `def` token.
+     * @param slot the index of the definition's placeholder in the program's definitions.
+     * @return the position where the definition's slice ends.
+     */
+    int forkDefinition(int from, int slot) {
+        int to = boundaries.segmentEnd(from);
+
+        batch.add(new Segment(from, to, slot));
+        batchTokens += to - from;
+
+        if (batchTokens >= batchSize) {
+            submitBatch();
+        }
+        return to;
+    }
+
+    /**
+     * Waits for every forked definition and puts each one in its placeholder
+     * (failed definitions leave no placeholder behind, just as in `Parser`).
+     */
+    void joinDefinitions(List<Stmt> definitions, DiagnosticsCollector diagnostics) {
+        submitBatch();
+
+        for (ForkJoinTask<List<ParsedSegment>> fork : forks) {
+            for (ParsedSegment parsed : fork.join()) {
+                definitions.set(parsed.slot, parsed.definition);
+                diagnostics.merge(parsed.diagnostics);
+            }
+        }
+
+        forks.clear();
+        definitions.removeIf(Objects::isNull);
+    }
+
+    private void submitBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final List<Segment> segments = batch;
+        final TokenBuffer tokens = buffer;
+
+        batch = new ArrayList<>();
+        batchTokens = 0;
+
+        forks.add(pool.submit(() -> parseSegments(tokens, segments)));
+    }
+
+    private List<ParsedSegment> parseSegments(TokenBuffer tokens, List<Segment> segments) {
+        List<ParsedSegment> results = new ArrayList<>(segments.size());
+
+        for (Segment segment : segments) {
+            Parser parser = new Parser(
+                null,
+                new TokenCursor(tokens.slice(segment.from, segment.to)),
+                tableDriven,
+                false,
+                null
+            );
+            parser.setFileId(fileId);
+            parser.setExpressionInterner(interner);
+            Stmt definition = parser.parseTopLevelSegment();
+
+            results.add(new ParsedSegment(segment.slot, definition, parser.getDiagnostics()));
+        }
+        return results;
+    }
+
+    /**
+     * A top-level definition's slice of the buffer: `[from, to)`.
+     */
+    private static final class Segment {
+        final int from;
+        final int to;
+        final int slot;
+
+        Segment(int from, int to, int slot) {
+            this.from = from;
+            this.to = to;
+            this.slot = slot;
+        }
+    }
+
+    private static final class ParsedSegment {
+        final int slot;
+        final Stmt definition;
+        final DiagnosticsCollector diagnostics;
+
+        ParsedSegment(int slot, Stmt definition, DiagnosticsCollector diagnostics) {
+            this.slot = slot;
+            this.definition = definition;
+            this.diagnostics = diagnostics;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.codedev.antro.compiler.frontend;
+
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.diagnostics.Diagnostic;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Receives the enter/exit events of a parse (SAX-style), e.g. for linters,
+ * metrics collectors and formatters that work in a single pass. With
+ * `Parser.parseEvents(listener)`, no AST is built at all.
+ *
+ * Events nest the way the productions do, except for operators: the
+ * `UNARY`, `BINARY` and `ASSIGNMENT` events of an expression arrive in
+ * postfix order (i.e. right after the events of their operands), each
+ * enter/exit pair carrying the operator token.
+ *
+ * After a syntax error, the productions still open are never exited;
+ * parsing resumes at the next top-level construct.
+ */
+public interface ParseListener {
+    /**
+     * Called when a production starts.
+     *
+     * @param startToken the first token of the production (e.g. its keyword).
+     */
+    default void enter(Production production, Token startToken) {
+    }
+
+    /**
+     * Called when a production ends.
+     *
+     * @param endToken the last token of the production.
+     */
+    default void exit(Production production, Token endToken) {
+    }
+
+    /**
+     * Called for every syntax error recorded.
+     */
+    default void syntaxError(Diagnostic diagnostic) {
+    }
+}
@@ -1,18 +1,31 @@
 package com.codedev.antro.compiler.frontend;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.function.Supplier;
 
-import com.codedev.antro.complier.frontend.ast.ExpressionSubTreePrinter;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 import com.codedev.antro.compiler.frontend.ast.rules.*;
+import com.codedev.antro.compiler.frontend.ast.support.AstPrinter;
+import com.codedev.antro.compiler.frontend.ast.support.ExprInterner;
 
 import com.codedev.antro.compiler.frontend.lexer.LexemeQueue;
+import com.codedev.antro.compiler.frontend.lexer.Span;
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.lexer.TokenBuffer;
+import com.codedev.antro.compiler.frontend.lexer.TokenSet;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
 import static com.codedev.antro.compiler.frontend.lexer.TokenType.*;
 
+import com.codedev.antro.compiler.frontend.diagnostics.Diagnostic;
+import com.codedev.antro.compiler.frontend.diagnostics.DiagnosticsCollector;
+import com.codedev.antro.compiler.frontend.contracts.concerns.DeferredParseException;
 import com.codedev.antro.compiler.frontend.contracts.concerns.ParseException;
-import com.codedev.antro.compiler.frontend.contracts.concerns.UnexpectedEndOfInputException;
+import com.codedev.antro.compiler.frontend.contracts.concerns.SyntaxError;
 
 /*
  * Antro Compiler Project
@@ -25,15 +38,146 @@ import com.codedev.antro.compiler.frontend.contracts.concerns.UnexpectedEndOfInp
  * The core logic to turn a stream of tokens into an abstract syntax tree
  */
 public class Parser {
+    /* 
+        @NOTE:
+
+        Binding powers of the infix operators (indexed by the ordinal of 
+        their token type). Zero means the token is not an infix operator
+        and ends the expression. Higher binds tighter.
+    */
+    private static final int LOWEST_BINDING_POWER = 0;
+    private static final int ASSIGNMENT_BINDING_POWER = 1;
+    // Prefix operators bind tighter than any infix operator
+    private static final int PREFIX_BINDING_POWER = Integer.MAX_VALUE;
+    // Stands for the '(' of an open group on the operator stack
+    private static final int GROUPING_MARKER = -1;
+    private static final int[] INFIX_BINDING_POWERS = new int[TokenType.values().length];
+
+    static {
+        bindInfix(ASSIGNMENT_BINDING_POWER, ASSIGN, PLUS_ASSIGN, MINUS_ASSIGN, STAR_ASSIGN, SLASH_ASSIGN, MOD_ASSIGN);
+        bindInfix(2, LOGICAL_OR);
+        bindInfix(3, LOGICAL_AND);
+        bindInfix(4, EQUAL, NOT_EQUAL);
+        bindInfix(5, LESS, LESS_EQUAL, GREATER, GREATER_EQUAL);
+        bindInfix(6, BIT_AND, BIT_OR, SHIFT_LEFT, SHIFT_RIGHT);
+        bindInfix(7, PLUS, MINUS, STAR, SLASH, MODULO);
+    }
+
+    // Statement keywords and block boundaries where `synchronize()` resumes parsing
+    private static final TokenSet SYNCHRONIZATION_SET = TokenSet.of(
+        DEF, VAR,
+        IF, ELIF, ELSE, FOR, WHILE, DO, SWITCH,
+        BREAK, CONTINUE, RETURN,
+        MODULE, REQUIRE, EXPORT,
+        BEGIN, END,
+        CASE, DEFAULT,
+        LBRACE, RBRACE,
+        EOF
+    );
+
+    // Top-level constructs where `synchronize(...)` resumes parsing in `parseProgram()`
+    private static final TokenSet TOP_LEVEL_SYNCHRONIZATION_SET = TokenSet.of(
+        MODULE, REQUIRE, DEF, BEGIN, EXPORT, EOF
+    );
+
+    /* 
+        @NOTE:
+
+        Shared stand-ins returned in place of AST nodes while streaming
+        events only (see `parseEvents(...)`), so that no nodes are built.
+    */
+    private static final Expr NO_EXPRESSION = new Literal(null);
+    private static final Variable NO_VARIABLE = new Variable(null, Span.NONE);
+    private static final Stmt NO_STATEMENT = new Block(List.of());
+
+    private static final TokenSet STRING_LITERALS = TokenSet.of(STRING, FORMATTED_STRING);
+    private static final TokenSet TRIAL_FIRST_SET = STRING_LITERALS.union(TokenSet.of(CALL));
+    private static final TokenSet PREFIX_OPERATORS = TokenSet.of(LOGICAL_NOT, PLUS, MINUS, INCREMENT, DECREMENT);
+    private static final TokenSet LITERALS = STRING_LITERALS.union(
+        TokenSet.of(INT_LITERAL, FLOAT_LITERAL, BOOLEAN, NULL)
+    );
+
+    // The live token queue (null when parsing a slice of a pre-lexed `TokenBuffer`)
+    private final LexemeQueue tokenQueue;
+    // Holds LA(1) and LA(2) so lookahead checks never go back to the queue
+    private final TokenCursor cursor;
+    // Whether statements are dispatched through the generated `StatementPredictionTable`
+    private final boolean tableDriven;
+    // Whether the bodies of `def:` functions are kept as tokens and parsed on demand
+    private final boolean lazyFunctionBodies;
+    // The sink for syntax errors (so that reporting one never builds a stack trace)
+    private final DiagnosticsCollector diagnostics = new DiagnosticsCollector();
+    // Where top-level definitions are handed over to when parsing them in parallel (if at all)
+    private final ParallelProgramParser parallelParser;
+
+    // Receives the enter/exit events of the parse (if any)
+    private ParseListener listener = null;
+    // Whether AST nodes are built (i.e. not while streaming events only)
+    private boolean buildTree = true;
+    // Shares literals and variable names across expressions (if any)
+    private ExprInterner interner = null;
+    // The file id the spans of the nodes built are tagged with (see `Span`)
+    private int fileId = 0;
+    // The latest token consumed (i.e. where the production being exited ends)
+    private Token previousToken = null;
+    // The listener events held back until the production they belong to is known (if any)
+    private List<HeldEvent> heldEvents = null;
+
+    // The explicit work stacks of `parseBinary(...)`
+    private Expr[] operandStack = new Expr[16];
+    // Where each operand starts (i.e. the span of an assignment target's own identifier)
+    private long[] operandSpans = new long[16];
+    private int operandCount = 0;
+    private Token[] operatorTokens = new Token[16];
+    private int[] operatorPowers = new int[16];
+    private int operatorCount = 0;
+
+    private static void bindInfix(int bindingPower, TokenType... types) {
+        for (TokenType type : types) {
+            INFIX_BINDING_POWERS[type.ordinal()] = bindingPower;
+        }
+    }
 
+    // @INFO: Single-argument constructor (Arity = 1)
     public Parser(LexemeQueue tokenQueue) {
+        this(tokenQueue, true);
+    }
+
+    // @INFO: Two-argument constructor (Arity = 2)
+    public Parser(LexemeQueue tokenQueue, boolean tableDriven) {
+        this(tokenQueue, tableDriven, false);
+    }
+
+    /**
+     * Constructs a new Parser
+     *
+     * @param tokenQueue the token queue the Tokenizer feeds.
+     * @param tableDriven whether statements are dispatched through the `StatementPredictionTable`.
+     * @param lazyFunctionBodies whether `def:` function bodies are only parsed once asked for
+     *        (i.e. by `Function.getBody()`); tools that never look at bodies skip most of the work.
+     */
+    public Parser(LexemeQueue tokenQueue, boolean tableDriven, boolean lazyFunctionBodies) {
+        this(tokenQueue, new TokenCursor(tokenQueue), tableDriven, lazyFunctionBodies, null);
+    }
+
+    /**
+     * Constructs a new Parser over any token source (i.e. for the
+     * `ParallelProgramParser` and deferred function bodies).
+     */
+    Parser(LexemeQueue tokenQueue, TokenCursor cursor, boolean tableDriven, boolean lazyFunctionBodies, ParallelProgramParser parallelParser) {
         this.tokenQueue = tokenQueue;
+        this.cursor = cursor;
+        this.tableDriven = tableDriven;
+        this.lazyFunctionBodies = lazyFunctionBodies;
+        this.parallelParser = parallelParser;
     }
 
     /* =========================
         COMPOUND EXPRESSIONS
         ======================== */
     private Call parseCallExpression() throws Exception {
+        enter(Production.CALL, previousToken);
+
         setExpectationForTokenType(COLON, "Expected ':' after `call`");
         advance(); // @HINT: consume the `COLON` token and discard it
         setExpectationForTokenType(IDENTIFIER, "Expected [function name]");
@@ -41,7 +185,7 @@ public class Parser {
 
         if (functionNameToken == null) {
             error(
-                new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
+                new Token(EOF, '\0', cursor.getLastSeenLineNumber() + 1, 1),
                 "unrecoverable parser state encountered",
                 new NullPointerException("Expected <function name> token where 'nullish' value is found")
             );
@@ -52,22 +196,35 @@ public class Parser {
 
         List<Expr> args = new ArrayList<>();
 
-        if (!matchAny(RPAREN)) {
+        if (!check(RPAREN)) {
+            boolean startFlag = true;
             do {
-                if (args.size() > 0) {
+                if (!startFlag) {
                     advance(); // @HINT: consume the `COMMA` token and discard it
                 }
 
-                args.add(parseExpression(false));
-            } while (matchAny(COMMA));
+                Expr argument = parseExpression(false);
+
+                if (buildTree) {
+                    args.add(argument);
+                }
+                startFlag = false;
+            } while (check(COMMA));
         }
 
         setExpectationForTokenType(RPAREN, "Expected ')' after last [function argument]");
         Token paren = advance(); // @HINT: consume the `RPAREN` token and keep it (for error handling purposes)
 
-        return new Call(name, null, paren, args);
+        exit(Production.CALL);
+
+        // @INFO: No call node while streaming events only
+        return buildTree ? new Call(functionNameToken.getImage(), null, args, Span.cover(span(functionNameToken), span(paren))) : null;
     }
 
+    /**
+     * Parses the `->` chain of a trial (the caller enters `Production.TRIAL`
+     * before the call, so that the trial wraps it).
+     */
     private Expr parseTrialSubExpression(Call prefix, Expr call) throws Exception {
 
         List<Trial.Chain> chains = new ArrayList<>();
@@ -84,16 +241,17 @@ public class Parser {
 
             Take care to investigate and provision the right set of invariants
         */
-        while (matchAny(ARROW)) {
+        while (check(ARROW)) {
             advance(); // @HINT: consume the `ARROW` token and discard it
 
-            if (!foundUse_Keyword && (!foundEjectOn_Keyword && matchAny(EJECT_ON))) {
+            if (!foundUse_Keyword && (!foundEjectOn_Keyword && check(EJECT_ON))) {
                 Token type = advance(); // @HINT: consume the `EJECT_ON` token and keep it
 
                 Expr value = null;
 
-                if (matchAny(IDENTIFIER)) {
-                    value = new Variable(advance()); // @HINT: consume the `IDENTIFIER` token and keep it
+                if (check(IDENTIFIER)) {
+                    Token identifier = advance(); // @HINT: consume the `IDENTIFIER` token and keep it
+                    value = buildTree ? new Variable(identifier.getImage(), span(identifier)) : NO_VARIABLE;
                 }
                 
                 if (value == null) {
@@ -105,16 +263,22 @@ public class Parser {
                 }
 
                 foundEjectOn_Keyword = true;
-                chains.add(new Trial.Chain(type, value));
+
+                if (buildTree) {
+                    chains.add(new Trial.Chain(type, value));
+                }
                 continue;
             }
 
-            if (foundEjectOn_Keyword && (!foundUse_Keyword && matchAny(USE))) {
+            if (foundEjectOn_Keyword && (!foundUse_Keyword && check(USE))) {
                 Token type = advance(); // @HINT: consume the `USE` token and keep it
                 Stmt block = parseBlock('`use`');
 
                 foundUse_Keyword = true;
-                chains.add(new Trial.Chain(type, block));
+
+                if (buildTree) {
+                    chains.add(new Trial.Chain(type, block));
+                }
                 continue;
             }
 
@@ -125,11 +289,13 @@ public class Parser {
 
         // @INFO:
         // e.g. a eject_on expression followed by an arrow and then another eject_on
-        if (foundEjectOn_Keyword && !foundUse_Keyword && matchAny(EJECT_ON)) {
+        if (foundEjectOn_Keyword && !foundUse_Keyword && check(EJECT_ON)) {
             setExpectationForLookAhead("Expected 'use' after `->`");
         }
 
-        return new Trial(prefix, call, chains);
+        exit(Production.TRIAL);
+
+        return buildTree ? new Trial(prefix, call, chains) : NO_EXPRESSION;
     }
 
     /* =========================
@@ -137,32 +303,21 @@ public class Parser {
        ========================= */
     
     private Stmt parseStatement() throws Exception {
-        if (matchAny(IF)) {
-            advance(); // @HINT: consume the `IF` token and discard it
-            return parseIf();
-        }
+        StatementKind kind = predictStatement();
 
-        if (matchAny(WHILE)) {
-            advance(); // @HINT: consume the `WHILE` token and discard it
-            return parseWhile();
-        }
-
-        if (matchAny(DO)) {
-            advance(); // @HINT: consume the `DO` token and discard it
-            return parseDoWhile();
-        }
+        // @INFO: `if`, `while`, `do while` and `for` (i.e. the statements with blocks) are parsed without recursion
+        PendingStatement pending = parseCompoundHeader(kind);
 
-        if (matchAny(FOR)) {
-            advance(); // @HINT: consume the `FOR` token and discard it
-            return parseFor();
+        if (pending != null) {
+            return parseNestedBlocks(pending.owner, pending);
         }
 
-        if (matchAny(SWITCH)) {
+        if (kind == StatementKind.SWITCH) {
             advance(); // @HINT: consume the `SWITCH` token and discard it
             return parseSwitch();
         }
 
-        if (matchAny(DEF)) {
+        if (kind == StatementKind.DEFINITION) {
             advance(); // @HINT: consume the `DEF` token and discard it
 
             setExpectationForTokenType(COLON, "Expected ':' after `def`");
@@ -173,7 +328,7 @@ public class Parser {
             
             if (identifier == null) {
                 error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
+                    new Token(EOF, '\0', cursor.getLastSeenLineNumber() + 1, 1),
                     "unrecoverable parser state encountered",
                     new NullPointerException(
                         "Expected <function-name> token where 'nullish' value is found"
@@ -184,75 +339,80 @@ public class Parser {
             return parseFunction(false, identifier);
         }
 
-        if (matchAny(VAR)) {
+        if (kind == StatementKind.VAR) {
             advance(); // @HINT: consume the `VAR` token and discard it
 
-            Token nextToken = advance(); // @HINT: consume the `IDENTIFIER` token and keep it
-            
-            if (nextToken == null) {
-                error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
-                    "unrecoverable parser state encountered",
-                    new NullPointerException(
-                        "Expected <identifier> token where 'nullish' value is found"
-                    )
-                );
-            }
-        
-
-            if (check(ASSIGN)) {
-                backtrackOnToken(nextToken); // @INFO: after token is pushed back here
-                return parseVarDeclaration(); // @INFO: it subsequently gets consumed here 👈🏼
-            }
-            
-            if (nextToken.getType() != IDENTIFIER) {
-                if (nextToken.getType() == ASSIGN) {
-                    error(
-                        nextToken,
-                        "Expected [variable name] after `var` where '"+nextToken.getImage()+"' is found"
-                    );
-                } else {
-                    error(
-                        nextToken,
-                        "Expected [function name] after `var` where '"+nextToken.getImage()+"' is found"
-                    );
-                }
+            // @INFO: Either a variable declaration or a function form follows; LA(2) tells them apart
+            if (peekNext().getType() == LPAREN) {
+                return parseVarFunction(); // @INFO: i.e. `var name(...) { ... }`
             }
 
-            return parseFunction(false, nextToken);
+            return parseVarDeclaration();
         }
 
+        enter(Production.EXPRESSION_STATEMENT, peek());
+
         ExpressionSet set;
         List<Expr> expressions = new ArrayList<>();
 
         while (true) {
             Expr expr = parseExpression(false);
-            expressions.add(expr);
+
+            if (buildTree) {
+                expressions.add(expr);
+            }
             
-            if (matchAny(COMMA)) {
+            if (check(COMMA)) {
                 advance(); // @HINT: consume the `COMMA` token and discard it
                 continue;
             }
 
-            if (matchAny(SEMICOLON)) {
+            if (check(SEMICOLON)) {
                 advance(); // @HINT: consume the `SEMICOLON` token and discard it
             }
 
             break;
         }
 
+        exit(Production.EXPRESSION_STATEMENT);
+
+        if (!buildTree) {
+            return NO_STATEMENT;
+        }
+
         set = new ExpressionSet(expressions);
         return set;
     }
 
+    /**
+     * Predicts the kind of the next statement: with one table lookup in
+     * table-driven mode, else by checking the lookahead against each kind.
+     */
+    private StatementKind predictStatement() {
+        if (tableDriven) {
+            return StatementPredictionTable.predict(peek().getType());
+        }
+
+        if (check(IF)) return StatementKind.IF;
+        if (check(WHILE)) return StatementKind.WHILE;
+        if (check(DO)) return StatementKind.DO_WHILE;
+        if (check(FOR)) return StatementKind.FOR;
+        if (check(SWITCH)) return StatementKind.SWITCH;
+        if (check(DEF)) return StatementKind.DEFINITION;
+        if (check(VAR)) return StatementKind.VAR;
+
+        return StatementKind.EXPRESSION;
+    }
+
     private Stmt parseExport() throws Exception {
+        enter(Production.EXPORT, previousToken);
 
         setExpectationForTokenType(COLON, "Expected ':' after `export`");
         advance(); // @HINT: consume the `COLON` token and discard it
 
         List<Token> _exports = new ArrayList<>();
 
-        if (matchAny(STAR)) {
+        if (check(STAR)) {
             _exports.add(
                 advance() // @HINT: consume the `STAR` token and keep it
             );
@@ -268,14 +428,16 @@ public class Parser {
                 _exports.add(
                     advance() // @HINT: consume the `IDENTIFIER` token and keep it
                 );
-            } while (matchAny(COMMA));
+            } while (check(COMMA));
         }
 
     
         setExpectationForTokenType(SEMICOLON, "Expected ';' after [export identifier list]");
         advance(); // @HINT: consume the `SEMICOLON` token and discard it
+
+        exit(Production.EXPORT);
         
-        return new Export(_exports);
+        return buildTree ? new Export(_exports) : NO_STATEMENT;
     }
 
     private Stmt parseInvariants() throws Exception {
@@ -284,10 +446,14 @@ public class Parser {
 
         List<Expr> expressions = new ArrayList<>();
 
-        while (!check(RBRACE) && !tokenQueue.isAtEnd()) {
-            expressions.add(parseExpression(false));
+        while (!check(RBRACE) && !isAtEnd()) {
+            Expr expr = parseExpression(false);
+
+            if (buildTree) {
+                expressions.add(expr);
+            }
 
-            if (matchAny(SEMICOLON)) {
+            if (check(SEMICOLON)) {
                 advance(); // @HINT: consume the `SEMICOLON` token and discard it
             }
         }
@@ -295,18 +461,22 @@ public class Parser {
         setExpectationForTokenType(RBRACE, "Expected '}'");
         advance(); // @HINT: consume the `RBRACE` token and discard it
 
-        return new Invariants(expressions);
+        return buildTree ? new Invariants(expressions) : NO_STATEMENT;
     }
 
     private Stmt parseDefer() throws Exception {
+        enter(Production.DEFER, previousToken);
 
-        if (matchAny(ARROW)) {
+        if (check(ARROW)) {
             advance(); // @HINT: consume the `ARROW` token and discard it
 
-            if (matchAny(INVARIANTS)) {
+            if (check(INVARIANTS)) {
                 advance(); // @HINT: consume the `INVARIANTS` token and discard it
 
-                return new Defer(parseInvariants());
+                Stmt invariants = parseInvariants();
+                exit(Production.DEFER);
+
+                return buildTree ? new Defer(invariants) : NO_STATEMENT;
             } else {
                 setExpectationForLookAhead(INVARIANTS, "Expected `invariants` after '->'");
             }
@@ -317,77 +487,103 @@ public class Parser {
 
         while (true) {
             Expr expr = parseExpression(false);
-            expressions.add(expr);
+
+            if (buildTree) {
+                expressions.add(expr);
+            }
             
-            if (matchAny(COMMA)) {
+            if (check(COMMA)) {
                 advance(); // @HINT: consume the `COMMA` token and discard it
                 continue;
             }
 
-            if (matchAny(SEMICOLON)) {
+            if (check(SEMICOLON)) {
                 advance(); // @HINT: consume the `SEMICOLON` token and discard it
             }
 
             break;
         }
 
+        exit(Production.DEFER);
+
+        if (!buildTree) {
+            return NO_STATEMENT;
+        }
+
         set = new ExpressionSet(expressions);
 
         return new Defer(set);
     }
 
     private Stmt parseReturn() throws Exception {
+        enter(Production.RETURN, previousToken);
+
         Expr value = null;
 
-        if (!matchAny(SEMICOLON)) {
+        if (!check(SEMICOLON)) {
             value = parseExpression(false);
         } else {
             advance(); // @HINT: consume the `SEMICOLON` token and discard it
         }
 
-        return new Return(value);
+        exit(Production.RETURN);
+
+        return buildTree ? new Return(value) : NO_STATEMENT;
     }
 
     private Stmt parsePanic () throws Exception {
+        enter(Production.PANIC, previousToken);
+
         setExpectationForTokenType(IDENTIFIER, "Expected <identifier> after `panic_on`");
         Token errorVariable = advance(); // @HINT: cosume the `IDENTIFIER` token and keep it
 
-        return new PanicOn(errorVariable);
+        exit(Production.PANIC);
+
+        return buildTree ? new PanicOn(errorVariable) : NO_STATEMENT;
     }
 
     private Stmt parseContinue(boolean checkForLabel) {
+        enter(Production.CONTINUE, previousToken);
+
         Token label = null;
 
         if (checkForLabel) {
-            if (matchAny(IDENTIFIER)) {
+            if (check(IDENTIFIER)) {
                 label = advance(); // @HINT: consume the `IDENTIFIER` token
             }
         }
 
-        if (matchAny(SEMICOLON)) {
+        if (check(SEMICOLON)) {
             advance(); // @HINT: consume the `SEMICOLON` token and discard it
         }
 
-        return new Continue(label);
+        exit(Production.CONTINUE);
+
+        return buildTree ? new Continue(label) : NO_STATEMENT;
     }
 
     private Stmt parseBreak(boolean checkForLabel) {
+        enter(Production.BREAK, previousToken);
+
         Token label = null;
 
         if (checkForLabel) {
-            if (matchAny(IDENTIFIER)) {
+            if (check(IDENTIFIER)) {
                 label = advance(); // @HINT: consume the `IDENTIFIER` token
             }
         }
 
-        if (matchAny(SEMICOLON)) {
+        if (check(SEMICOLON)) {
             advance(); // @HINT: consume the `SEMICOLON` token and discard it
         }
 
-        return new Break(label);
+        exit(Production.BREAK);
+
+        return buildTree ? new Break(label) : NO_STATEMENT;
     }
 
     private Stmt parseRequire() {
+        enter(Production.REQUIRE, previousToken);
         
         setExpectationForTokenType(COLON, "Expected ':' after `require`");
         advance(); // @HINT: consume the `COLON` token and discard it
@@ -401,7 +597,7 @@ public class Parser {
         setExpectationForTokenType(SEMICOLON, "Expected ';'");
         advance(); // @HINT: consume the `SEMICOLON` token and discard it
 
-        if (matchAny(ALIASER)) {
+        if (check(ALIASER)) {
             advance(); // @HINT: consume the `ALIASER` token and discard it
 
             setExpectationForTokenType(IDENTIFIER, "Expected <identifier> after `as`");
@@ -414,11 +610,22 @@ public class Parser {
             advance(); // @HINT: consume the `SEMICOLON` token and discard it
         }
 
-        return new Require(modulePath, namespaceToken);
+        exit(Production.REQUIRE);
+
+        return buildTree ? new Require(modulePath, namespaceToken) : NO_STATEMENT;
     }
 
     private Stmt parseModule() {
+        enter(Production.MODULE, previousToken);
+
+        Token path = parseModulePath();
 
+        exit(Production.MODULE);
+
+        return buildTree ? new Module(path) : NO_STATEMENT;
+    }
+
+    private Token parseModulePath() {
         setExpectationForTokenType(COLON, "Expected ':'");
         advance(); // @HINT: consume the `COLON` token and discard it
 
@@ -428,116 +635,327 @@ public class Parser {
         setExpectationForTokenType(SEMICOLON, "Expected ';'");
         advance(); // @HINT: consume the `SEMICOLON` token and discard it
 
-        return new Module(path);
+        return path;
     }
 
-    private void synchronize() throws Exception {
+    /**
+     * Panic-mode recovery: skips tokens up to the end of the current
+     * statement or the start of a construct in the recovery set.
+     */
+    private void synchronize(TokenSet recoverySet) {
 
         Token currentToken = advance();
     
-        while (!tokenQueue.isAtEnd()) {
+        while (currentToken != null && !isAtEnd()) {
     
             if (currentToken.getType() == SEMICOLON) {
                 return;
             }
     
-            switch (peek().getType()) {
-    
-                // declarations
-                case DEF:
-                case VAR:
-            
-                // control statements
-                case IF:
-                case ELIF:
-                case ELSE:
-                case FOR:
-                case WHILE:
-                case DO:
-                case SWITCH:
-            
-                // flow
-                case BREAK:
-                case CONTINUE:
-                case RETN:
-            
-                // module
-                case MODULE:
-                case REQUIRE:
-                case EXPORT:
-            
-                // main
-                case BEGIN:
-                case END:
-            
-                // switch labels
-                case CASE:
-                case DEFAULT:
-            
-                // block boundaries
-                case LBRACE:
-                case RBRACE:
-            
-                // EOF
-                case EOF:
-                    return;
+            if (recoverySet.contains(peek().getType())) {
+                return;
             }
     
             currentToken = advance();
         }
     }
 
+    /**
+     * Overload version of `synchronize(TokenSet recoverySet)` for statements
+     */
+    private void synchronize() {
+        synchronize(SYNCHRONIZATION_SET);
+    }
+
+    /**
+     * Recovers at the top level from a syntax error (already recorded as a
+     * diagnostic) or from any other failure (recorded here).
+     */
+    private void recoverAtTopLevel(Exception failure) {
+        if (!(failure instanceof SyntaxError)) {
+            Token token = peek();
+            diagnostics.report(
+                Diagnostic.error(
+                    token.getLineNumber(),
+                    token.getColumnNumber(),
+                    "unrecoverable parser state encountered: " + failure,
+                    token.getImage(),
+                    token.getType() == EOF
+                )
+            );
+        }
+        synchronize(TOP_LEVEL_SYNCHRONIZATION_SET);
+    }
+
     private Stmt parseBlock(String owner) throws Exception {
+        return parseNestedBlocks(owner, null);
+    }
+
+    /* @NOTE: 
+
+        Blocks (and the compound statements that own them) are parsed with
+        an explicit stack of block frames instead of recursion: a compound
+        statement's header is parsed, its block is pushed, and once the
+        block's '}' is reached the statement is completed (or given its
+        next block, e.g. an `elif` or `else`). The nesting depth of blocks
+        is then only limited by the heap.
+    */
+
+    /**
+     * Parses a block (along with every block nested in it) and completes
+     * the compound statement that owns it (if any).
+     */
+    private Stmt parseNestedBlocks(String owner, PendingStatement root) throws Exception {
+        Deque<BlockFrame> frames = new ArrayDeque<>();
+        openBlock(frames, owner, root);
+
+        while (true) {
+            BlockFrame frame = frames.peek();
+
+            if (!check(RBRACE) && !isAtEnd()) {
+                parseBlockEntry(frames, frame);
+                continue;
+            }
+
+            String tag = frame.owner.equals("`function`") ? " declaration body" : " statement body";
+            setExpectationForTokenType(RBRACE, "Expected '}' after ["+frame.owner+tag+"]");
+            advance(); // @HINT: consume the `RBRACE` token and discard it
+            exit(Production.BLOCK);
+
+            frames.pop();
+
+            Stmt completed = buildTree ? new Block(frame.statements) : NO_STATEMENT;
+
+            if (frame.pending != null) {
+                completed = completeStatement(frame.pending, (Block) completed);
+
+                if (completed == null) {
+                    // @HINT: The statement goes on with another block (i.e. `elif` or `else`)
+                    openBlock(frames, frame.pending.owner, frame.pending);
+                    continue;
+                }
+            }
+
+            if (frames.isEmpty()) {
+                return completed;
+            }
+
+            appendStatement(frames.peek().statements, completed);
+        }
+    }
+
+    private void openBlock(Deque<BlockFrame> frames, String owner, PendingStatement pending) throws Exception {
         setExpectationForTokenType(LBRACE, "Expected '{' after "+owner);
-        advance(); // consume the `LBRACE` token and discard it
+        advance(); // @HINT: consume the `LBRACE` token and discard it
+        enter(Production.BLOCK, previousToken);
+
+        frames.push(new BlockFrame(owner, pending));
+    }
+
+    /**
+     * Parses the next statement of a block. A compound statement only has
+     * its header parsed here; its block is pushed on the frames.
+     */
+    private void parseBlockEntry(Deque<BlockFrame> frames, BlockFrame frame) throws Exception {
+        if (check(CONTINUE)) {
+            advance(); // @HINT: consume the `CONTINUE` token and discard it
+            appendStatement(frame.statements, parseContinue(true));
+            return;
+        }
+
+        if (check(BREAK)) {
+            advance(); // @HINT: consume the `BREAK` token and discard it
+            appendStatement(frame.statements, parseBreak(true));
+            return;
+        }
 
-        List<Stmt> statements = new ArrayList<>();
+        if (frame.owner.equals("`function`")) {
+            if (check(RETURN)) {
+                advance(); // @HINT: consume the `RETURN` token and discard it
 
-        while (!matchAny(RBRACE)) {
-            if (matchAny(CONTINUE)) {
-                advance(); // @HINT: consume the `CONTINUE` token and discard it
-                statements.add(parseContinue(true));
+                appendStatement(frame.statements, parseReturn());
             }
 
-            else if (matchAny(BREAK)) {
-                advance(); // @HINT: consume the `BREAK` token and discard it
-                statements.add(parseBreak(true));
+            if (check(PANIC_ON)) {
+                advance(); // @HINT: consume the `PANIC_ON` token and discard it
+
+                appendStatement(frame.statements, parsePanic());
             }
 
-            else {
+            if (check(DEFER)) {
+                advance(); // @HINT: consume the `DEFER` token and discard it
 
-                if (owner.equals("`function`")) {
-                    if (matchAny(RETURN)) {
-                        advance(); // @HINT: consume the `RETURN` token and discard it
+                appendStatement(frame.statements, parseDefer());
+            }
+        }
 
-                        statements.add(parseReturn());
-                    }
+        PendingStatement pending = parseCompoundHeader(predictStatement());
 
-                    if (matchAny(PANIC_ON)) {
-                        advance(); // @HINT: consume the `PANIC_ON` token and discard it
+        if (pending != null) {
+            openBlock(frames, pending.owner, pending);
+            return;
+        }
 
-                        statements.add(parsePanic());
-                    }
+        appendStatement(frame.statements, parseStatement());
+    }
+
+    /**
+     * Parses the header of a compound statement with a block (i.e. up to its
+     * '{'), or nothing if the next statement is not one of them.
+     */
+    private PendingStatement parseCompoundHeader(StatementKind kind) throws Exception {
+        PendingStatement pending;
 
-                    if (matchAny(DEFER)) {
-                        advance(); // @HINT: consume the `DEFER` token and discard it
+        switch (kind) {
+            case IF:
+                advance(); // @HINT: consume the `IF` token and discard it
+                enter(Production.IF, previousToken);
+                pending = new PendingStatement(kind, "`if`");
 
-                        statements.add(parseDefer());
-                    }
+                setExpectationForTokenType(LPAREN, "Expected '(' after `if`");
+                advance(); // @HINT: consume the `LPAREN` token and discard it
+
+                pending.condition = parseExpression(false);
+
+                setExpectationForTokenType(RPAREN, "Expected ')' after `if` [condition expression]");
+                advance(); // @HINT: consume the `RPAREN` token and discard it
+                return pending;
+
+            case WHILE:
+                advance(); // @HINT: consume the `WHILE` token and discard it
+                enter(Production.WHILE, previousToken);
+                pending = new PendingStatement(kind, "`while`");
+
+                setExpectationForTokenType(LPAREN, "Expected '(' after `while`");
+                advance(); // @HINT: consume the `LPAREN` token and discard it
+
+                pending.condition = parseExpression(false);
+
+                setExpectationForTokenType(RPAREN, "Expected ')' after [condition]");
+                advance(); // @HINT: consume the `RPAREN` token and discard it
+                return pending;
+
+            case DO_WHILE:
+                advance(); // @HINT: consume the `DO` token and discard it
+                enter(Production.DO_WHILE, previousToken);
+                return new PendingStatement(kind, "`do while`");
+
+            case FOR:
+                advance(); // @HINT: consume the `FOR` token and discard it
+                enter(Production.FOR, previousToken);
+                pending = new PendingStatement(kind, "`for`");
+
+                setExpectationForTokenType(LPAREN, "Expected '(' (after `for`)");
+                advance(); // @HINT: consume the `LPAREN` token and discard it
+
+                // @HINT: initializer part (can be empty)
+                if (!check(SEMICOLON)) {
+                    pending.initializer = parseExpression(true);
                 }
 
-                statements.add(parseStatement());
-            }
+                setExpectationForTokenType(SEMICOLON, "Expected ';'");
+                advance(); // @HINT: consume the `SEMICOLON` token and discard it
+
+                // @HINT: condition part (can be empty too)
+                if (!check(SEMICOLON)) {
+                    pending.condition = parseExpression(true);
+                }
+
+                setExpectationForTokenType(SEMICOLON, "Expected ';'");
+                advance(); // @HINT: consume the `SEMICOLON` token and discard it
+
+                // @HINT: increment part (also possibly empty)
+                if (!check(RPAREN)) {
+                    pending.increment = parseExpression(false);
+                }
+
+                setExpectationForTokenType(RPAREN, "Expected ')'");
+                advance(); // @HINT: consume the `RPAREN` token and discard it
+                return pending;
+
+            default:
+                return null;
         }
+    }
 
-        String tag = owner.equals("`function`") ? " declaration body" : " statement body";
-        setExpectationForTokenType(RBRACE, "Expected '}' after ["+owner+tag+"]");
-        advance(); // @HINT: consume the `RBRACE` token and discard it
+    /**
+     * Hands a finished block to the compound statement that owns it.
+     *
+     * @return the completed statement, or `null` if it goes on with another block.
+     */
+    private Stmt completeStatement(PendingStatement pending, Block block) throws Exception {
+        switch (pending.kind) {
+            case IF:
+                if (pending.inElseBranch) {
+                    exit(Production.IF);
+                    return buildTree ? new If(pending.condition, pending.thenBranch, pending.elifs, block) : NO_STATEMENT;
+                }
+
+                if (pending.thenBranch == null) {
+                    pending.thenBranch = block;
+                } else {
+                    if (buildTree) {
+                        pending.elifs.add(new If(pending.elifCondition, block, List.of(), null));
+                    }
+                    pending.elifCondition = null;
+                }
+
+                if (check(ELIF)) {
+                    advance(); // @HINT: consume the `ELIF` token and discard it
+
+                    setExpectationForTokenType(LPAREN, "Expected '(' after `elif`");
+                    advance(); // @HINT: consume the `LPAREN` token and discard it
+
+                    pending.elifCondition = parseExpression(false);
+
+                    setExpectationForTokenType(RPAREN, "Expected ')' after `elif` [condition expression]");
+                    advance(); // @HINT: consume the `RPAREN` token and discard it
+
+                    pending.owner = "`else if`";
+                    return null;
+                }
+
+                if (check(ELSE)) {
+                    advance(); // @HINT: consume the `ELSE` token and discard it
+
+                    pending.inElseBranch = true;
+                    pending.owner = "`else`";
+                    return null;
+                }
+
+                exit(Production.IF);
+                return buildTree ? new If(pending.condition, pending.thenBranch, pending.elifs, null) : NO_STATEMENT;
+
+            case WHILE:
+                exit(Production.WHILE);
+                return buildTree ? new While(pending.condition, block) : NO_STATEMENT;
+
+            case FOR:
+                exit(Production.FOR);
+                return buildTree ? new For(pending.initializer, pending.condition, pending.increment, block) : NO_STATEMENT;
+
+            case DO_WHILE:
+                setExpectationForTokenType(WHILE, "Expected 'while' after [do block]");
+                advance(); // @HINT: consume the `WHILE` token and discard it
+
+                setExpectationForTokenType(LPAREN, "Expected '(' after `while`");
+                advance(); // @HINT: consume the `LPAREN` token and discard it
+
+                Expr condition = parseExpression(false);
+
+                setExpectationForTokenType(RPAREN, "Expected ')' after [condition]");
+                advance(); // @HINT: consume the `RPAREN` token and discard it
 
-        return new Block(statements);
+                exit(Production.DO_WHILE);
+                return buildTree ? new DoWhile(block, condition) : NO_STATEMENT;
+
+            default:
+                return block;
+        }
     }
 
     private MainBlock parseEntryRoot() throws Exception {
+        enter(Production.MAIN, previousToken);
 
         setExpectationForTokenType(COLON, "Expected ':' after `main`");
         advance(); // @HINT: consume the `COLON` token and discard it
@@ -547,7 +965,7 @@ public class Parser {
 
         List<Token> params = new ArrayList<>();
 
-        if (matchAny(VOID)) {
+        if (check(VOID)) {
             advance(); // @HINT: consume the `VOID` token and discard it
         } else {
 
@@ -562,7 +980,7 @@ public class Parser {
                 params.add(
                     advance() // @HINT: consume the `IDENTIFIER` token and keep it
                 );
-            } while (matchAny(COMMA));
+            } while (check(COMMA));
         }
 
         setExpectationForTokenType(RPAREN, "Expected ')' after [parameter list]");
@@ -570,21 +988,25 @@ public class Parser {
 
         List<Stmt> body = new ArrayList<>();
 
-        while (!check(END) && !tokenQueue.isAtEnd()) {
-            body.add(parseStatement());
+        while (!check(END) && !isAtEnd()) {
+            appendStatement(body, parseStatement());
         }
 
         setExpectationForTokenType(END, "Expected 'end'");
         advance(); // @HINT: consume the `END` token and discard it
 
-        if (matchAny(SEMICOLON)) {
+        if (check(SEMICOLON)) {
             advance(); // @HINT: consume the `SEMICOLON` token and discard it
         }
 
-        return new MainBlock(params, body);
+        exit(Production.MAIN);
+
+        // @INFO: No main block node while streaming events only
+        return buildTree ? new MainBlock(params, body) : null;
     }
 
     public Program parseProgram() throws ParseException {
+        enter(Production.PROGRAM, peek());
 
         List<Exception> _exceptions = new ArrayList<>();
         List<Require> _requires = new ArrayList<>();
@@ -594,21 +1016,19 @@ public class Parser {
         Export _export = null;
         MainBlock _main = null;
 
-        ParseException parseError = new ParseException("Syntax error encountered");
-
         boolean found_ModuleLead = false;
         boolean found_ExportPoint = false;
         boolean found_EntryPoint = false;
 
-        while (!tokenQueue.isAtEnd()) {
+        while (!isAtEnd() && !diagnostics.isAtErrorLimit()) {
             try {
-                if (found_ModuleLead && matchAny(MODULE)) {
+                if (found_ModuleLead && check(MODULE)) {
                     setExpectationForLookAhead(
                         "Unexpected top-level construct - duplicate occurence found;"
                     );
                 }
                 
-                if (!found_ModuleLead && matchAny(MODULE)) {
+                if (!found_ModuleLead && check(MODULE)) {
                     found_ModuleLead = true;
                     advance(); // @HINT: consume the `MODULE` token and discard it
         
@@ -616,39 +1036,39 @@ public class Parser {
                     continue;
                 }
                 
-                if (matchAny(REQUIRE)) {
+                if (check(REQUIRE)) {
                     advance(); // @HINT: consume the `REQUIRE` token and discard it
                     
-                    requires.add(parseRequire());
+                    Stmt require = parseRequire();
+
+                    if (buildTree) {
+                        // @HINT: Only a built `Require` can be kept (i.e. not `NO_STATEMENT` while streaming)
+                        _requires.add((Require) require);
+                    }
                     continue;
                 }
             } catch (Exception err) {
-                _exceptions.add(err);
-                synchronize();
+                recoverAtTopLevel(err);
+                continue;
             }
             break;
         }
 
         if (!found_ModuleLead) {
-            _exceptions.add(
-                error(
-                    peek(),
-                    "No `package` statement found"
-                )
-            );
+            report(peek(), "No `package` statement found");
         }
 
-        while (!tokenQueue.isAtEnd()) {
+        while (!isAtEnd() && !diagnostics.isAtErrorLimit()) {
 
             try {
 
-                if (found_EntryPoint && matchAny(BEGIN)) {
+                if (found_EntryPoint && check(BEGIN)) {
                     setExpectationForLookAhead(
                         "Unexpected top-level construct - duplicate occurence found;"
                     );
                 }
 
-                if (!found_EntryPoint && matchAny(BEGIN)) {
+                if (!found_EntryPoint && check(BEGIN)) {
                     found_EntryPoint = true;
                     advance(); // @HINT: consume the `BEGIN` token and discard it
         
@@ -657,47 +1077,22 @@ public class Parser {
                     continue;
                 }
 
-                if (matchAny(DEF)) {
-                    advance(); // @HINT: consume the `DEF` token and discard it
-
-                    setExpectationForTokenType(COLON, "Expected ':' after `def`");
-                    advance(); // @HINT: consume the `COLON` token and discard it
-
-                    setExpectationForTokenType(IDENTIFIER, "Expected [function name] after ':'");
-                    Token identifier = advance(); // @HINT: consume the `IDENTIFIER` token
-                    
-                    if (identifier == null) {
-                        error(
-                            new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
-                            "unrecoverable parser state encountered",
-                            new NullPointerException(
-                                "Expected <identifier>/<function-name> token where 'nullish' value is found"
-                            )
-                        );
-                    }
-
-                    if (peek().getType() == LBRACE) {
-                        _definitions.add(parseFunction(true, identifier));
-                    } else {
-                        ExpressionSet set;
-                        List<Expr> expressions = new ArrayList<>();
-                
-                        Expr expr = parsePrimary();
-                        expressions.add(expr);
-            
-                        if (matchAny(SEMICOLON)) {
-                            advance(); // @HINT: consume the `SEMICOLON` token and discard it
-                        }
+                if (check(DEF)) {
+                    if (parallelParser != null && canDetachDefinitions()) {
+                        // @INFO: Parsed on the fork-join pool; the placeholder keeps its place in source order
+                        int segmentEnd = parallelParser.forkDefinition(cursor.getPosition(), _definitions.size());
+                        _definitions.add(null);
 
-                        set = new ExpressionSet(expressions);
-                        _definitions.add(set);
+                        skipTo(segmentEnd);
+                        continue;
                     }
 
+                    appendStatement(_definitions, parseTopLevelDefinition());
                     continue;
                 }
             } catch (Exception e) {
-                _exceptions.add(e);
-                synchronize();
+                recoverAtTopLevel(e);
+                continue;
             }
             break;
         }
@@ -706,29 +1101,24 @@ public class Parser {
         // @INFO: The code generator itself is required to check for the existence of at least one entry point
     
         // if (!found_EntryPoint) {
-        //     _exceptions.add(
-        //         error(
-        //             peek(),
-        //             "No `begin` block found"
-        //         )
-        //     );
+        //     report(peek(), "No `begin` block found");
         // }
 
-        while (!tokenQueue.isAtEnd()) {
+        while (!isAtEnd() && !diagnostics.isAtErrorLimit()) {
             try  {
-                if (!matchAny(EXPORT)) {
+                if (!check(EXPORT)) {
                     setExpectationForLookAhead(
                         "Unexpected top-level construct - invalid invocation found;"
                     );
                 }
 
-                if (found_ExportPoint && matchAny(EXPORT)) {
+                if (found_ExportPoint && check(EXPORT)) {
                     setExpectationForLookAhead(
                         "Unexpected top-level construct - duplicate occurence found;"
                     );
                 }
                 
-                if (!found_ExportPoint && matchAny(EXPORT)) {
+                if (!found_ExportPoint && check(EXPORT)) {
                     found_ExportPoint = true;
                     advance(); // @HINT: consume the `EXPORT` token and discard it
         
@@ -736,24 +1126,39 @@ public class Parser {
                     continue;
                 }
             } catch (Exception ex) {
-                _exceptions.add(ex);
-                synchronize();
+                recoverAtTopLevel(ex);
+                continue;
             }
             break;
         }
 
-        if (!found_ExportPoint) {
-            _exceptions.add(
-                error(
-                    peek(),
-                    "No `export` statement found for module"
-                )
-            );
+        if (parallelParser != null) {
+            parallelParser.joinDefinitions(_definitions, diagnostics);
+        }
+
+        if (tokenQueue != null && tokenQueue.hasProducerFailed()) {
+            /*
+                @INFO:
+
+                The token stream was cut short by the Tokenizer, so every
+                other error above is a side effect. Report the lexer failure alone.
+            */
+            diagnostics.clear();
+            _exceptions.add(tokenQueue.getProducerFailure());
+            report(peek(), tokenQueue.getProducerFailure().getMessage());
+        } else if (!found_ExportPoint) {
+            report(peek(), "No `export` statement found for module");
+        }
+
+        if (diagnostics.hasErrors()) {
+            // @INFO: The only exception (and stack trace) built for the whole parse
+            throw diagnostics.toParseException("Syntax error encountered", _exceptions);
         }
 
-        if (_exceptions.size() > 0) {
-            parseError.setExceptions(_exceptions);
-            throw parseError;
+        exit(Production.PROGRAM);
+
+        if (!buildTree) {
+            return null;
         }
 
         return new Program(
@@ -765,164 +1170,386 @@ public class Parser {
         );
     }
 
-    public ParseTree parse () throws ParseException {
-         Program prog = parseProgram();
-
-         return new ParseTree(prog);
-    }
+    /**
+     * Parses only the outline of the program (i.e. `module`, `require`,
+     * `def:` signatures and constants, and `export`). Function bodies and
+     * the `begin` block are skimmed over by brace and keyword matching, so
+     * syntax errors inside them go unnoticed.
+     *
+     * @throws ParseException if the outline itself has syntax errors.
+     */
+    public ModuleOutline parseOutline() throws ParseException {
+        List<Exception> _exceptions = new ArrayList<>();
+        List<Require> _requires = new ArrayList<>();
+        List<ModuleOutline.Definition> _definitions = new ArrayList<>();
+        List<Token> _exports = new ArrayList<>();
 
-    private Stmt parseVarDeclaration() throws Exception {
+        Token _modulePath = null;
 
-        List<Expr> declarations = new ArrayList<>();
+        boolean found_ModuleLead = false;
+        boolean found_ExportPoint = false;
+        boolean found_EntryPoint = false;
 
-        do {
-            if (declarations.size() > 0) {
-                advance(); // @HINT: consume the `COMMA` token and discard it
-            }
+        while (!isAtEnd() && !diagnostics.isAtErrorLimit()) {
+            try {
+                if ((found_ModuleLead && check(MODULE))
+                        || (found_EntryPoint && check(BEGIN))
+                        || (found_ExportPoint && check(EXPORT))) {
+                    setExpectationForLookAhead(
+                        "Unexpected top-level construct - duplicate occurence found;"
+                    );
+                }
 
-            setExpectationForTokenType(IDENTIFIER, "Expected [variable name] after `var`");
-            Token name = advance(); // @HINT: consume the `IDENTIFIER` token and keep it
+                if (check(MODULE)) {
+                    found_ModuleLead = true;
+                    advance(); // @HINT: consume the `MODULE` token and discard it
 
-            Expr initializer = null;
-            Token operator = null;
+                    _modulePath = parseModulePath();
+                } else if (check(REQUIRE)) {
+                    advance(); // @HINT: consume the `REQUIRE` token and discard it
 
-            if (matchAny(ASSIGN)) {
-                operator = advance(); // @HINT: consume the `ASSIGN` token and keep it
-            }
+                    _requires.add((Require) parseRequire());
+                } else if (check(DEF)) {
+                    _definitions.add(parseOutlineDefinition());
+                } else if (check(BEGIN)) {
+                    found_EntryPoint = true;
+                    skipEntryRoot();
+                } else if (check(EXPORT)) {
+                    found_ExportPoint = true;
+                    advance(); // @HINT: consume the `EXPORT` token and discard it
 
-            if (operator == null) {
-                if (matchAny(COMMA)) {
-                    declarations.add(new Variable(name));
-                    continue;
+                    _exports.addAll(((Export) parseExport()).getMembers());
+                } else {
+                    setExpectationForLookAhead(
+                        "Unexpected top-level construct - invalid invocation found;"
+                    );
                 }
+            } catch (Exception e) {
+                recoverAtTopLevel(e);
+            }
+        }
 
-                setExpectationForLookAhead("Expected [assignment operator] after [variable name]");
+        if (tokenQueue != null && tokenQueue.hasProducerFailed()) {
+            // @INFO: The token stream was cut short by the Tokenizer, so report the lexer failure alone
+            diagnostics.clear();
+            _exceptions.add(tokenQueue.getProducerFailure());
+            report(peek(), tokenQueue.getProducerFailure().getMessage());
+        } else {
+            if (!found_ModuleLead) {
+                report(peek(), "No `package` statement found");
             }
 
-            initializer = parseExpression(false);
+            if (!found_ExportPoint) {
+                report(peek(), "No `export` statement found for module");
+            }
+        }
+
+        if (diagnostics.hasErrors()) {
+            throw diagnostics.toParseException("Syntax error encountered", _exceptions);
+        }
+
+        return new ModuleOutline(_modulePath, _requires, _definitions, _exports, found_EntryPoint);
+    }
 
-            declarations.add(new Assignment(name, operator, initializer));
+    private ModuleOutline.Definition parseOutlineDefinition() throws Exception {
+        advance(); // @HINT: consume the `DEF` token and discard it
 
-        } while (matchAny(COMMA));
+        setExpectationForTokenType(COLON, "Expected ':' after `def`");
+        advance(); // @HINT: consume the `COLON` token and discard it
+
+        setExpectationForTokenType(IDENTIFIER, "Expected [function name] after ':'");
+        Token identifier = advance(); // @HINT: consume the `IDENTIFIER` token and keep it
 
-        if (matchAny(SEMICOLON)) {
+        if (check(LPAREN)) {
+            List<Token> params = parseParameters();
+            skipFunctionBody(null);
+
+            setExpectationForTokenType(SEMICOLON, "Expected ';' after [`function` declaration body]");
             advance(); // @HINT: consume the `SEMICOLON` token and discard it
+
+            return ModuleOutline.Definition.function(identifier, params);
+        }
+
+        if (!matchAny(LITERALS)) {
+            setExpectationForLookAhead("Expected a <literal>");
         }
 
-        return new ExpressionSet(declarations);
+        Token value = advance(); // @HINT: consume the literal token and keep it
+
+        if (check(SEMICOLON)) {
+            advance(); // @HINT: consume the `SEMICOLON` token and discard it
+        }
+
+        return ModuleOutline.Definition.constant(identifier, value);
     }
-    
-    private Stmt parseIf() throws Exception {
-        setExpectationForTokenType(LPAREN, "Expected '(' after `if`");
-        advance(); // @HINT: consume the `LPAREN` token and discard it
 
-        Expr IfCondition = parseExpression(false);
+    /**
+     * Consumes the `begin` block up to its matching `end` by keyword
+     * matching alone (i.e. without parsing it).
+     */
+    private void skipEntryRoot() throws Exception {
+        int depth = 0;
 
-        setExpectationForTokenType(RPAREN, "Expected ')' after `if` [condition expression]");
-        advance(); // @HINT: consume the `RPAREN` token and discard it
+        do {
+            Token token = advance(); // @HINT: consume each token of the block and discard it
+
+            if (token == null) {
+                break;
+            }
 
-        Stmt thenBranch = parseBlock('`if`');
+            if (token.getType() == BEGIN) {
+                depth++;
+            } else if (token.getType() == END) {
+                depth--;
+            }
+        } while (depth > 0 && !isAtEnd());
 
-        List<Stmt> elifs = new ArrayList<>();
+        if (depth > 0) {
+            setExpectationForLookAhead("Expected 'end'");
+        }
 
-        while (matchAny(ELIF)) {
-            advance(); // @HINT: consume the `ELIF` token and discard it
+        if (check(SEMICOLON)) {
+            advance(); // @HINT: consume the `SEMICOLON` token and discard it
+        }
+    }
 
-            setExpectationForTokenType(LPAREN, "Expected '(' after `elif`");
-            advance(); // @HINT: consume the `LPAREN` token and discard it
+    /**
+     * Parses a single top-level construct on its own (i.e. a slice of the
+     * token stream split off at `TopLevelBoundaries`). Syntax errors are
+     * left in the diagnostics and yield `null`.
+     */
+    Stmt parseTopLevelSegment() {
+        try {
+            Stmt construct = null;
+
+            if (check(MODULE)) {
+                advance(); // @HINT: consume the `MODULE` token and discard it
+                construct = parseModule();
+            } else if (check(REQUIRE)) {
+                advance(); // @HINT: consume the `REQUIRE` token and discard it
+                construct = parseRequire();
+            } else if (check(BEGIN)) {
+                advance(); // @HINT: consume the `BEGIN` token and discard it
+                construct = parseEntryRoot();
+            } else if (check(EXPORT)) {
+                advance(); // @HINT: consume the `EXPORT` token and discard it
+                construct = parseExport();
+            } else if (check(DEF)) {
+                construct = parseTopLevelDefinition();
+            }
+
+            if (!isAtEnd()) {
+                setExpectationForLookAhead(
+                    "Unexpected top-level construct - invalid invocation found;"
+                );
+            }
+            return construct;
+        } catch (Exception e) {
+            recoverAtTopLevel(e);
+        }
+        return null;
+    }
 
-            Expr elIfCondition = parseExpression(false);
+    private Stmt parseTopLevelDefinition() throws Exception {
+        advance(); // @HINT: consume the `DEF` token and discard it
 
-            setExpectationForTokenType(RPAREN, "Expected ')' after `elif` [condition expression]");
-            advance(); // @HINT: consume the `RPAREN` token and discard it
+        setExpectationForTokenType(COLON, "Expected ':' after `def`");
+        advance(); // @HINT: consume the `COLON` token and discard it
+
+        setExpectationForTokenType(IDENTIFIER, "Expected [function name] after ':'");
+        Token identifier = advance(); // @HINT: consume the `IDENTIFIER` token
 
-            Stmt block = parseBlock('`else if`');
+        if (identifier == null) {
+            error(
+                new Token(EOF, '\0', cursor.getLastSeenLineNumber() + 1, 1),
+                "unrecoverable parser state encountered",
+                new NullPointerException(
+                    "Expected <identifier>/<function-name> token where 'nullish' value is found"
+                )
+            );
+        }
 
-            elifs.add(new If(elIfCondition, block, List.of(), null));
+        if (check(LPAREN)) {
+            return parseFunction(true, identifier);
         }
 
-        Stmt elseBranch = null;
+        enter(Production.CONSTANT, identifier);
+
+        List<Expr> expressions = new ArrayList<>();
 
-        if (matchAny(ELSE)) {
-            advance(); // @HINT: consume the `ELSE` token and discard it
+        Expr expr = parsePrimary();
 
-            elseBranch = parseBlock('`else`');
+        if (buildTree) {
+            expressions.add(expr);
         }
 
-        return new If(ifCondition, thenBranch, elifs, elseBranch);
+        if (check(SEMICOLON)) {
+            advance(); // @HINT: consume the `SEMICOLON` token and discard it
+        }
+
+        exit(Production.CONSTANT);
+
+        return buildTree ? new ExpressionSet(expressions) : NO_STATEMENT;
     }
-    
-    private Stmt parseWhile() throws Exception {
-        setExpectationForTokenType(LPAREN, "Expected '(' after `while`");
-        advance(); // @HINT: consume the `LPAREN` token and discard it
 
-        Expr condition = parseExpression(false);
+    /**
+     * Retrieve the diagnostics collected so far.
+     */
+    public final DiagnosticsCollector getDiagnostics() {
+        return diagnostics;
+    }
 
-        setExpectationForTokenType(RPAREN, "Expected ')' after [condition]");
-        advance(); // @HINT: consume the `RPAREN` token and discard it
+    /**
+     * Set a listener to be told about every production as the AST is
+     * built (i.e. by `parseProgram()` or `parse()`), or `null` for none.
+     * With a listener, `def:`s are neither parsed in parallel nor lazily,
+     * so that none of their events go missing.
+     */
+    public void setParseListener(ParseListener listener) {
+        this.listener = listener;
+    }
 
-        Stmt body = parseBlock('`while`');
+    /**
+     * Set an interner to share literals and variable names through (see
+     * `ExprInterner`), or `null` to build everything per occurrence. The
+     * interner is handed on to whatever parses this one forks (i.e. lazy
+     * function bodies). It is thread-safe, so several parses may share it.
+     */
+    public void setExpressionInterner(ExprInterner interner) {
+        this.interner = interner;
+    }
 
-        return new While(condition, body);
+    /**
+     * Set the file id the spans of the nodes built are tagged with (i.e.
+     * which source file a `Span` points into).
+     */
+    public void setFileId(int fileId) {
+        this.fileId = fileId;
     }
-    
-    private Stmt parseDoWhile() throws Exception {
-        Stmt body = parseBlock('`do while`');
 
-        setExpectationForTokenType(WHILE, "Expected 'while' after [do block]");
-        advance(); // @HINT: consume the `WHILE` token and discard it
+    /**
+     * Parses the program only for the listener's sake: every production is
+     * reported as it is entered and exited, but no AST is built (i.e. the
+     * memory used stays flat no matter the size of the source file).
+     *
+     * @throws ParseException if the program has syntax errors (which the
+     *         listener is also told about as they are found).
+     */
+    public void parseEvents(ParseListener listener) throws ParseException {
+        ParseListener previousListener = this.listener;
 
-        setExpectationForTokenType(LPAREN, "Expected '(' after `while`");
-        advance(); // @HINT: consume the `LPAREN` token and discard it
+        this.listener = listener;
+        this.buildTree = false;
 
-        Expr condition = parseExpression(false);
+        try {
+            parseProgram();
+        } finally {
+            this.listener = previousListener;
+            this.buildTree = true;
+        }
+    }
 
-        setExpectationForTokenType(RPAREN, "Expected ')' after [condition]");
-        advance(); // @HINT: consume the `RPAREN` token and discard it
+    /**
+     * Checks if `def:`s may be parsed apart from the rest of the program
+     * (i.e. on the fork-join pool, or lazily): only when their nodes are
+     * wanted and no listener expects their events in source order.
+     */
+    private boolean canDetachDefinitions() {
+        return buildTree && listener == null;
+    }
+
+    public ParseTree parse () throws ParseException {
+         Program prog = parseProgram();
 
-        return new DoWhile(body, condition);
+         return new ParseTree(prog);
     }
 
-    private Stmt parseFor() throws Exception {
-        setExpectationForTokenType(LPAREN, "Expected '(' (after `for`)");
-        advance(); // @HINT: consume the `LPAREN` token and discard it
+    private Stmt parseVarDeclaration() throws Exception {
+        enter(Production.DECLARATION, peek());
 
-        // @HINT: initializer part (can be empty)
-        Stmt initializer = null;
+        List<Expr> declarations = new ArrayList<>();
+        boolean startFlag = true;
 
-        if (!matchAny(SEMICOLON)) {
-            initializer = parseExpression(true);
-        }
+        do {
+            if (!startFlag) {
+                advance(); // @HINT: consume the `COMMA` token and discard it
+            }
+            startFlag = false;
 
-        setExpectationForTokenType(SEMICOLON, "Expected ';'");
-        advance(); // @HINT: consume the `SEMICOLON` token and discard it
+            setExpectationForTokenType(IDENTIFIER, "Expected [variable name] after `var`");
+            Token name = advance(); // @HINT: consume the `IDENTIFIER` token and keep it
 
-        // @HINT: condition part (can be empty too)
-        Expr condition = null;
+            Expr initializer = null;
+            Token operator = null;
 
-        if (!matchAny(SEMICOLON)) {
-            condition = parseExpression(true);
-        }
+            if (check(ASSIGN)) {
+                operator = advance(); // @HINT: consume the `ASSIGN` token and keep it
+            }
 
-        setExpectationForTokenType(SEMICOLON, "Expected ';'");
-        advance(); // @HINT: consume the `SEMICOLON` token and discard it
+            if (operator == null) {
+                if (check(COMMA)) {
+                    if (buildTree) {
+                        declarations.add(new Variable(name.getImage(), span(name)));
+                    }
+                    continue;
+                }
 
-        // @HINT: increment part (also possibly empty)
-        Expr increment = null;
+                setExpectationForLookAhead("Expected [assignment operator] after [variable name]");
+            }
 
-        if (!matchAny(RPAREN)) {
-            increment = parseExpression(false);
-        }
+            initializer = parseExpression(false);
 
-        setExpectationForTokenType(RPAREN, "Expected ')'");
-        advance(); // @HINT: consume the `RPAREN` token and discard it
+            if (buildTree) {
+                declarations.add(new Assignment(name.getImage(), operator.getType(), initializer, span(name)));
+            }
+
+        } while (check(COMMA));
 
-        Stmt body = parseBlock('`for`');
+        if (check(SEMICOLON)) {
+            advance(); // @HINT: consume the `SEMICOLON` token and discard it
+        }
 
-        return new For(initializer, condition, increment, body);
+        exit(Production.DECLARATION);
+
+        return buildTree ? new ExpressionSet(declarations) : NO_STATEMENT;
     }
 
+    /**
+     * Parses the function form of `var` (i.e. `var name(...) { ... }`).
+     */
+    private Stmt parseVarFunction() throws Exception {
+        Token nextToken = advance(); // @HINT: consume the `IDENTIFIER` token and keep it
+
+        if (nextToken == null) {
+            error(
+                new Token(EOF, '\0', cursor.getLastSeenLineNumber() + 1, 1),
+                "unrecoverable parser state encountered",
+                new NullPointerException(
+                    "Expected <identifier> token where 'nullish' value is found"
+                )
+            );
+        }
+
+        if (nextToken.getType() != IDENTIFIER) {
+            if (nextToken.getType() == ASSIGN) {
+                error(
+                    nextToken,
+                    "Expected [variable name] after `var` where '"+nextToken.getImage()+"' is found"
+                );
+            } else {
+                error(
+                    nextToken,
+                    "Expected [function name] after `var` where '"+nextToken.getImage()+"' is found"
+                );
+            }
+        }
+
+        return parseFunction(false, nextToken);
+    }
+    
     private Stmt parseSwitch() throws Exception {
+        enter(Production.SWITCH, previousToken);
+
         setExpectationForTokenType(LPAREN, "Expected '(' after `switch`");
         advance(); // @HINT: consume the `LPAREN` token and discard it
 
@@ -940,10 +1567,10 @@ public class Parser {
         boolean foundCase_Keyword = false;
         boolean foundDefault_Keyword = false;
 
-        while (!matchAny(RBRACE)) {
+        while (!check(RBRACE)) {
 
             /* @HINT: Cannot have a `default` statement before a `case` statement */
-            if (!foundDefault_Keyword && matchAny(CASE)) {
+            if (!foundDefault_Keyword && check(CASE)) {
                 advance(); // @HINT: consume the `CASE` token and discard it
                 Expr value = parseExpression(false);
 
@@ -953,20 +1580,23 @@ public class Parser {
                 List<Stmt> body = new ArrayList<>();
                 
                 while (!check(CASE) && !check(RBRACE)) {
-                    if (matchAny(CONTINUE)) {
+                    if (check(CONTINUE)) {
                         advance(); // @HINT: consume the `CONTINUE` token and discard it
                         statements.add(parseContinue(false));
                     } else {
-                        body.add(parseStatement());
+                        appendStatement(body, parseStatement());
                     }
                 }
 
                 foundCase_Keyword = true;
-                cases.add(new Switch.Case(value, body));
+
+                if (buildTree) {
+                    cases.add(new Switch.Case(value, body));
+                }
             }
 
             /* @HINT: Cannot have more than one `default` statement */
-            else if (!foundDefault_Keyword && matchAny(DEFAULT)) {
+            else if (!foundDefault_Keyword && check(DEFAULT)) {
                 advance(); // @HINT: consume the `DEFAULT` token and discard it
 
                 setExpectationForTokenType(COLON, "Expected ':' after `default`");
@@ -975,34 +1605,34 @@ public class Parser {
                 List<Stmt> body = new ArrayList<>();
 
                 while (!check(RBRACE)) {
-                    if (matchAny(CONTINUE)) {
+                    if (check(CONTINUE)) {
                         advance(); // @HINT: consume the `CONTINUE` token and discard it
                         statements.add(parseContinue(false));
                     } else {
-                        body.add(parseStatement());
+                        appendStatement(body, parseStatement());
                     }
                 }
 
                 foundDefault_Keyword = true;
-                defaultBranch = new Block(body);
+                defaultBranch = buildTree ? new Block(body) : null;
             }
 
             // @HINT: Check for probable error states:
 
             // @INFO
             // e.g. having a case after a default block
-            if (foundDefault_Keyword && matchAny(CASE)) {
+            if (foundDefault_Keyword && check(CASE)) {
                 setExpectationForLookAhead("Expected 'break' after `default`");
             }
 
             // @INFO
             // e.g. having a default block after a default block
-            if (foundDefault_Keyword && matchAny(DEFAULT)) {
+            if (foundDefault_Keyword && check(DEFAULT)) {
                 setExpectationForLookAhead("Expected 'break' after `default`");
             }
 
             /* @HINT: Deal with non-fall-through cases and a single default */
-            if ((foundCase_Keyword && !matchAny(CASE)) || foundDefault_Keyword) {
+            if ((foundCase_Keyword && !check(CASE)) || foundDefault_Keyword) {
                 String type = foundDefault_Keyword ? "default" : "case";
                 setExpectationForTokenType(BREAK, "Expected `break` after ["+type+" block body]");
                 advance(); // @HINT: consume the `BREAK` token and discard it
@@ -1017,15 +1647,54 @@ public class Parser {
         setExpectationForTokenType(RBRACE, "Expected '}' after [switch statement body]");
         advance(); // @HINT: consume the `RBRACE` token and discard it
 
-        return new Switch(expr, cases, defaultBranch);
+        exit(Production.SWITCH);
+
+        return buildTree ? new Switch(expr, cases, defaultBranch) : NO_STATEMENT;
     }
 
     private Stmt parseFunction(boolean isGlobalDefinition, Token functionName) throws Exception {
+        enter(Production.FUNCTION, functionName);
+
+        List<Token> params = parseParameters();
+
+        Stmt body = null;
+        Supplier<Stmt> deferredBody = null;
+
+        if (lazyFunctionBodies && isGlobalDefinition && canDetachDefinitions()) {
+            // @INFO: Only the body's tokens are kept; it is parsed on the first `Function.getBody()`
+            deferredBody = captureFunctionBody();
+        } else {
+            body = parseBlock('`function`');
+        }
+        
+        if (isGlobalDefinition) {
+            setExpectationForTokenType(SEMICOLON, "Expected ';' after [`function` declaration body]");
+            advance(); // @HINT: consume the `SEMICOLON` token and discard it
+        } else {
+            if (check(SEMICOLON)) {
+                advance(); // @HINT: consume the `SEMICOLON` token and discard it
+            }
+        }
+
+        exit(Production.FUNCTION);
+
+        if (!buildTree) {
+            return NO_STATEMENT;
+        }
+
+        if (deferredBody != null) {
+            return new Function(functionName, params, deferredBody, isGlobalDefinition);
+        }
+
+        return new Function(functionName, params, body, isGlobalDefinition);
+    }
+
+    private List<Token> parseParameters() throws Exception {
         setExpectationForTokenType(LPAREN, "Expected '(' after [function name]");
         advance(); // @HINT: consume the `LPAREN` token and discard it
 
         List<Token> params = new ArrayList<>();
-        if (!matchAny(RPAREN)) {
+        if (!check(RPAREN)) {
             boolean startFlag = true;
             do {
                 if (params.size() > 0) {
@@ -1039,24 +1708,81 @@ public class Parser {
                 setExpectationForTokenType(IDENTIFIER, message);
                 params.add(advance()); // @HINT: consume each `IDENTIFIER` token and keep it
                 startFlag = false;
-            } while (matchAny(COMMA));
+            } while (check(COMMA));
         }
 
         setExpectationForTokenType(RPAREN, "Expected ')' or ',' after [function parameter]");
         advance(); // @HINT: consume the `RPAREN` token and discard it
 
-        Stmt body = parseBlock('`function`');
-        
-        if (isGlobalDefinition) {
-            setExpectationForTokenType(SEMICOLON, "Expected ';' after [`function` declaration body]");
-            advance(); // @HINT: consume the `SEMICOLON` token and discard it
-        } else {
-            if (matchAny(SEMICOLON)) {
-                advance(); // @HINT: consume the `SEMICOLON` token and discard it
+        return params;
+    }
+
+    /**
+     * Consumes a function body up to its matching '}' (i.e. by brace
+     * matching alone) and keeps its tokens to be parsed later.
+     */
+    private Supplier<Stmt> captureFunctionBody() throws Exception {
+        TokenBuffer bodyTokens = new TokenBuffer(64);
+        skipFunctionBody(bodyTokens);
+
+        return new DeferredFunctionBody(bodyTokens, tableDriven, fileId, interner);
+    }
+
+    /**
+     * Consumes a function body up to its matching '}' by brace matching
+     * alone (i.e. without parsing it).
+     *
+     * @param bodyTokens where the body's tokens are kept (or null to discard them).
+     */
+    private void skipFunctionBody(TokenBuffer bodyTokens) throws Exception {
+        setExpectationForTokenType(LBRACE, "Expected '{' after `function`");
+
+        int depth = 0;
+
+        do {
+            Token token = advance(); // @HINT: consume each token of the body
+
+            if (token == null) {
+                break;
             }
+
+            if (bodyTokens != null) {
+                bodyTokens.add(token);
+            }
+
+            if (token.getType() == LBRACE) {
+                depth++;
+            } else if (token.getType() == RBRACE) {
+                depth--;
+            }
+        } while (depth > 0 && !isAtEnd());
+
+        if (depth > 0) {
+            setExpectationForLookAhead("Expected '}' after [`function` declaration body]");
         }
+    }
 
-        return new Function(functionName, params, body, isGlobalDefinition);
+    /**
+     * Parses the kept tokens of a function body (i.e. for a `DeferredFunctionBody`).
+     *
+     * @throws DeferredParseException if the body has syntax errors.
+     */
+    Stmt parseDeferredFunctionBody() {
+        Stmt body = null;
+
+        try {
+            body = parseBlock("`function`");
+        } catch (Exception e) {
+            recoverAtTopLevel(e);
+        }
+
+        if (diagnostics.hasErrors()) {
+            throw new DeferredParseException(
+                "Syntax error encountered in function body (" + diagnostics.getErrorCount() + " error(s))",
+                diagnostics.getDiagnostics()
+            );
+        }
+        return body;
     }
 
 
@@ -1065,7 +1791,7 @@ public class Parser {
        ========================== */
 
     public Expr parseExpression(boolean isDelimited) throws Exception {
-        Expr expr = return parseAssignment();
+        Expr expr = parseBinary(LOWEST_BINDING_POWER);
 
         if (isDelimited) {
             setExpectationForTokenType(SEMICOLON, "Expected ';' after [expression]");
@@ -1075,184 +1801,252 @@ public class Parser {
         return expr;
     }
 
-    /* ====================================
-       EXPRESSIONS (with lowest precedence)
-       ==================================== */
+    /* ==============================================
+       EXPRESSIONS (Pratt / precedence climbing)
+       ============================================== */
 
-    private Expr parseAssignment() throws Exception {
-        Expr expr = parseLogicalOr();
+    /**
+     * Parses an operand and then every infix operator that binds tighter
+     * than `minBindingPower`. Operators of the same binding power associate
+     * to the left, except assignments (which associate to the right).
+     *
+     * Prefix operators, parentheses and infix operators are kept on an
+     * explicit work stack (i.e. not on the Java stack), so the nesting depth
+     * of an expression is only limited by the heap. Nested calls (e.g. for
+     * call arguments) share the stack, each one above its own base.
+     */
+    private Expr parseBinary(int minBindingPower) throws Exception {
+        int operandBase = operandCount;
+        int operatorBase = operatorCount;
+        int openParens = 0;
 
-        if (matchAny(ASSIGN, PLUS_ASSIGN, MINUS_ASSIGN, STAR_ASSIGN, SLASH_ASSIGN, MOD_ASSIGN)) {
-            Token operatorToken = advance(); // @HINT: consume the `*_ASSIGN` token and keep it
-            Expr value = parseAssignment();
+        try {
+            while (true) {
+                // @HINT: Prefix operators and '(' come before an operand
+                TokenType nextType = peek().getType();
 
-            if (operatorToken == null) {
-                error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
-                    "unrecoverable parser state encountered",
-                    new NullPointerException(
-                        "Expected <assignment-operator> token where 'nullish' value is found"
-                    )
-                );
-            }
+                while (PREFIX_OPERATORS.contains(nextType) || nextType == LPAREN) {
+                    Token token = advance(); // @HINT: consume the prefix operator or `LPAREN` token and keep it
 
-            if (expr instanceof Variable) {
-                Variable v = (Variable) expr;
-                Token variableToken = v.getIdentifier();
-                if (variableToken.getType() != IDENTIFIER) {
-                    error(
-                        variableToken,
-                        "reserved keywords cannot be used for <identifier> where '"+variableToken.getImage()+"' is found"
-                    );
+                    if (token == null) {
+                        error(
+                            new Token(EOF, '\0', cursor.getLastSeenLineNumber() + 1, 1),
+                            "unrecoverable parser state encountered",
+                            new NullPointerException(
+                                "Expected <unary-operator> token where 'nullish' value is found"
+                            )
+                        );
+                    }
+
+                    if (nextType == LPAREN) {
+                        openParens++;
+                        pushOperator(token, GROUPING_MARKER);
+                    } else {
+                        pushOperator(token, PREFIX_BINDING_POWER);
+                    }
+                    nextType = peek().getType();
                 }
-                expr = new Assignment(variableToken, operatorToken, value);
-                return expr;
-            }
 
-            ExpressionSubTreePrinter printer = new ExpressionSubTreePrinter();
-            error(operatorToken, "Invalid assignment for target expression: '" + printer.print(expr) + "'");
-        }
+                // @HINT: Keep the operand's own leading token (e.g. the identifier of an assignment target)
+                long operandSpan = span(peek());
+                pushOperand(parseOperand(), operandSpan);
+
+                // @HINT: Infix operators (or a ')' closing a group) come after an operand
+                while (true) {
+                    nextType = peek().getType();
+                    int bindingPower = INFIX_BINDING_POWERS[nextType.ordinal()];
+
+                    if (bindingPower > minBindingPower || (bindingPower > LOWEST_BINDING_POWER && openParens > 0)) {
+                        reduceOperators(operandBase, operatorBase, bindingPower);
+                        Token operatorToken = advance(); // @HINT: consume the infix operator token and keep it
+
+                        if (operatorToken == null) {
+                            error(
+                                new Token(EOF, '\0', cursor.getLastSeenLineNumber() + 1, 1),
+                                "unrecoverable parser state encountered",
+                                new NullPointerException(
+                                    "Expected <infix-operator> token where 'nullish' value is found"
+                                )
+                            );
+                        }
 
-        return expr;
-    }
+                        pushOperator(operatorToken, bindingPower);
+                        break;
+                    }
 
-    private Expr parseLogicalOr() throws Exception {
-        Expr expr = parseLogicalAnd();
+                    if (nextType == RPAREN && openParens > 0) {
+                        reduceOperators(operandBase, operatorBase, GROUPING_MARKER);
+                        popOperator(); // @HINT: drop the `LPAREN` marker of the group
+                        openParens--;
 
-        while (matchAny(LOGICAL_OR)) {
-            Token operatorToken = advance(); // @HINT: consume the `LOGICAL_OR` token and keep it 
-            Expr right = parseLogicalAnd();
-            if (operatorToken == null) {
-                error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
-                    "unrecoverable parser state encountered",
-                    new NullPointerException(
-                        "Expected <logical-operator> token where 'nullish' value is found"
-                    )
-                );
+                        advance(); // @HINT: consume the `RPAREN` token and discard it
+                        continue;
+                    }
+
+                    if (openParens > 0) {
+                        setExpectationForTokenType(RPAREN, "Expected token ')'");
+                    }
+
+                    reduceOperators(operandBase, operatorBase, LOWEST_BINDING_POWER);
+                    return popOperand();
+                }
+            }
+        } finally {
+            // @HINT: After a syntax error, drop whatever this call left on the work stack
+            while (operandCount > operandBase) {
+                operandStack[--operandCount] = null;
+            }
+            while (operatorCount > operatorBase) {
+                operatorTokens[--operatorCount] = null;
             }
-            expr = new Binary(expr, operatorToken, right);
         }
-
-        return expr;
     }
 
-    private Expr parseLogicalAnd() throws Exception {
-        Expr expr = parseEquality();
+    /**
+     * Builds the nodes of every stacked operator (above the base) that binds
+     * at least as tight as an incoming infix operator of the given binding
+     * power. Stops at the '(' of an open group.
+     */
+    private void reduceOperators(int operandBase, int operatorBase, int bindingPower) throws Exception {
+        while (operatorCount > operatorBase) {
+            int stackedPower = operatorPowers[operatorCount - 1];
 
-        while (matchAny(LOGICAL_AND)) {
-            Token operatorToken = advance(); // @HINT: consume the `LOGICAL_AND` token and keep it 
-            Expr right = parseEquality();
-            if (operatorToken == null) {
-                error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
-                    "unrecoverable parser state encountered",
-                    new NullPointerException(
-                        "Expected <logical-operator> token where 'nullish' value is found"
-                    )
-                );
+            if (stackedPower == GROUPING_MARKER) {
+                return;
             }
-            expr = new Binary(expr, operatorToken, right);
-        }
 
-        return expr;
-    }
+            // @HINT: Right-associative, so an assignment waits for the assignment that follows it
+            if (stackedPower < bindingPower
+                    || (stackedPower == bindingPower && bindingPower == ASSIGNMENT_BINDING_POWER)) {
+                return;
+            }
 
-    private Expr parseEquality() throws Exception {
-        Expr expr = parseRelational();
+            Token operatorToken = popOperator();
 
-        while (matchAny(EQUAL, NOT_EQUAL)) {
-            Token operatorToken = advance();
-            Expr right = parseRelational();
-            if (operatorToken == null) {
-                error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
-                    "unrecoverable parser state encountered",
-                    new NullPointerException(
-                        "Expected <relational-operator> token where 'nullish' value is found"
-                    )
-                );
+            if (stackedPower == PREFIX_BINDING_POWER) {
+                enter(Production.UNARY, operatorToken);
+                Expr operand = popOperand();
+
+                pushOperand(buildTree ? unary(operatorToken, operand) : NO_EXPRESSION, span(operatorToken));
+                exit(Production.UNARY, operatorToken);
+            } else {
+                // @HINT: Read before popping (i.e. the span of the left operand's own leading token)
+                long leftSpan = operandSpans[operandCount - 2];
+                Expr right = popOperand();
+                Expr left = popOperand();
+
+                if (stackedPower == ASSIGNMENT_BINDING_POWER) {
+                    enter(Production.ASSIGNMENT, operatorToken);
+                    pushOperand(parseAssignmentTarget(left, leftSpan, operatorToken, right), leftSpan);
+                    exit(Production.ASSIGNMENT, operatorToken);
+                } else {
+                    enter(Production.BINARY, operatorToken);
+                    pushOperand(buildTree ? binary(left, operatorToken, right) : NO_EXPRESSION, span(operatorToken));
+                    exit(Production.BINARY, operatorToken);
+                }
             }
-            expr = new Binary(expr, operatorToken, right);
         }
+    }
 
-        return expr;
+    private Expr literal(Object value) {
+        return interner != null ? interner.literal(value) : new Literal(value);
     }
 
-    private Expr parseRelational() throws Exception {
-        Expr expr = parseBitwise();
+    private Expr variable(Token name) {
+        // @HINT: Only the name is shared; the node keeps the span of this occurrence
+        String image = interner != null ? interner.name(name.getImage()) : name.getImage();
+        return new Variable(image, span(name));
+    }
 
-        while (matchAny(LESS, LESS_EQUAL, GREATER, GREATER_EQUAL)) {
-            Token operatorToken = advance(); // @HINT: consume any of the relational operator token(s) and keep it 
-            Expr right = parseBitwise();
-            if (operatorToken == null) {
-                error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
-                    "unrecoverable parser state encountered",
-                    new NullPointerException(
-                        "Expected <operator> token where 'nullish' value is found"
-                    )
-                );
-            }
-            expr = new Binary(expr, operatorToken, right);
-        }
+    private Expr unary(Token operator, Expr right) {
+        return new Unary(operator.getType(), right, span(operator));
+    }
 
-        return expr;
+    private Expr binary(Expr left, Token operator, Expr right) {
+        return new Binary(left, operator.getType(), right, span(operator));
     }
 
-    private Expr parseBitwise() throws Exception {
-        Expr expr = parseArithmetic();
+    /**
+     * Packs where a token sits (i.e. nodes keep this rather than the token).
+     */
+    private long span(Token token) {
+        return Span.of(fileId, token);
+    }
 
-        while (matchAny(BIT_AND, BIT_OR, SHIFT_LEFT, SHIFT_RIGHT)) {
-            Token operatorToken = advance(); // @HINT: consume any of the bitwise operator token(s) and keep it
-            Expr right = parseArithmetic();
-            if (operatorToken == null) {
-                error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
-                    "unrecoverable parser state encountered",
-                    new NullPointerException(
-                        "Expected <bitwise-operator> token where 'nullish' value is found"
-                    )
-                );
-            }
-            expr = new Binary(expr, operatorToken, right);
+    private void pushOperand(Expr operand, long operandSpan) {
+        if (operandCount == operandStack.length) {
+            operandStack = Arrays.copyOf(operandStack, operandCount * 2);
+            operandSpans = Arrays.copyOf(operandSpans, operandCount * 2);
         }
+        operandSpans[operandCount] = operandSpan;
+        operandStack[operandCount++] = operand;
+    }
 
-        return expr;
+    private Expr popOperand() {
+        Expr operand = operandStack[--operandCount];
+        operandStack[operandCount] = null;
+        return operand;
     }
 
-    private Expr parseArithmetic() throws Exception {
-        Expr expr = parseUnary();
+    private void pushOperator(Token operatorToken, int bindingPower) {
+        if (operatorCount == operatorTokens.length) {
+            operatorTokens = Arrays.copyOf(operatorTokens, operatorCount * 2);
+            operatorPowers = Arrays.copyOf(operatorPowers, operatorCount * 2);
+        }
+        operatorTokens[operatorCount] = operatorToken;
+        operatorPowers[operatorCount++] = bindingPower;
+    }
 
-        while (matchAny(PLUS, MINUS, STAR, SLASH, MODULO)) {
-            Token operatorToken = advance(); // @HINT: consume any of the binary arithmetic operator token(s) and keep it
-            Expr right = parseUnary();
-            if (operatorToken == null) {
-                error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
-                    "unrecoverable parser state encountered",
-                    new NullPointerException(
-                        "Expected <arithmetic-operator> token where 'nullish' value is found"
-                    )
-                );
-            }
-            expr = new Binary(expr, operatorToken, right);
+    private Token popOperator() {
+        Token operatorToken = operatorTokens[--operatorCount];
+        operatorTokens[operatorCount] = null;
+        return operatorToken;
+    }
+
+    /**
+     * Builds an assignment to the target expression, spanning the target's
+     * own identifier (i.e. `targetSpan`, as kept next to the operand on the
+     * work stack).
+     */
+    private Expr parseAssignmentTarget(Expr expr, long targetSpan, Token operatorToken, Expr value) throws Exception {
+        if (expr == NO_VARIABLE) {
+            // @INFO: A variable seen while streaming events only (i.e. an identifier)
+            return NO_EXPRESSION;
+        }
+
+        if (!buildTree) {
+            error(operatorToken, "Invalid assignment for target expression");
+        }
+
+        if (expr instanceof Variable) {
+            // @INFO: Variables are only ever built from `IDENTIFIER` tokens (i.e. never from keywords)
+            Variable v = (Variable) expr;
+            return new Assignment(v.getName(), operatorToken.getType(), value, targetSpan);
         }
 
+        AstPrinter printer = new AstPrinter(AstPrinter.Format.S_EXPRESSION, 0);
+        error(operatorToken, "Invalid assignment for target expression: '" + printer.toString(expr) + "'");
         return expr;
     }
 
-    private Expr parseUnary() throws Exception {
-        if (isTrialStart()) {
+    /**
+     * Parses an operand of `parseBinary(...)` (i.e. anything but a prefix
+     * operator or a parenthesized expression).
+     */
+    private Expr parseOperand() throws Exception {
+        // @HINT: A single lookahead decides the operand production
+        TokenType nextType = peek().getType();
+
+        if (TRIAL_FIRST_SET.contains(nextType)) {
             CallExpr call = null;
             Expr prefix = null;
 
-            if (matchAny(STRING, FORMATTED_STRING)) {
+            if (matchAny(STRING_LITERALS)) {
                 Token literalToken = advance(); // @HINT: consume the `*_STRING` token and keep it
 
                 if (literalToken == null) {
                     error(
-                        new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
+                        new Token(EOF, '\0', cursor.getLastSeenLineNumber() + 1, 1),
                         "unrecoverable parser state encountered",
                         new NullPointerException(
                             "Expected <literal> token where 'nullish' value is found"
@@ -1260,9 +2054,11 @@ public class Parser {
                     );
                 }
                 
-                prefix = new Literal(literalToken.getImage());
+                enter(Production.LITERAL, literalToken);
+                prefix = buildTree ? literal(literalToken.getImage()) : NO_EXPRESSION;
+                exit(Production.LITERAL);
                 
-                if (matchAny(COMMA)) {
+                if (check(COMMA)) {
                     advance(); // @HINT: consume the `COMMA` token an discard it
 
                     if (!check(CALL)) {
@@ -1275,48 +2071,60 @@ public class Parser {
                 return prefix;
             }
 
-            if (matchAny(CALL)) {
-                advance(); // @HINT: consume the `CALL` token and discard it
-                call = parseCallExpression();
+            if (check(CALL)) {
+                Token callToken = advance(); // @HINT: consume the `CALL` token and keep it
+
+                // @INFO: Whether the call starts a trial is only known after it, so its events are held back till then
+                List<HeldEvent> outerEvents = heldEvents;
+                List<HeldEvent> callEvents = listener != null ? new ArrayList<>() : null;
+                boolean isTrial = false;
+
+                heldEvents = callEvents;
+
+                try {
+                    call = parseCallExpression();
+                    isTrial = check(ARROW);
+                } finally {
+                    heldEvents = outerEvents;
+
+                    if (isTrial) {
+                        enter(Production.TRIAL, callToken);
+                    }
+                    replayEvents(callEvents);
+                }
 
-                if (check(ARROW)) {
+                if (isTrial) {
                     return parseTrialSubExpression(prefix, call);
                 }
 
-                return call;
+                return buildTree ? call : NO_EXPRESSION;
             }
         }
 
-        if (matchAny(LOGICAL_NOT, PLUS, MINUS, INCREMENT, DECREMENT)) {
-            Token operatorToken = advance(); // @HINT: consume any of the unary arithmetic operator token(s) and keep it
-            Expr right = parseUnary();
-            if (operatorToken == null) {
-                error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
-                    "unrecoverable parser state encountered",
-                    new NullPointerException(
-                        "Expected <unary-operator> token where 'nullish' value is found"
-                    )
-                );
-            }
-            return new Unary(operatorToken, right);
-        }
-        
         return parsePrimary();
     }
 
     private Expr parsePrimary() throws Exception {
-        if (matchAny(INT_LITERAL, FLOAT_LITERAL, STRING, FORMATTED_STRING, BOOLEAN, NULL)) {
+        TokenType nextType = peek().getType();
+
+        if (LITERALS.contains(nextType)) {
             Token literalToken = advance(); // comsume any of the literal type token(s) andd keep it
             if (literalToken == null) {
                 error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
+                    new Token(EOF, '\0', cursor.getLastSeenLineNumber() + 1, 1),
                     "unrecoverable parser state encountered",
                     new NullPointerException(
                         "Expected <literal> token where 'nullish' value is found"
                     )
                 );
             }
+            enter(Production.LITERAL, literalToken);
+            exit(Production.LITERAL);
+
+            if (!buildTree) {
+                return NO_EXPRESSION;
+            }
+
             Object value = null;
             switch (literalToken.getType()) {
                 case INT_LITERAL:
@@ -1339,22 +2147,27 @@ public class Parser {
                     }
                 break;
             }
-            return new Literal(value);
+            return literal(value);
         }
 
-        if (matchAny(IDENTIFIER)) {
+        if (nextType == IDENTIFIER) {
             Token identifierToken = advance(); // @HINT: consume the `IDENTIFIER` token and keep it
             if (identifierToken == null) {
                 error(
-                    new Token(EOF, '\0', tokenQueue.getLastSeenLineNumber() + 1, 1),
+                    new Token(EOF, '\0', cursor.getLastSeenLineNumber() + 1, 1),
                     "unrecoverable parser state encountered",
                     new NullPointerException("Expected <identifier> token where 'nullish' value is found")
                 );
             }
-            return new Variable(identifierToken);
+
+            enter(Production.VARIABLE, identifierToken);
+            exit(Production.VARIABLE);
+
+            return buildTree ? variable(identifierToken) : NO_VARIABLE;
         }
 
-        if (matchAny(LPAREN)) {
+        if (nextType == LPAREN) {
+            advance(); // @HINT: consume the `LPAREN` token and discard it
             Expr expr = parseExpression(false);
             setExpectationForTokenType(RPAREN, "Expected token ')'");
             advance(); // @HINT: consume the `RPAREN` token and discard it
@@ -1378,23 +2191,24 @@ public class Parser {
        ========================= */
 
     /**
-     * 
+     * Check if the next token is any of the token types in the set
      */
-    private boolean matchAny(TokenType... types) {
-        for (TokenType t : types) {
-            if (check(t)) {
-                return true;
-            }
+    private boolean matchAny(TokenSet types) {
+        try {
+            return cursor.matchAny(types);
+        } catch (InterruptedException ex) {
+            // @INFO: Restore interrupted status
+            Thread.currentThread().interrupt(); 
+            return false;
         }
-        return false;
     }
 
     /**
-     * 
+     * Check if the next token is of the token type
      */
     private boolean check(TokenType type) {
         try {
-            return !tokenQueue.isAtEnd() && peek().getType() == type;
+            return cursor.check(type);
         } catch (InterruptedException ex) {
             // @INFO: Restore interrupted status
             Thread.currentThread().interrupt(); 
@@ -1402,45 +2216,42 @@ public class Parser {
         }
     }
 
+    /**
+     * Check if the last token is about to be consumed
+     */
+    private boolean isAtEnd() {
+        // @INFO: An interrupted peek yields a synthetic EOF token
+        return peek().getType() == EOF;
+    }
+
     /**
      * Consume a token from the token queue
      */
     private Token advance() {
         try {
-            Token nextToken = tokenQueue.pullNextToken(true);
-            int MAX_WAIT_CYCLE = 2;
-            int CURR_WAIT_CYCLE = 0;
-
-            while (nextToken == null || tokenQueue.isAtCapacity()) {
-                Thread.sleep(100);
-                if (CURR_WAIT_CYCLE >= MAX_WAIT_CYCLE) {
-                    break;
-                }
-                nextToken = tokenQueue.pullNextToken();
-                CURR_WAIT_CYCLE++;
-            }
+            // @INFO: Blocks until the Tokenizer queues a token, EOF or poison token
+            Token token = cursor.advance();
+            previousToken = token;
 
-            return nextToken;
+            return token;
         } catch (InterruptedException ex) {
-            /* 
+            /*
                 @INFO:
-                
-                Restore the interrupted status so the thread pool / runtime 
+
+                Restore the interrupted status so the thread pool / runtime
                 knows this thread was told to shut down.
             */
             Thread.currentThread().interrupt();
-        } finally {
-            return null;
         }
+        return null;
     }
 
     /**
-     * Backtrack on a single token.
-     * Push the token back into the token queue.
+     * Consume tokens up to (but not including) an absolute stream position
      */
-    private void backtrackOnToken (Token token) {
-        if (token != null) {
-            tokenQueue.pushBackToken(token);
+    private void skipTo(int position) {
+        while (cursor.getPosition() < position && !isAtEnd()) {
+            advance();
         }
     }
 
@@ -1449,27 +2260,30 @@ public class Parser {
      */
     private Token peek() {
         try {
-            if (!tokenQueue.isAtEnd()) {
-                return tokenQueue.peekLookAheadToken();
-            }
+            // @INFO: Yields the EOF (or poison) token once the stream is closed
+            return cursor.peek();
         } catch (InterruptedException ex) {
-            /* 
+            /*
                 @INFO:
-                
-                Restore the interrupted status so the thread pool / runtime 
+
+                Restore the interrupted status so the thread pool / runtime
                 knows this thread was told to shut down.
             */
             Thread.currentThread().interrupt();
-        } finally {
-          return new Token(EOF, String.valueOf('\0'), tokenQueue.getLastSeenLineNumber() + 1, 1);
         }
+        return new Token(EOF, String.valueOf('\0'), cursor.getLastSeenLineNumber() + 1, 1);
     }
 
     /**
-     * Check if a trail compound expression is up ahead in the stream of tokens
+     * Lookahead and peek the token after the next one (i.e. LA(2)).
      */
-    private boolean isTrialStart() {
-        return check(STRING) || check(FORMATTED_STRING) || check(CALL);
+    private Token peekNext() {
+        try {
+            return cursor.peekNext();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return new Token(EOF, String.valueOf('\0'), cursor.getLastSeenLineNumber() + 1, 1);
     }
 
     /**
@@ -1492,44 +2306,164 @@ public class Parser {
     /**
      * Report syntax errors using the token at the point of offending sequence
      */
-    private void error(Token token, String messageSuffix) throws Exception {
-        String messagePrefix = "[line: " + token.getLineNumber() + ", column: " + token.getColumnNumber() + "]; ";
+    private void error(Token token, String messageSuffix) throws SyntaxError {
+        error(token, messageSuffix, null);
+    }
 
-        if (tokenQueue.hasMoreTokens() && tokenQueue.isEOFToken(token)) {
-            UnexpectedEndOfInputException eofEx = throw new UnexpectedEndOfInputException(
-                "parser token queue not exhausted yet EOF token encountered"
-            );
-            throw new Exception(
-                messagePrefix + messageSuffix,
-                eofEx
-            );
-        }
+    /**
+     * Report null reference and runtime issues
+     */
+    private void error(Token token, String messageSuffix, RuntimeException ex) throws SyntaxError {
+        Diagnostic diagnostic = report(token, messageSuffix);
 
-        throw new Exception(
-            messagePrefix + messageSuffix
+        // @HINT: Stackless, so unwinding to the nearest recovery point stays cheap
+        throw new SyntaxError(diagnostic, ex);
+    }
+
+    /**
+     * Record a syntax error without unwinding (i.e. parsing carries on)
+     */
+    private Diagnostic report(Token token, String messageSuffix) {
+        Diagnostic diagnostic = Diagnostic.error(
+            token.getLineNumber(),
+            token.getColumnNumber(),
+            messageSuffix,
+            token.getImage(),
+            // @INFO: The token stream ended while the grammar still expected more
+            token.getType() == EOF
         );
+
+        if (diagnostics.report(diagnostic) && listener != null) {
+            if (heldEvents != null) {
+                heldEvents.add(new HeldEvent(false, null, null, diagnostic));
+            } else {
+                listener.syntaxError(diagnostic);
+            }
+        }
+        return diagnostic;
     }
 
     /**
-     * Report null reference and runtime issues
+     * Tell the listener (if any) that a production starts
      */
-    private void error(Token token, String messageSuffix, RuntimeException ex) throws Exception {
-        String messagePrefix = "[line: " + token.getLineNumber() + ", column: " + token.getColumnNumber() + "]; ";
+    private void enter(Production production, Token startToken) {
+        if (listener == null) {
+            return;
+        }
 
-        if (tokenQueue.hasMoreTokens() && tokenQueue.isEOFToken(token)) {
-            UnexpectedEndOfInputException eofEx = new UnexpectedEndOfInputException(
-                "parser token queue not exhausted yet EOF token encountered",
-                ex
-            );
-            throw new Exception(
-                messagePrefix + messageSuffix,
-                eofEx
-            );
+        if (heldEvents != null) {
+            heldEvents.add(new HeldEvent(false, production, startToken, null));
+        } else {
+            listener.enter(production, startToken);
         }
+    }
 
-        throw new Exception(
-            messagePrefix + messageSuffix,
-            ex
-        );
+    /**
+     * Tell the listener (if any) that a production ends at the latest token consumed
+     */
+    private void exit(Production production) {
+        exit(production, previousToken);
+    }
+
+    private void exit(Production production, Token endToken) {
+        if (listener == null) {
+            return;
+        }
+
+        if (heldEvents != null) {
+            heldEvents.add(new HeldEvent(true, production, endToken, null));
+        } else {
+            listener.exit(production, endToken);
+        }
+    }
+
+    /**
+     * Hands held-back events on, in the order they were produced (i.e.
+     * to the listener, or to the events held back further out).
+     */
+    private void replayEvents(List<HeldEvent> events) {
+        if (events == null) {
+            return;
+        }
+
+        for (HeldEvent event : events) {
+            if (event.diagnostic != null) {
+                if (heldEvents != null) {
+                    heldEvents.add(event);
+                } else {
+                    listener.syntaxError(event.diagnostic);
+                }
+            } else if (event.isExit) {
+                exit(event.production, event.token);
+            } else {
+                enter(event.production, event.token);
+            }
+        }
+    }
+
+    /**
+     * Add a parsed statement to a statement list (i.e. only when building the AST)
+     */
+    private void appendStatement(List<Stmt> statements, Stmt statement) {
+        if (buildTree) {
+            statements.add(statement);
+        }
+    }
+
+    /**
+     * A listener event (or syntax error) held back by `parseOperand()`.
+     */
+    private static final class HeldEvent {
+        final boolean isExit;
+        final Production production;
+        final Token token;
+        // Non-null for a syntax error
+        final Diagnostic diagnostic;
+
+        HeldEvent(boolean isExit, Production production, Token token, Diagnostic diagnostic) {
+            this.isExit = isExit;
+            this.production = production;
+            this.token = token;
+            this.diagnostic = diagnostic;
+        }
+    }
+
+    /**
+     * A block being parsed by `parseNestedBlocks(...)`.
+     */
+    private static final class BlockFrame {
+        final String owner;
+        final List<Stmt> statements = new ArrayList<>();
+        // The compound statement the block belongs to (null for a plain block)
+        final PendingStatement pending;
+
+        BlockFrame(String owner, PendingStatement pending) {
+            this.owner = owner;
+            this.pending = pending;
+        }
+    }
+
+    /**
+     * A compound statement whose header is parsed and whose block(s) are
+     * still being parsed.
+     */
+    private static final class PendingStatement {
+        final StatementKind kind;
+        // The owner of the block being parsed (e.g. "`if`", then "`else`")
+        String owner;
+
+        Stmt initializer;
+        Expr condition;
+        Expr increment;
+
+        Stmt thenBranch;
+        final List<Stmt> elifs = new ArrayList<>();
+        Expr elifCondition;
+        boolean inElseBranch;
+
+        PendingStatement(StatementKind kind, String owner) {
+            this.kind = kind;
+            this.owner = owner;
+        }
     }
 }
@@ -0,0 +1,44 @@
+package com.codedev.antro.compiler.frontend;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The productions a `ParseListener` is told about (i.e. when the Parser
+ * enters and exits each of them).
+ */
+public enum Production {
+    PROGRAM,
+    MODULE,
+    REQUIRE,
+    EXPORT,
+    MAIN,
+    // A `def:` function (global) or a `var` function (local)
+    FUNCTION,
+    // A `def:` constant (i.e. a literal definition)
+    CONSTANT,
+    BLOCK,
+    IF,
+    WHILE,
+    DO_WHILE,
+    FOR,
+    SWITCH,
+    DECLARATION,
+    EXPRESSION_STATEMENT,
+    RETURN,
+    BREAK,
+    CONTINUE,
+    DEFER,
+    PANIC,
+    CALL,
+    TRIAL,
+    ASSIGNMENT,
+    BINARY,
+    UNARY,
+    LITERAL,
+    VARIABLE
+}
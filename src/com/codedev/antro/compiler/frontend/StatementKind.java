@@ -0,0 +1,38 @@
+package com.codedev.antro.compiler.frontend;
+
+import java.util.List;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The statements `Parser.parseStatement()` dispatches on, each with the
+ * grammar productions (i.e. CFGP non-terminals) it parses. The
+ * LL1TableGenerator predicts the kind of a statement from FIRST sets
+ * of these productions.
+ */
+public enum StatementKind {
+    IF("ifstatement"),
+    WHILE("whilestatement"),
+    DO_WHILE("dowhilestatement"),
+    FOR("forstatement"),
+    SWITCH("switchstatement"),
+    DEFINITION("defnstatement"),
+    VAR("declstatement", "localfunctiondefnstatement"),
+    // @INFO: Also the fallback for any token the table has no entry for
+    EXPRESSION("callstatement");
+
+    private final List<String> grammarSymbols;
+
+    StatementKind(String... grammarSymbols) {
+        this.grammarSymbols = List.of(grammarSymbols);
+    }
+
+    public final List<String> getGrammarSymbols() {
+        return grammarSymbols;
+    }
+}
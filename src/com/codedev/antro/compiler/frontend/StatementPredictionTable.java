@@ -0,0 +1,44 @@
+package com.codedev.antro.compiler.frontend;
+
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The statement-level LL(1) prediction table: the kind of statement
+ * that starts with a given token.
+ *
+ * @NOTE: Generated by `LL1TableGenerator` from PARSER_ALGOS_AND_GRAMMAR.md (do not edit)
+ */
+public final class StatementPredictionTable {
+    private static final StatementKind[] PREDICTIONS = new StatementKind[TokenType.values().length];
+
+    static {
+        PREDICTIONS[TokenType.STRING.ordinal()] = StatementKind.EXPRESSION;
+        PREDICTIONS[TokenType.FORMATTED_STRING.ordinal()] = StatementKind.EXPRESSION;
+        PREDICTIONS[TokenType.IF.ordinal()] = StatementKind.IF;
+        PREDICTIONS[TokenType.FOR.ordinal()] = StatementKind.FOR;
+        PREDICTIONS[TokenType.WHILE.ordinal()] = StatementKind.WHILE;
+        PREDICTIONS[TokenType.DO.ordinal()] = StatementKind.DO_WHILE;
+        PREDICTIONS[TokenType.DEF.ordinal()] = StatementKind.DEFINITION;
+        PREDICTIONS[TokenType.VAR.ordinal()] = StatementKind.VAR;
+        PREDICTIONS[TokenType.SWITCH.ordinal()] = StatementKind.SWITCH;
+        PREDICTIONS[TokenType.CALL.ordinal()] = StatementKind.EXPRESSION;
+    }
+
+    private StatementPredictionTable() {
+    }
+
+    /**
+     * Predicts the kind of statement from its first token.
+     */
+    public static StatementKind predict(TokenType type) {
+        StatementKind kind = PREDICTIONS[type.ordinal()];
+        return kind == null ? StatementKind.EXPRESSION : kind;
+    }
+}
@@ -0,0 +1,168 @@
+package com.codedev.antro.compiler.frontend;
+
+import java.util.Arrays;
+
+import com.codedev.antro.compiler.frontend.lexer.LexemeQueue;
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.lexer.TokenSet;
+import com.codedev.antro.compiler.frontend.lexer.TokenSource;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The Parser's read head over the token queue (or any other token
+ * source). Tokens taken from it are kept in a window, so LA(1) and LA(2)
+ * are plain array reads and repeated lookahead checks never go back to
+ * the (thread-safe) queue. Consumed tokens are dropped from the window
+ * (i.e. the grammar is parsed without backtracking; see `Parser` for how
+ * `var` declarations and local functions are told apart by LA(2)).
+ */
+public final class TokenCursor {
+    private static final int INITIAL_WINDOW_SIZE = 16;
+
+    private final TokenSource tokenSource;
+
+    // The tokens taken from the queue and not yet dropped
+    private Token[] window = new Token[INITIAL_WINDOW_SIZE];
+    // The absolute stream position of `window[0]`
+    private int windowBase = 0;
+    // The window index of LA(1)
+    private int position = 0;
+    // The number of tokens in the window
+    private int limit = 0;
+    // The line number of the latest token taken from the source
+    private int lastSeenLineNumber = 0;
+
+    // @INFO: Single-argument constructor (Arity = 1)
+    public TokenCursor(LexemeQueue tokenQueue) {
+        this(() -> tokenQueue.pullNextToken(true));
+    }
+
+    // @INFO: Single-argument constructor (Arity = 1)
+    public TokenCursor(TokenSource tokenSource) {
+        this.tokenSource = tokenSource;
+    }
+
+    /**
+     * Returns LA(1) without consuming it.
+     */
+    public Token peek() throws InterruptedException {
+        if (position == limit) {
+            fill();
+        }
+        return window[position];
+    }
+
+    /**
+     * Returns LA(2) without consuming anything.
+     */
+    public Token peekNext() throws InterruptedException {
+        Token token = peek();
+
+        if (token.getType() == TokenType.EOF) {
+            // @HINT: Nothing follows the EOF (or poison) token, so it stands in for LA(2) too
+            return token;
+        }
+
+        if (position + 1 == limit) {
+            fill();
+        }
+        return window[position + 1];
+    }
+
+    /**
+     * Consumes and returns LA(1).
+     */
+    public Token advance() throws InterruptedException {
+        Token token = peek();
+
+        if (token.getType() == TokenType.EOF) {
+            // @INFO: The EOF (or poison) token is never consumed, so it stays LA(1) for good
+            return token;
+        }
+
+        position++;
+
+        if (position == limit) {
+            // @HINT: Nothing to retain; restart at the front of the window without copying
+            windowBase += position;
+            Arrays.fill(window, 0, limit, null);
+            position = 0;
+            limit = 0;
+        }
+
+        return token;
+    }
+
+    /**
+     * Checks LA(1) against a token type (never matches at the end of the stream).
+     */
+    public boolean check(TokenType type) throws InterruptedException {
+        TokenType nextType = peek().getType();
+        return nextType != TokenType.EOF && nextType == type;
+    }
+
+    /**
+     * Checks LA(1) against a token set (never matches at the end of the stream).
+     */
+    public boolean matchAny(TokenSet types) throws InterruptedException {
+        TokenType nextType = peek().getType();
+        return nextType != TokenType.EOF && types.contains(nextType);
+    }
+
+    public boolean isAtEnd() throws InterruptedException {
+        return peek().getType() == TokenType.EOF;
+    }
+
+    /**
+     * Retrieves the absolute position of LA(1) in the token stream.
+     */
+    public int getPosition() {
+        return windowBase + position;
+    }
+
+    /**
+     * Retrieves the line number of the latest token taken from the source.
+     */
+    public int getLastSeenLineNumber() {
+        return lastSeenLineNumber;
+    }
+
+    /**
+     * Appends the next token from the source to the window.
+     */
+    private void fill() throws InterruptedException {
+        if (limit == window.length) {
+            makeRoom();
+        }
+
+        Token token = tokenSource.nextToken();
+
+        lastSeenLineNumber = token.getLineNumber();
+        window[limit++] = token;
+    }
+
+    private void makeRoom() {
+        // @HINT: Tokens before LA(1) are no longer needed
+        int keepFrom = position;
+
+        if (keepFrom > 0) {
+            System.arraycopy(window, keepFrom, window, 0, limit - keepFrom);
+            Arrays.fill(window, limit - keepFrom, limit, null);
+
+            windowBase += keepFrom;
+            position -= keepFrom;
+            limit -= keepFrom;
+        }
+
+        if (limit == window.length) {
+            window = Arrays.copyOf(window, window.length * 2);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Map;
 import com.codedev.antro.compiler.frontend.lexer.Token;
 import com.codedev.antro.compiler.frontend.lexer.TokenType;
 import com.codedev.antro.compiler.frontend.lexer.LexemeQueue;
+import com.codedev.antro.compiler.frontend.lexer.LineIndex;
 
 import com.codedev.antro.compiler.frontend.helpers.NoticeConsoleLogger;
 import com.codedev.antro.compiler.frontend.contracts.concerns.LexisException;
@@ -39,6 +40,11 @@ public class Tokenizer {
 
     private int line = 1;
     private int column = 0;
+    // The source offset of the first character in `buffer` (i.e. of the current line)
+    private int lineOffset = 0;
+    // The source offset of the first character of the token being scanned
+    private int tokenStart = 0;
+    private final LineIndex lineIndex = new LineIndex();
 
     /* ============================
        Output
@@ -131,15 +137,26 @@ public class Tokenizer {
                 }
                 scanNextByte(advance());
             }
+
+            emit(new Token(TokenType.EOF, String.valueOf('\0'), line, column));
         } catch (Exception e) {
             LexisException lexisEx = new LexisException(
-                "lexical scan of source failed", 
+                "lexical scan of source failed",
                 e
             );
+
+            // @HINT: Let the consumer (i.e. Parser) know right away instead of starving it
+            tokenQueue.abortWithFailure(lexisEx);
             throw lexisEx;
         }
+    }
 
-        emit(new Token(TokenType.EOF, String.valueOf('\0'), line, column));
+    /**
+     * Retrieves the start offset of every line read so far (i.e. what
+     * token spans are resolved with). Complete once `tokenize()` returns.
+     */
+    public final LineIndex getLineIndex() {
+        return lineIndex;
     }
 
     private char readUnicodeEscape() throws Exception {
@@ -164,6 +181,8 @@ public class Tokenizer {
     private void scanNextByte(char c) throws Exception {
 
         int startColumn = column;
+        // @HINT: `c` was just consumed, so the token starts one character back
+        tokenStart = lineOffset + bufferPos - 1;
 
         // Whitespace
         if (isWhitespace(c)) {
@@ -507,31 +526,31 @@ public class Tokenizer {
                     String text = sb.toString();
                     
                     if (text.equals(new String(".bool"))) {
-                        emit(new Token(TokenType.TYPE_BOOL, text, line, column));
+                        emit(token(TokenType.TYPE_BOOL, text, column));
                     } else if (text.equals(new String(".byte"))) {
-                        emit(new Token(TokenType.TYPE_BYTE, text, line, column));
+                        emit(token(TokenType.TYPE_BYTE, text, column));
                     } else if (text.equals(new String(".uint8"))) {
-                        emit(new Token(TokenType.TYPE_INT, text, line, column));
+                        emit(token(TokenType.TYPE_INT, text, column));
                     } else if (text.equals(new String(".uint16"))) {
-                        emit(new Token(TokenType.TYPE_INT, text, line, column));
+                        emit(token(TokenType.TYPE_INT, text, column));
                     } else if (text.equals(new String(".double"))) {
-                        emit(new Token(TokenType.TYPE_DBL, text, line, column));
+                        emit(token(TokenType.TYPE_DBL, text, column));
                     } else if (text.equals(new String(".float"))) {
-                        emit(new Token(TokenType.TYPE_FLT, text, line, column));
+                        emit(token(TokenType.TYPE_FLT, text, column));
                     } else if (text.equals(new String(".uint32"))) {
-                        emit(new Token(TokenType.TYPE_INT, text, line, column));
+                        emit(token(TokenType.TYPE_INT, text, column));
                     } else if (text.equals(new String(".uint64"))) {
-                        emit(new Token(TokenType.TYPE_INT, text, line, column));
+                        emit(token(TokenType.TYPE_INT, text, column));
                     } else if (text.equals(new String(".str"))) {
-                        emit(new Token(TokenType.TYPE_STR, text, line, column));
+                        emit(token(TokenType.TYPE_STR, text, column));
                     } else if (text.equals(new String(".char"))) {
-                        emit(new Token(TokenType.TYPE_CHAR, text, line, column));
+                        emit(token(TokenType.TYPE_CHAR, text, column));
                     } else if (text.equals(new String(".nil"))) {
-                        emit(new Token(TokenType.TYPE_NIL, text, line, column));
+                        emit(token(TokenType.TYPE_NIL, text, column));
                     } else if (text.equals(new String(".int"))) {
-                        emit(new Token(TokenType.TYPE_INT, text, line, column));
+                        emit(token(TokenType.TYPE_INT, text, column));
                     } else {
-                        emit(new Token(TokenType.TYPE_CUSTOM, text, line, column));
+                        emit(token(TokenType.TYPE_CUSTOM, text, column));
                     }
                 } else {
                     multiCharScanActive = false;
@@ -592,7 +611,7 @@ public class Tokenizer {
             ? TokenType.NULL
             : KEYWORDS.getOrDefault(text, TokenType.IDENTIFIER);
         
-        emit(new Token(type, text, line, col));
+        emit(token(type, text, col));
     }
 
     private void readNumber(char first, int col) throws Exception {
@@ -607,7 +626,7 @@ public class Tokenizer {
             isHex = true;
             while (isHexDigit(peek())) sb.append(advance());
 
-            emit(new Token(TokenType.INT_LITERAL, sb.toString(), line, col));
+            emit(token(TokenType.INT_LITERAL, sb.toString(), col));
             return;
         }
 
@@ -625,10 +644,9 @@ public class Tokenizer {
             }
         }
 
-        emit(new Token(
+        emit(token(
             isFloat ? TokenType.FLOAT_LITERAL : TokenType.INT_LITERAL,
             sb.toString(),
-            line,
             col
         ));
     }
@@ -671,10 +689,9 @@ public class Tokenizer {
         }
     
         sb.append(advance()); // closing quote
-        emit(new Token(
+        emit(token(
             formatted ? TokenType.FORMATTED_STRING : TokenType.STRING,
             sb.toString(),
-            line,
             col
         ));
     }
@@ -696,12 +713,14 @@ public class Tokenizer {
         
         try {
             if (bufferPos >= buffer.length()) {
+                lineOffset += buffer.length();
                 buffer = reader.readLine();
                 
                 if (buffer == null) {
                     READER_EOF = true;
                 } else {
                     buffer += '\n';
+                    lineIndex.addLine(lineOffset);
                 }
                 bufferPos = 0;
             }
@@ -769,46 +788,41 @@ public class Tokenizer {
     }
 
     private void emit(Token token) throws Exception {   
-        boolean interrupted = false;
-        
         if (multiCharScanActive) {
             multiCharScanActive = false;
         }
 
-        
         try {
-            while (true) {
-                try {
-                    if (token.getType() != TokenType.UNKNOWN) {
-                        tokenQueue.pushNextToken(token);
-                    } else {
-                        error("Unexpected token image: '"+token.getImage()+"'");
-                    }
-                    interrupted = false;
-                    return;
-                } catch (InterruptedException ex) {
-                    NoticeConsoleLogger.logMessage(
-                        "TOKENIZER",
-                        "thread running interrupted with message: " + ex.getMessage()
-                    );
-                    
-                    /* 
-                        @HINT: 
-                        
-                        Record that an interruption happened but defer 
-                        restoring the interrupted status.
-                    */
-                    interrupted = true;
-                }
-            }
-        } finally {
-            if (interrupted) {
-                // @HINT: Restore interrupted status
-                Thread.currentThread().interrupt();
+            if (token.getType() != TokenType.UNKNOWN) {
+                tokenQueue.pushNextToken(token);
+            } else {
+                error("Unexpected token image: '"+token.getImage()+"'");
             }
+        } catch (InterruptedException ex) {
+            NoticeConsoleLogger.logMessage(
+                "TOKENIZER",
+                "thread running interrupted with message: " + ex.getMessage()
+            );
+
+            /* 
+                @HINT: 
+                
+                Restore the interrupted status and give up on the scan, so
+                that a cancelled compilation does not leave this thread 
+                blocked on a queue nobody is reading anymore.
+            */
+            Thread.currentThread().interrupt();
+            error("Lexical scan cancelled while emitting token image: '"+token.getImage()+"'");
         }
     }
 
+    /**
+     * Creates a token that spans from `tokenStart` up to the next character.
+     */
+    private Token token(TokenType type, String text, int col) {
+        return new Token(type, text, line, col, tokenStart, lineOffset + bufferPos - tokenStart);
+    }
+
     private Token simple(char c, TokenType type) {
         String text = multiCharScanActive
             ? multiCharScanBuffer.toString()
@@ -818,10 +832,9 @@ public class Tokenizer {
             0,
             multiCharScanBuffer.length()
         );
-        return new Token(
+        return token(
             type,
             text,
-            line,
             column
         );
     }
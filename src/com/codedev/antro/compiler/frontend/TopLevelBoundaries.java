@@ -0,0 +1,100 @@
+package com.codedev.antro.compiler.frontend;
+
+import java.util.Arrays;
+
+import com.codedev.antro.compiler.frontend.lexer.TokenBuffer;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The positions in a pre-lexed token stream where top-level constructs
+ * (i.e. `module`, `require`, `def`, `begin` and `export`) start, and where
+ * the stream ends. They are found by a single scan that tracks the nesting
+ * of `{ }` and `begin ... end`, so no parsing is involved.
+ */
+final class TopLevelBoundaries {
+    private final int[] positions;
+    private final int count;
+    private final int streamSize;
+
+    private TopLevelBoundaries(int[] positions, int count, int streamSize) {
+        this.positions = positions;
+        this.count = count;
+        this.streamSize = streamSize;
+    }
+
+    static TopLevelBoundaries scan(TokenBuffer tokens) {
+        int[] found = new int[64];
+        int count = 0;
+        int depth = 0;
+
+        for (int index = 0; index < tokens.size(); index++) {
+            TokenType type = tokens.get(index).getType();
+            boolean isBoundary = false;
+
+            switch (type) {
+                case LBRACE:
+                    depth++;
+                    break;
+                case BEGIN:
+                    isBoundary = depth == 0;
+                    depth++;
+                    break;
+                case RBRACE:
+                case END:
+                    // @HINT: A stray closer must not push the depth below the top level
+                    depth = Math.max(depth - 1, 0);
+                    break;
+                case MODULE:
+                case REQUIRE:
+                case DEF:
+                case EXPORT:
+                case EOF:
+                    isBoundary = depth == 0;
+                    break;
+                default:
+                    break;
+            }
+
+            if (isBoundary) {
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, count * 2);
+                }
+                found[count++] = index;
+            }
+        }
+
+        return new TopLevelBoundaries(found, count, tokens.size());
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * Retrieves the position of the n-th boundary (in ascending order).
+     */
+    int get(int index) {
+        return positions[index];
+    }
+
+    /**
+     * Retrieves where the construct starting at a position ends (i.e. the
+     * next boundary, or the end of the stream).
+     */
+    int segmentEnd(int from) {
+        int index = Arrays.binarySearch(positions, 0, count, from + 1);
+
+        if (index < 0) {
+            // @HINT: Not a boundary itself, so take the insertion point (i.e. the next boundary)
+            index = -(index + 1);
+        }
+        return index < count ? positions[index] : streamSize;
+    }
+}
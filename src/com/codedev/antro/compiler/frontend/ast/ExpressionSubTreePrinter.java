@@ -1,70 +0,0 @@
-package com.codedev.antro.compiler.frontend.ast;
-
-import com.codedev.antro.compiler.frontend.lexer.Token;
-import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
-import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
-
-import com.codedev.antro.comipler.frontend.ast.rules.Binary;
-import com.codedev.antro.comipler.frontend.ast.rules.Unary;
-import com.codedev.antro.comipler.frontend.ast.rules.Literal;
-import com.codedev.antro.comipler.frontend.ast.rules.Variable;
-import com.codedev.antro.comipler.frontend.ast.rules.Assignment;
-import com.codedev.antro.comipler.frontend.ast.rules.Call;
-
-/*
- * Antro Compiler Project
- * https://www.coolcodes.io/antro
- * Copyright (c) 2014-2026 Ifeora Okechukwu
- * Licensed under the MIT license. See 'LICENSE' for details.
- */
-
-/**
- * A ancillary artifact for printing the contents of an AST sub tree
- */
-public class ExpressionSubTreePrinter implements Expr.Visitor<String> {
-    
-    public String print(Expr expr) {
-        return expr.accept(this);
-    }
-
-    @Override
-    public String visitBinary(Binary expr) {
-        Token operator = expr.getOperator();
-        return "\t (" + operator.getImage() + " " + 
-               expr.getLeft().accept(this) + " " + 
-               expr.getRight().accept(this) + ")";
-    }
-
-    @Override
-    public String visitUnary(Unary expr) {
-        Token operator = expr.getOperator();
-        return "\t (" + operator.getImage() + " " + 
-               expr.getRight().accept(this) + ")" ;
-    }
-
-    @Override
-    public String visitLiteral(Literal expr) {
-        Object value = expr.getValue();
-        return "\t\t (" + value.toString() + ")" ;
-    }
-
-    @Override
-    public String visitVariable(Variable expr) {
-        Token identifier = expr.getIdentifier();
-        return "\t\t (" + identifier.getImage() + ")" ;
-    }
-
-     @Override
-    public String visitAssignment(Assignment expr) {
-        Token operator = expr.getOperator();
-        return "\t (" + operator.getImage() + " " +
-               expr.getLeft().getImage() + " " + 
-               expr.getRight().accept(this) + ")";
-    }
-
-     @Override
-    public String visitCall(Call expr) {
-        return "\t (" + expr.getCallee().accept(this) + " " +
-                expr.getArguments().accept(this) + ")";
-    }
-}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.codedev.antro.compiler.frontend.contracts.concerns;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.codedev.antro.compiler.frontend.diagnostics.Diagnostic;
+
+/**
+ * Thrown when a function body whose parsing was deferred (i.e. a lazy
+ * function body) turns out to have syntax errors once it is parsed.
+ */
+public class DeferredParseException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<Diagnostic> diagnostics;
+
+    public DeferredParseException(String message, List<Diagnostic> diagnostics) {
+        super(message);
+        // @HINT: Defensive copy and make immutable to protect integrity
+        this.diagnostics = Collections.unmodifiableList(new ArrayList<>(diagnostics));
+    }
+
+    /**
+     * Returns an unmodifiable list of the syntax errors in the function body.
+     */
+    public List<Diagnostic> getDiagnostics() {
+        return this.diagnostics;
+    }
+}
@@ -5,6 +5,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import com.codedev.antro.compiler.frontend.diagnostics.Diagnostic;
+
 /**
  * Custom checked exception to accumulate multiple parsing errors.
  */
@@ -13,6 +15,8 @@ public class ParseException extends Exception {
     
     // @INFO: Initialized as an empty list to avoid NullPointerExceptions
     private List<Exception> exceptions = Collections.emptyList();
+    // @INFO: The syntax errors (and warnings) collected while parsing
+    private List<Diagnostic> diagnostics = Collections.emptyList();
 
     /**
      * Constructs a ParseException with only a descriptive message.
@@ -41,4 +45,25 @@ public class ParseException extends Exception {
     public List<Exception> getExceptions() {
         return this.exceptions;
     }
+
+    /**
+     * Sets the internal list of diagnostics.
+     * 
+     * @param diagnostics The list of collected diagnostics
+     */
+    public void setDiagnostics(List<Diagnostic> diagnostics) {
+        if (diagnostics != null) {
+            // @HINT: Defensive copy and make immutable to protect integrity
+            this.diagnostics = Collections.unmodifiableList(new ArrayList<>(diagnostics));
+        } else {
+            this.diagnostics = Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns an unmodifiable list of the collected diagnostics.
+     */
+    public List<Diagnostic> getDiagnostics() {
+        return this.diagnostics;
+    }
 }
@@ -0,0 +1,24 @@
+package com.codedev.antro.compiler.frontend.contracts.concerns;
+
+import com.codedev.antro.compiler.frontend.diagnostics.Diagnostic;
+
+/**
+ * Unwinds the Parser from the point of a syntax error to the nearest
+ * recovery point. The error itself is already recorded as a diagnostic,
+ * so no stack trace is captured (i.e. it is cheap to throw).
+ */
+public class SyntaxError extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Diagnostic diagnostic;
+
+    public SyntaxError(Diagnostic diagnostic, Throwable cause) {
+        // @HINT: Suppression & stack trace are disabled
+        super(diagnostic.toString(), cause, false, false);
+        this.diagnostic = diagnostic;
+    }
+
+    public Diagnostic getDiagnostic() {
+        return this.diagnostic;
+    }
+}
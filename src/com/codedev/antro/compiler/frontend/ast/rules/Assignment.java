@@ -1,6 +1,6 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
-import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 
 /*
@@ -15,21 +15,26 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
  * It stores the name of the variable being assigned to and the
  * expression that produces the value to be stored.
  */
-public class Assignment extends Expr {
-    private final Token name;
+public final class Assignment extends Expr {
+    private final String name;
+    private final TokenType operator;
     private final Expr value;
+    // The span of the variable on the left-hand side (see `Span`)
+    private final long span;
 
     /**
      * Constructs a new Assignment expression.
      * 
-     * @param name  The identifier token of the variable on the left-hand side.
-     * @param operator The assignment operator token
+     * @param name  The identifier of the variable on the left-hand side.
+     * @param operator The assignment operator
      * @param value The expression on the right-hand side of the equals sign.
+     * @param span  The span of the variable on the left-hand side.
      */
-    public Assignment(Token name, Token operator, Expr value) {
+    public Assignment(String name, TokenType operator, Expr value, long span) {
         this.name = name;
         this.operator = operator;
         this.value = value;
+        this.span = span;
     }
 
     /**
@@ -42,23 +47,27 @@ public class Assignment extends Expr {
     }
 
     /**
-     * Returns the operator token of assignment.
+     * Returns the operator of assignment.
      */
-    public final Token getOperator() {
-        return operator.clone();
+    public final TokenType getOperator() {
+        return operator;
     }
 
     /**
-     * Returns the name token of the variable being assigned.
+     * Returns the name of the variable being assigned.
      */
-    public final Token getLeft() {
-        return name.clone();
+    public final String getName() {
+        return name;
     }
 
     /**
      * Returns the expression representing the value to be assigned.
      */
     public final Expr getRight() {
-        return value.clone();
+        return value;
+    }
+
+    public final long getSpan() {
+        return span;
     }
 }
\ No newline at end of file
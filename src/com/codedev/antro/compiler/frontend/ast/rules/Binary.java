@@ -1,6 +1,6 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
-import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 
 /*
@@ -14,10 +14,13 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
  * A concrete implementation of a Binary expression (e.g., 1 + 2).
  * This class extends the Expr abstract class and implements the Visitor hook.
  */
-public class Binary extends Expr {
+public final class Binary extends Expr {
     private final Expr left;
-    private final Token operator;
+    private final TokenType operator;
     private final Expr right;
+    // The span of the operator (see `Span`)
+    private final long span;
+    private final int hash;
 
     /**
      * Constructs a new Binary expression
@@ -25,11 +28,21 @@ public class Binary extends Expr {
      * @param left
      * @param operator
      * @param right
+     * @param span the span of the operator.
      */
-    public Binary(Expr left, Token operator, Expr right) {
+    public Binary(Expr left, TokenType operator, Expr right, long span) {
         this.left = left;
         this.operator = operator;
         this.right = right;
+        this.span = span;
+        this.hash = hashOf(left, operator, right);
+    }
+
+    /**
+     * Hashes the structure of a Binary expression from its parts.
+     */
+    public static int hashOf(Expr left, TokenType operator, Expr right) {
+        return (left.structuralHash() * 31 + operatorHash(operator)) * 31 + right.structuralHash();
     }
 
     // @HINT: It calls the specific visit method on the visitor intended for Binary nodes.
@@ -39,14 +52,23 @@ public class Binary extends Expr {
     }
 
     public final Expr getLeft() {
-        return left.clone();
+        return left;
     }
 
-    public final Token getOperator() {
-        return operator.clone();
+    public final TokenType getOperator() {
+        return operator;
     }
 
     public final Expr getRight() {
-        return right.clone();
+        return right;
+    }
+
+    public final long getSpan() {
+        return span;
+    }
+
+    @Override
+    public final int structuralHash() {
+        return hash;
     }
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
 import java.util.List;
-import java.util.Collections;
 
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 
@@ -15,8 +14,8 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * 
  */
-public class Block extends Stmt {
-    private List<Stmt> stmts = Collections.emptyList();
+public final class Block extends Stmt {
+    private final List<Stmt> stmts;
 
     /**
      * Constructs a new Block of statements
@@ -24,7 +23,7 @@ public class Block extends Stmt {
      * @param statements the list of statements for a block.
      */
     public Block(List<Stmt> statements) {
-        this.stmts = statements;
+        this.stmts = List.copyOf(statements);
     }
 
     @Override
@@ -1,7 +1,7 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
 import com.codedev.antro.compiler.frontend.lexer.Token;
-import com.codedev.antro.complier.frontend.ast.vocabulary.Stmt;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 
 /*
  * Antro Compiler Project
@@ -13,7 +13,7 @@ import com.codedev.antro.complier.frontend.ast.vocabulary.Stmt;
 /**
  * A concrete implementation class for the `break *;` statement.
  */
-public class Break extends Stmt {
+public final class Break extends Stmt {
     private final Token label;
 
     /**
@@ -1,9 +1,7 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
 import java.util.List;
-import java.util.Collections;
 
-import com.codedev.antro.compiler.frontend.lexer.Token;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 
 /*
@@ -16,28 +14,29 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 /**
  * Represents a function or method call expression.
  * It stores the 'callee' (the expression being called), 
- * the arguments passed to it, and the closing parenthesis for location info.
+ * the arguments passed to it, and its span for location info.
  */
-public class Call extends Expr {
-    private final Token name;
+public final class Call extends Expr {
+    private final String name;
     private final Expr callee;
-    private final Token paren;
+    // The span from the function name up to the closing parenthesis (see `Span`)
+    private final long span;
 
-    private List<Expr> arguments = Collections.emptyList();
+    private final List<Expr> arguments;
 
     /**
      * Constructs a new Call expression.
      * 
-     * @param name      The token holding the function name.
+     * @param name      The function name.
      * @param callee    The expression representing the function.
-     * @param paren     The closing parenthesis token.
      * @param arguments The list of argument expressions.
+     * @param span      The span from the function name up to the closing parenthesis.
      */
-    public Call(Token name, Expr callee, Token paren, List<Expr> arguments) {
+    public Call(String name, Expr callee, List<Expr> arguments, long span) {
         this.name = name;
         this.callee = callee;
-        this.paren = paren;
-        this.arguments = arguments;
+        this.arguments = List.copyOf(arguments);
+        this.span = span;
     }
 
     /**
@@ -52,7 +51,7 @@ public class Call extends Expr {
     /**
      * Returns the function name
      */
-    public final Token getIdentifier() {
+    public final String getName() {
         return name;
     }
 
@@ -60,14 +59,14 @@ public class Call extends Expr {
      * Returns the expression representing the function being called.
      */
     public final Expr getCallee() {
-        return callee.clone();
+        return callee;
     }
 
     /**
-     * Returns the closing parenthesis token.
+     * Returns the span from the function name up to the closing parenthesis.
      */
-    public final Token getClosingParen() {
-        return paren.clone();
+    public final long getSpan() {
+        return span;
     }
 
     /**
@@ -13,7 +13,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * A concrete implementation class for the `continue *;` statement.
  */
-public class Continue extends Stmt {
+public final class Continue extends Stmt {
     private final Token label;
 
     /**
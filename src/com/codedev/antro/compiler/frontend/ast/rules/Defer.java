@@ -14,7 +14,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
  * invariant assertion and a basic block of statement to
  * exxecute when leaving a function scope.
  */
-public class Defer extends Stmt {
+public final class Defer extends Stmt {
     private final Stmt exprns;
 
     /**
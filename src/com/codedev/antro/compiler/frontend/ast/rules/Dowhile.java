@@ -13,7 +13,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * Represents a `do { * } while(*)` loop.
  */
-public class Dowhile extends Stmt {
+public final class Dowhile extends Stmt {
     private final Expr cond;
     private final Stmt body;
 
@@ -34,7 +34,7 @@ public class Dowhile extends Stmt {
     }
 
     public final Expr getCondition() {
-        return cond.clone();
+        return cond;
     }
 
     public final Stmt getBody() {
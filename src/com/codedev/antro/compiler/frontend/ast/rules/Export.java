@@ -1,7 +1,6 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
 import java.util.List;
-import java.util.Collections;
 
 import com.codedev.antro.compiler.frontend.lexer.Token;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
@@ -16,8 +15,8 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * A conrete implementation for the `export *, *, *;` statement.
  */
-public class Export extends Stmt {
-    private List<Token> members = Collections.emptyList();
+public final class Export extends Stmt {
+    private final List<Token> members;
 
     /**
      * Constructs a new Export statement
@@ -25,7 +24,7 @@ public class Export extends Stmt {
      * @param _members the list of exported definitions.
      */
     public Export(List<Token> _members) {
-        this.members = _members;
+        this.members = List.copyOf(_members);
     }
 
     @Override
@@ -15,7 +15,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * Represents a set of expressions that are located within a block.
  */
-public class ExpressionSet extends Stmt {
+public final class ExpressionSet extends Stmt {
     private final List<Expr> exprsns;
 
     /**
@@ -23,8 +23,8 @@ public class ExpressionSet extends Stmt {
      * 
      * @param expressions
      */
-    public ExpressionSet(Expr expressions) {
-        this.exprsns = expressions;
+    public ExpressionSet(List<Expr> expressions) {
+        this.exprsns = List.copyOf(expressions);
     }
 
     // @HINT: It calls the specific visit method on the visitor intended for ExpressionSet nodes.
@@ -14,7 +14,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
  * Represents a for loop and all its parts including the statments
  * within its body.
  */
-public class For extends Stmt {
+public final class For extends Stmt {
     private final Stmt init;
     private final Expr cond;
     private final Expr incrmt;
@@ -43,11 +43,11 @@ public class For extends Stmt {
     }
 
     public final Expr getCondition() {
-        return cond.clone();
+        return cond;
     }
 
     public final Expr getIncrement() {
-        return incrmt.clone();
+        return incrmt;
     }
 
     public final Stmt getBody() {
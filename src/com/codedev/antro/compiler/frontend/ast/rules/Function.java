@@ -1,10 +1,12 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import com.codedev.antro.compiler.frontend.lexer.Token;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
+import com.codedev.antro.compiler.frontend.contracts.concerns.DeferredParseException;
 
 /*
  * Antro Compiler Project
@@ -18,11 +20,16 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
  * It stores the name of the. function being ddefined as well as
  * the list of parameters and the set of statements that make up
  * the body of the function definition..
+ *
+ * The body may be deferred (i.e. only its tokens were kept by the Parser),
+ * in which case it is parsed the first time `getBody()` is called.
  */
-public class Function extends Stmt {
+public final class Function extends Stmt {
     private final Token name;
     private final List<Token> params;
-    private final Stmt body;
+    private volatile Stmt body;
+    // Parses the body on first use (null once parsed, or if parsed up front)
+    private Supplier<Stmt> deferredBody;
     public final boolean globalFlag;
 
     /**
@@ -38,8 +45,28 @@ public class Function extends Stmt {
                  Stmt body,
                  boolean globalFlag) {
         this.name = name;
-        this.params = params;
+        this.params = List.copyOf(params);
         this.body = body;
+        this.deferredBody = null;
+        this.globalFlag = globalFlag;
+    }
+
+    /**
+     * Constructs a new Function block whose body is parsed on demand
+     * 
+     * @param name the name of the function.
+     * @param params the list of function paramenters.
+     * @param deferredBody the parser of the body of statements within the function definition.
+     * @param globalFlag the boolean flag signaling the lexical scope.
+     */
+    public Function(Token name, 
+                 List<Token> params, 
+                 Supplier<Stmt> deferredBody,
+                 boolean globalFlag) {
+        this.name = name;
+        this.params = List.copyOf(params);
+        this.body = null;
+        this.deferredBody = deferredBody;
         this.globalFlag = globalFlag;
     }
 
@@ -50,14 +77,38 @@ public class Function extends Stmt {
     }
 
     public final Token getName () {
-        return name.clone();
+        return name;
     }
 
     public final List<Token> getParameters () {
         return params;
     }
 
+    /**
+     * Retrieves the body, parsing it first if it was deferred.
+     *
+     * @throws DeferredParseException if a deferred body has syntax errors.
+     */
     public final Stmt getBody () {
-        return body;
+        Stmt parsedBody = body;
+
+        if (parsedBody == null) {
+            synchronized (this) {
+                if (body == null && deferredBody != null) {
+                    body = deferredBody.get();
+                    // @HINT: Let go of the body's tokens once they are parsed
+                    deferredBody = null;
+                }
+                parsedBody = body;
+            }
+        }
+        return parsedBody;
+    }
+
+    /**
+     * Checks if the body is already parsed (i.e. `getBody()` would not parse it).
+     */
+    public final boolean isBodyParsed () {
+        return body != null;
     }
 }
\ No newline at end of file
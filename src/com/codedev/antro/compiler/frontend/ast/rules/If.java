@@ -17,7 +17,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
  * It stores the `if` condition, the then block (i.e. a set of statments)
  * as well as the `else` block and any `else if` conditions and block. 
  */
-public class If extends Stmt {
+public final class If extends Stmt {
     private final Expr cond;
     private final Stmt ifBrch;
     private final List<Stmt> elIfStmts;
@@ -37,7 +37,7 @@ public class If extends Stmt {
                  Stmt elseBranch) {
         this.cond = condition;
         this.ifBrch = ifBranch;
-        this.elIfStmts = elifBranches;
+        this.elIfStmts = List.copyOf(elifBranches);
         this.elseBrch = elseBranch;
     }
 
@@ -47,7 +47,7 @@ public class If extends Stmt {
     }
 
     public final Expr getCondition() {
-        return cond.clone();
+        return cond;
     }
 
     public final Stmt getIfBranch() {
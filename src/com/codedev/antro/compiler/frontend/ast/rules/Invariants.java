@@ -1,7 +1,6 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
 import java.util.List;
-import java.util.Collections;
 
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
@@ -16,9 +15,9 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * A concrete implementation of the `invariants` block
  */
-public class Invariants extends Stmt {
-    private List<Expr> exprList = Collections.emptyList();
-    private List<Stmt> stmtList = Collections.emptyList();
+public final class Invariants extends Stmt {
+    private final List<Expr> exprList;
+    private final List<Stmt> stmtList;
 
     /**
      * Constructs a new Invariants block
@@ -26,7 +25,8 @@ public class Invariants extends Stmt {
      * @param _exprList list if expression for `invariants` block.
      */
     public Invariants (List<Expr> _exprList) {
-        this.exprList = _exprList;
+        this.exprList = List.copyOf(_exprList);
+        this.stmtList = List.of();
     }
 
     /**
@@ -35,7 +35,8 @@ public class Invariants extends Stmt {
      * @param _stmtList list of statements for `invariants` block.
      */
     public Invariants (List<Stmt> _stmtList) {
-        this.stmtList = _stmtList;
+        this.exprList = List.of();
+        this.stmtList = List.copyOf(_stmtList);
     }
 
     @Override
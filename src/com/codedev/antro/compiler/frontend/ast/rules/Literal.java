@@ -14,8 +14,9 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
  * A Literal expression represents a constant value in the source code,
  * such as a number, a string, or a boolean (e.g., 42, "hello", or true).
  */
-public class Literal extends Expr {
+public final class Literal extends Expr {
     private final Object value;
+    private final int hash;
 
     /**
      * Constructs a new Literal expression.
@@ -24,6 +25,14 @@ public class Literal extends Expr {
      */
     public Literal(Object value) {
         this.value = value;
+        this.hash = hashOf(value);
+    }
+
+    /**
+     * Hashes the structure of a Literal expression (i.e. its value and type).
+     */
+    public static int hashOf(Object value) {
+        return value == null ? 0 : value.getClass().getName().hashCode() * 31 + value.hashCode();
     }
 
     /**
@@ -36,11 +45,12 @@ public class Literal extends Expr {
     }
 
     public final Object getValue() {
-        try {
-            return value.clone();
-        } catch (CloneNotSupportedException e) {
-            return value;
-        }
+        return value;
+    }
+
+    @Override
+    public final int structuralHash() {
+        return hash;
     }
 }
 
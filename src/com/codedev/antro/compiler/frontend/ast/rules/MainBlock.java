@@ -1,7 +1,6 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
 import java.util.List;
-import java.util.Collections;
 
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
@@ -16,9 +15,9 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * 
  */
-public class MainBlock extends Stmt {
-    private List<Token> params = Collections.emptyList();
-    private List<Stmt> body = Collections.emptyList();
+public final class MainBlock extends Stmt {
+    private final List<Token> params;
+    private final List<Stmt> body;
 
     /**
      * Constructs a new Main function (entry point)
@@ -27,8 +26,8 @@ public class MainBlock extends Stmt {
      * @param _body the body of statements for the main function.
      */
     public MainBlock (List<Token> _params, List<Stmt> _body) {
-        this.params = _params;
-        this.body = _body;
+        this.params = List.copyOf(_params);
+        this.body = List.copyOf(_body);
     }
 
     @Override
@@ -13,7 +13,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * 
  */
-public class Module extends Stmt {
+public final class Module extends Stmt {
     private final Token path;
 
     /**
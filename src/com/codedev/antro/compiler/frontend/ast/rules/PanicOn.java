@@ -13,7 +13,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * A concrete implementation for the `panic_on *;` statement.
  */
-public class PanicOn extends Stmt {
+public final class PanicOn extends Stmt {
     private final Token errorVar;
 
     /**
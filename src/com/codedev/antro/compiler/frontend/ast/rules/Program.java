@@ -1,7 +1,6 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
 import java.util.List;
-import java.util.Collections;
 
 import com.codedev.antro.compiler.frontend.lexer.Token;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
@@ -21,9 +20,9 @@ import com.codedev.antro.compiler.frontend.ast.rule.MainBlock;
 /**
  * 
  */
-public class Program extends Stmt {
-    private List<Require> requires = Collections.emptyList();
-    private List<Stmt> definitions = Collections.emptyList();
+public final class Program extends Stmt {
+    private final List<Require> requires;
+    private final List<Stmt> definitions;
 
     private final Module module;
     private final Export exportLn;
@@ -43,8 +42,8 @@ public class Program extends Stmt {
         List<Stmt> _definitions,
         MainBlock _main,
         Export _export) {
-        this.requires = _requires;
-        this.definitions = _definitions;
+        this.requires = List.copyOf(_requires);
+        this.definitions = List.copyOf(_definitions);
         this.module = _module;
         this.exportLn = _export;
         this.mainBlk = _main;
@@ -13,7 +13,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * Represents the module loading facilities for source files.
  */
-public class Require extends Stmt {
+public final class Require extends Stmt {
     private final Token path;
     private final Token namespace;
 
@@ -15,7 +15,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * A concreate implementation of the `retn *;` statement
  */
-public class Return extends Stmt {
+public final class Return extends Stmt {
     private final Expr value;
 
     /**
@@ -32,7 +32,7 @@ public class Return extends Stmt {
         return visitor.visitReturn(this);
     }
 
-    public final Token getValue() {
+    public final Expr getValue() {
         return value;
     }
 }
\ No newline at end of file
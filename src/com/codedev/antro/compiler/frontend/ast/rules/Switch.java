@@ -1,7 +1,6 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
 import java.util.List;
-import java.util.Collections;
 
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
@@ -16,24 +15,24 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * 
  */
-public class Switch extends Stmt {
-    private final List<Case> cases = Collections.emptyList();
+public final class Switch extends Stmt {
+    private final List<Case> cases;
 
     private final Expr exprsn;
     private final Stmt defltBrch;
 
     // @HINT: Prefer an inner class definition here.
-    public class Case {
+    public static final class Case {
         private final Expr value;
         private final List<Stmt> body;
 
         public Case (Expr value, List<Stmt> body) {
             this.value = value;
-            this.body = body;
+            this.body = List.copyOf(body);
         }
 
         public final Expr getValue() {
-            return value.clone();
+            return value;
         }
 
         public final List<Stmt> getBody() {
@@ -52,7 +51,7 @@ public class Switch extends Stmt {
                  List<Case> cases, 
                  Stmt defaultBranch) {
         this.exprsn = expression;
-        this.cases = cases;
+        this.cases = List.copyOf(cases);
         this.defltBrch = defaultBranch;
     }
 
@@ -63,7 +62,7 @@ public class Switch extends Stmt {
     }
 
     public final Expr getExpression() {
-        return exprsn.clone();
+        return exprsn;
     }
 
     public final List<Case> getCaseBranches() {
@@ -9,13 +9,13 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Attribution;
 /**
  * Represents ...
  */
-public class Trial extends Expr {
+public final class Trial extends Expr {
     private final Expr prefix;
     private final Call call;
     private final List<Trial.Chain> chains;
 
     // @HINT: Prefer inner class defintion here.
-    public class Chain {
+    public static final class Chain {
         private final Token type;
         private final Attribution value;
 
@@ -29,7 +29,7 @@ public class Trial extends Expr {
         }
 
         public final Token getType() {
-            return type.clone();
+            return type;
         }
     }
 
@@ -45,7 +45,7 @@ public class Trial extends Expr {
                 List<Trial.Chain> chains) {
         this.prefix = prefixString;
         this.call = call;
-        this.chains = chains;
+        this.chains = List.copyOf(chains);
     }
 
     // @HINT: It calls the specific visit method on the visitor intended for a Trial node.
@@ -1,6 +1,6 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
-import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 
 /*
@@ -14,19 +14,32 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
  * Represents a unary expression, which consists of an operator 
  * and a single operand (e.g., -5 or !true).
  */
-public class Unary extends Expr {
-    private final Token operator;
+public final class Unary extends Expr {
+    private final TokenType operator;
     private final Expr right;
+    // The span of the operator (see `Span`)
+    private final long span;
+    private final int hash;
 
     /**
      * Constructs a new Unary statement
      * 
      * @param operator
      * @param right
+     * @param span the span of the operator.
      */
-    public Unary(Token operator, Expr right) {
+    public Unary(TokenType operator, Expr right, long span) {
         this.operator = operator;
         this.right = right;
+        this.span = span;
+        this.hash = hashOf(operator, right);
+    }
+
+    /**
+     * Hashes the structure of a Unary expression from its parts.
+     */
+    public static int hashOf(TokenType operator, Expr right) {
+        return operatorHash(operator) * 31 + right.structuralHash();
     }
 
     /**
@@ -38,11 +51,20 @@ public class Unary extends Expr {
         return visitor.visitUnary(this);
     }
 
-    public final Token getOperator() {
-        return operator.clone();
+    public final TokenType getOperator() {
+        return operator;
     }
 
     public final Expr getRight() {
-        return right.clone();
+        return right;
+    }
+
+    public final long getSpan() {
+        return span;
+    }
+
+    @Override
+    public final int structuralHash() {
+        return hash;
     }
 }
\ No newline at end of file
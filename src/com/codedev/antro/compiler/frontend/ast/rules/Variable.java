@@ -1,6 +1,7 @@
 package com.codedev.antro.compiler.frontend.ast.rules;
 
-import com.codedev.antro.compiler.frontend.lexer.Token;
+import java.util.Objects;
+
 import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 
 /*
@@ -12,19 +13,32 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
 
 /**
  * Represents a variable access expression (e.g., 'x' or 'myVar').
- * It stores the name token which is used to look up the variable's value 
+ * It stores the name which is used to look up the variable's value 
  * in the current scope during evaluation.
  */
-public class Variable extends Expr {
-    private final Token name;
+public final class Variable extends Expr {
+    private final String name;
+    // The span of the identifier (see `Span`)
+    private final long span;
+    private final int hash;
 
     /**
      * Constructs a new Variable expression.
      * 
-     * @param name The identifier token for the variable.
+     * @param name The identifier of the variable.
+     * @param span The span of the identifier.
      */
-    public Variable(Token name) {
+    public Variable(String name, long span) {
         this.name = name;
+        this.span = span;
+        this.hash = hashOf(name);
+    }
+
+    /**
+     * Hashes the structure of a Variable expression (i.e. its identifier).
+     */
+    public static int hashOf(String name) {
+        return Objects.hashCode(name);
     }
 
     /**
@@ -37,10 +51,18 @@ public class Variable extends Expr {
     }
 
     /**
-     * Returns the name token of the variable.
-     * Use this in the visitor to get the variable's identifier string.
+     * Returns the identifier of the variable.
      */
-    public final Token getIdentifier() {
-        return name.clone();
+    public final String getName() {
+        return name;
+    }
+
+    public final long getSpan() {
+        return span;
+    }
+
+    @Override
+    public final int structuralHash() {
+        return hash;
     }
 }
\ No newline at end of file
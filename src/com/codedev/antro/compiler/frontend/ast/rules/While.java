@@ -13,7 +13,7 @@ import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
 /**
  * Represents a `while` block
  */
-public class While extends Stmt {
+public final class While extends Stmt {
     private final Expr cond;
     private final Stmt body;
 
@@ -35,7 +35,7 @@ public class While extends Stmt {
     }
 
     public final Expr getCondition() {
-        return cond.clone();
+        return cond;
     }
 
     public final Stmt getBody() {
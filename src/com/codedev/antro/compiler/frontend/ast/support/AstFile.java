@@ -0,0 +1,348 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * A versioned binary format for a parsed AST, written next to the compiled
+ * outputs of a source file so that later tools can load it (lazily, via
+ * `MappedAst`) instead of lexing and parsing the source file again.
+ *
+ * All numbers are big-endian. The file is laid out as follows:
+ *
+ *    header        MAGIC, VERSION (short), flags (short), source size (long),
+ *                  source last-modified millis (long), node count, token count,
+ *                  value count, string count, string bytes, reserved (ints)
+ *    nodes         kind (byte), first child, next sibling, token, value (ints),
+ *                  span (long)
+ *    tokens        type name, image (string indices), line, column, offset,
+ *                  length (ints)
+ *    values        tag (byte), payload (long)
+ *    string pool   string count + 1 start offsets (ints), then the UTF-8 bytes
+ *
+ * Every record is fixed in size, so a node, token or value is found by
+ * its index alone. Missing references are `NodeTable.NO_NODE` (i.e. -1).
+ * A node's kind is stored as its `NodeKind` ordinal, so `VERSION` must be
+ * bumped whenever `NodeKind` changes.
+ */
+public final class AstFile {
+    public static final int MAGIC = 0x414E5441; // "ANTA"
+    public static final short VERSION = 2;
+    public static final String EXTENSION = ".ast";
+    // Where the ASTs of source files outside of the source root go (within the output directory)
+    public static final String EXTERNAL_DIRECTORY = "~external";
+
+    static final int HEADER_SIZE = 48;
+    static final int NODE_RECORD_SIZE = 25;
+    static final int TOKEN_RECORD_SIZE = 24;
+    static final int VALUE_RECORD_SIZE = 9;
+
+    static final byte TAG_INTEGER = 1;
+    static final byte TAG_DOUBLE = 2;
+    static final byte TAG_BOOLEAN = 3;
+    static final byte TAG_STRING = 4;
+    static final byte TAG_TOKEN = 5;
+    static final byte TAG_TOKEN_TYPE = 6;
+
+    private AstFile() {
+    }
+
+    /**
+     * Retrieves where the AST of a source file goes in an output directory,
+     * relative to the working directory (see `pathFor(Path, Path, Path)`).
+     */
+    public static Path pathFor(Path source, Path outputDirectory) {
+        return pathFor(source, Paths.get(""), outputDirectory);
+    }
+
+    /**
+     * Retrieves where the AST of a source file goes in an output directory:
+     * its path below the source root is mirrored there (e.g. `out/a/utils.ast`
+     * for `src/a/utils.antro` with `src` as the root), so that source files
+     * of the same name never share an AST file. A source file outside of
+     * the root is mirrored by its whole (absolute) path, below `EXTERNAL_DIRECTORY`.
+     */
+    public static Path pathFor(Path source, Path sourceRoot, Path outputDirectory) {
+        Path file = source.toAbsolutePath().normalize();
+        Path root = sourceRoot.toAbsolutePath().normalize();
+
+        Path relative = file.startsWith(root) && !file.equals(root)
+            ? root.relativize(file)
+            : Paths.get(EXTERNAL_DIRECTORY).resolve(file.getRoot().relativize(file));
+
+        String fileName = relative.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String astName = (dot > 0 ? fileName.substring(0, dot) : fileName) + EXTENSION;
+
+        Path parent = relative.getParent();
+        return outputDirectory.resolve(parent == null ? Paths.get(astName) : parent.resolve(astName));
+    }
+
+    /**
+     * Writes an AST to a file, stamped with the size and modification time
+     * of the source file it was parsed from. The file is written aside and
+     * then moved into place, so a reader never maps a half-written file.
+     */
+    public static void write(FlatAst ast, Path target, Path source) throws IOException {
+        new Writer(ast).writeTo(target, Files.size(source), Files.getLastModifiedTime(source).toMillis());
+    }
+
+    /**
+     * Maps an AST file into memory. Nothing but the header is read here;
+     * nodes, tokens and strings are decoded as they are asked for.
+     */
+    public static MappedAst open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            if (size < HEADER_SIZE) {
+                throw new IOException("not an AST file: " + file);
+            }
+            // @HINT: The mapping stays valid after the channel is closed
+            return new MappedAst(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), file);
+        }
+    }
+
+    /**
+     * Checks if an AST file exists and was written from the current state
+     * of a source file (i.e. it can be loaded in place of parsing).
+     */
+    public static boolean isFresh(Path file, Path source) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // @INFO: Keep reading until the header is complete (or EOF)
+            }
+        }
+
+        return !header.hasRemaining()
+            && header.getInt(0) == MAGIC
+            && header.getShort(4) == VERSION
+            && header.getLong(8) == Files.size(source)
+            && header.getLong(16) == Files.getLastModifiedTime(source).toMillis();
+    }
+
+    /**
+     * Lays out the tables of an AST and writes them.
+     */
+    private static final class Writer {
+        private final FlatAst ast;
+
+        private final List<Token> tokens = new ArrayList<>();
+        private final Map<Token, Integer> tokenIndices = new IdentityHashMap<>();
+
+        private final List<byte[]> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+        private int stringBytes = 0;
+
+        private final int[] nodeTokens;
+        private final int[] nodeValues;
+        private byte[] valueTags = new byte[16];
+        private long[] valuePayloads = new long[16];
+        private int valueCount = 0;
+
+        // @INFO: Single-argument constructor (Arity = 1)
+        Writer(FlatAst ast) {
+            this.ast = ast;
+            this.nodeTokens = new int[ast.size()];
+            this.nodeValues = new int[ast.size()];
+
+            for (int node = 0; node < ast.size(); node++) {
+                nodeTokens[node] = addToken(ast.getToken(node));
+                nodeValues[node] = addValue(ast.getValue(node));
+            }
+        }
+
+        void writeTo(Path target, long sourceSize, long sourceModified) throws IOException {
+            Path directory = target.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+
+            Path temporary = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+
+            try {
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                    writeHeader(out, sourceSize, sourceModified);
+                    writeNodes(out);
+                    writeTokens(out);
+                    writeValues(out);
+                    writeStrings(out);
+                }
+
+                try {
+                    Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+
+        private void writeHeader(DataOutputStream out, long sourceSize, long sourceModified) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(0);
+            out.writeLong(sourceSize);
+            out.writeLong(sourceModified);
+            out.writeInt(ast.size());
+            out.writeInt(tokens.size());
+            out.writeInt(valueCount);
+            out.writeInt(strings.size());
+            out.writeInt(stringBytes);
+            out.writeInt(0);
+        }
+
+        private void writeNodes(DataOutputStream out) throws IOException {
+            for (int node = 0; node < ast.size(); node++) {
+                out.writeByte(ast.getKind(node).ordinal());
+                out.writeInt(ast.getFirstChild(node));
+                out.writeInt(ast.getNextSibling(node));
+                out.writeInt(nodeTokens[node]);
+                out.writeInt(nodeValues[node]);
+                out.writeLong(ast.getSpan(node));
+            }
+        }
+
+        private void writeTokens(DataOutputStream out) throws IOException {
+            for (Token token : tokens) {
+                out.writeInt(addString(token.getType().name()));
+                out.writeInt(addString(token.getImage()));
+                out.writeInt(token.getLineNumber());
+                out.writeInt(token.getColumnNumber());
+                out.writeInt(token.getOffset());
+                out.writeInt(token.getLength());
+            }
+        }
+
+        private void writeValues(DataOutputStream out) throws IOException {
+            for (int value = 0; value < valueCount; value++) {
+                out.writeByte(valueTags[value]);
+                out.writeLong(valuePayloads[value]);
+            }
+        }
+
+        private void writeStrings(DataOutputStream out) throws IOException {
+            int offset = 0;
+
+            for (byte[] string : strings) {
+                out.writeInt(offset);
+                offset += string.length;
+            }
+            out.writeInt(offset);
+
+            for (byte[] string : strings) {
+                out.write(string);
+            }
+        }
+
+        private int addToken(Token token) {
+            if (token == null) {
+                return NodeTable.NO_NODE;
+            }
+
+            Integer index = tokenIndices.get(token);
+
+            if (index == null) {
+                index = tokens.size();
+                tokens.add(token);
+                tokenIndices.put(token, index);
+
+                // @HINT: Pool the strings now, so that the header knows their count up front
+                addString(token.getType().name());
+                addString(token.getImage());
+            }
+            return index;
+        }
+
+        private int addValue(Object value) {
+            if (value == null) {
+                return NodeTable.NO_NODE;
+            }
+
+            byte tag;
+            long payload;
+
+            if (value instanceof Integer) {
+                tag = TAG_INTEGER;
+                payload = (Integer) value;
+            } else if (value instanceof Double) {
+                tag = TAG_DOUBLE;
+                payload = Double.doubleToRawLongBits((Double) value);
+            } else if (value instanceof Boolean) {
+                tag = TAG_BOOLEAN;
+                payload = ((Boolean) value) ? 1 : 0;
+            } else if (value instanceof String) {
+                tag = TAG_STRING;
+                payload = addString((String) value);
+            } else if (value instanceof Token) {
+                tag = TAG_TOKEN;
+                payload = addToken((Token) value);
+            } else if (value instanceof TokenType) {
+                tag = TAG_TOKEN_TYPE;
+                payload = addString(((TokenType) value).name());
+            } else {
+                throw new IllegalArgumentException("cannot store a node value of type " + value.getClass().getName());
+            }
+
+            if (valueCount == valueTags.length) {
+                valueTags = Arrays.copyOf(valueTags, valueCount * 2);
+                valuePayloads = Arrays.copyOf(valuePayloads, valueCount * 2);
+            }
+            valueTags[valueCount] = tag;
+            valuePayloads[valueCount] = payload;
+
+            return valueCount++;
+        }
+
+        private int addString(String string) {
+            if (string == null) {
+                return NodeTable.NO_NODE;
+            }
+
+            Integer index = stringIndices.get(string);
+
+            if (index == null) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+                index = strings.size();
+                strings.add(bytes);
+                stringIndices.put(string, index);
+                stringBytes += bytes.length;
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
+import com.codedev.antro.compiler.frontend.contracts.concerns.DeferredParseException;
+
+import com.codedev.antro.compiler.frontend.ast.rules.Assignment;
+import com.codedev.antro.compiler.frontend.ast.rules.Call;
+import com.codedev.antro.compiler.frontend.ast.rules.Export;
+import com.codedev.antro.compiler.frontend.ast.rules.Function;
+import com.codedev.antro.compiler.frontend.ast.rules.Program;
+import com.codedev.antro.compiler.frontend.ast.rules.Require;
+import com.codedev.antro.compiler.frontend.ast.rules.Variable;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * An index over the tree of a module, built in a single walk: its `Call`
+ * nodes by callee name, `Variable` nodes and `Assignment` nodes by name,
+ * top-level `Function` definitions (i.e. `def:`) by name, and its
+ * `Require` / `Export` entries. Local `var` functions are not indexed by
+ * name (they are only visible in their enclosing function), though they
+ * are still reported as the enclosing function of a `Site`.
+ * Queries (e.g. all call sites of `factorUpBy2`) are then map lookups
+ * instead of a pass over the tree each.
+ *
+ *    AstIndex index = AstIndex.of(program);
+ *
+ *    for (AstIndex.Site<Call> site : index.getCallSites("factorUpBy2")) {
+ *        // site.getNode().getSpan(), site.getFunction() ...
+ *    }
+ *
+ * The index is a snapshot: it does not follow later edits to the tree
+ * (e.g. an incremental reparse), so it has to be built again after one.
+ * Building it parses every deferred function body.
+ */
+public final class AstIndex {
+    private final Map<String, List<Site<Call>>> callSites = new HashMap<>();
+    private final Map<String, List<Site<Variable>>> references = new HashMap<>();
+    private final Map<String, List<Site<Assignment>>> assignments = new HashMap<>();
+    private final Map<String, Function> functions = new LinkedHashMap<>();
+    private final List<Require> requires = new ArrayList<>();
+    private final Map<String, Token> exports = new LinkedHashMap<>();
+
+    private AstIndex() {
+    }
+
+    /**
+     * Builds the index of a module.
+     *
+     * @throws DeferredParseException if a deferred function body has syntax errors.
+     */
+    public static AstIndex of(Program program) {
+        AstIndex index = new AstIndex();
+
+        new AstWalker() {
+            // The functions enclosing the node being entered (innermost first)
+            private final Deque<Function> functionStack = new ArrayDeque<>();
+
+            @Override
+            protected Visit enter(Stmt stmt) {
+                if (stmt instanceof Function function) {
+                    if (function.globalFlag) {
+                        // @INFO: A redefinition does not displace the first definition of a name
+                        index.functions.putIfAbsent(function.getName().getImage(), function);
+                    }
+                    functionStack.push(function);
+                } else if (stmt instanceof Require require) {
+                    index.requires.add(require);
+                    // @HINT: Nothing to index below a `require` (i.e. it only holds tokens)
+                    return Visit.SKIP_SUBTREE;
+                } else if (stmt instanceof Export export) {
+                    for (Token member : export.getMembers()) {
+                        index.exports.putIfAbsent(member.getImage(), member);
+                    }
+                    return Visit.SKIP_SUBTREE;
+                }
+                return Visit.CONTINUE;
+            }
+
+            @Override
+            protected void exit(Stmt stmt) {
+                if (stmt instanceof Function) {
+                    functionStack.pop();
+                }
+            }
+
+            @Override
+            protected Visit enter(Expr expr) {
+                if (expr instanceof Call call) {
+                    add(index.callSites, call.getName(), call);
+                } else if (expr instanceof Variable variable) {
+                    add(index.references, variable.getName(), variable);
+                } else if (expr instanceof Assignment assignment) {
+                    add(index.assignments, assignment.getName(), assignment);
+                }
+                return Visit.CONTINUE;
+            }
+
+            private <T> void add(Map<String, List<Site<T>>> map, String name, T node) {
+                if (name != null) {
+                    map.computeIfAbsent(name, key -> new ArrayList<>()).add(new Site<>(node, functionStack.peek()));
+                }
+            }
+        }.walk(program);
+
+        return index;
+    }
+
+    /**
+     * Retrieves the calls of a function by name, in source order.
+     */
+    public final List<Site<Call>> getCallSites(String name) {
+        return lookup(callSites, name);
+    }
+
+    /**
+     * Retrieves the reads of a variable (or constant) by name, in source order.
+     */
+    public final List<Site<Variable>> getReferences(String name) {
+        return lookup(references, name);
+    }
+
+    /**
+     * Retrieves the assignments to a variable by name, in source order.
+     */
+    public final List<Site<Assignment>> getAssignments(String name) {
+        return lookup(assignments, name);
+    }
+
+    /**
+     * Retrieves the names of all functions called in the module.
+     */
+    public final Set<String> getCalledNames() {
+        return Collections.unmodifiableSet(callSites.keySet());
+    }
+
+    /**
+     * Retrieves a top-level function definition by name (or null if the module defines none).
+     */
+    public final Function getFunction(String name) {
+        return functions.get(name);
+    }
+
+    /**
+     * Retrieves all top-level function definitions, in source order.
+     */
+    public final Collection<Function> getFunctions() {
+        return Collections.unmodifiableCollection(functions.values());
+    }
+
+    public final List<Require> getRequires() {
+        return Collections.unmodifiableList(requires);
+    }
+
+    /**
+     * Retrieves the exported names, in source order.
+     */
+    public final Collection<Token> getExports() {
+        return Collections.unmodifiableCollection(exports.values());
+    }
+
+    public final boolean isExported(String name) {
+        return exports.containsKey(name);
+    }
+
+    private static <T> List<Site<T>> lookup(Map<String, List<Site<T>>> map, String name) {
+        List<Site<T>> sites = map.get(name);
+        return sites == null ? Collections.emptyList() : Collections.unmodifiableList(sites);
+    }
+
+    /**
+     * An occurrence of a node, along with the function it occurs in.
+     */
+    public static final class Site<T> {
+        private final T node;
+        // Null outside of any function (e.g. in the `begin` block)
+        private final Function function;
+
+        private Site(T node, Function function) {
+            this.node = node;
+            this.function = function;
+        }
+
+        public final T getNode() {
+            return node;
+        }
+
+        /**
+         * Retrieves the innermost function the node occurs in (or null if
+         * it occurs outside of any, e.g. in the `begin` block).
+         */
+        public final Function getFunction() {
+            return function;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.codedev.antro.compiler.frontend.lexer.Span;
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Prints an AST (as S-expressions, JSON or Graphviz DOT) straight to an
+ * `Appendable`, in one pass over its nodes (i.e. in time linear in the
+ * size of the tree, with no string built per subtree).
+ *
+ * A tree is printed from its flat form (see `FlatAst`), so a mapped AST
+ * file (see `MappedAst`) prints just the same as a freshly parsed tree.
+ * Each node shows its kind, then its token and value (if any); JSON and
+ * DOT also show its span.
+ *
+ *    new AstPrinter(AstPrinter.Format.JSON).print(program, writer);
+ *
+ * Every piece of output is a separate `append(...)`, so an unbuffered
+ * sink (e.g. a `FileWriter`) should be wrapped in a `BufferedWriter`.
+ */
+public final class AstPrinter {
+    public enum Format {
+        // (KIND token value child...)
+        S_EXPRESSION,
+        // {"kind": ..., "token": ..., "value": ..., "span": [file, start, length], "children": [...]}
+        JSON,
+        // digraph AST { n0 [label="..."]; n0 -> n1; }
+        DOT
+    }
+
+    private final Format format;
+    private final int indentWidth;
+
+    // The node printed at each depth of the walk (i.e. the ancestors of the current node)
+    private int[] path = new int[16];
+
+    // @INFO: Single-argument constructor (Arity = 1)
+    public AstPrinter(Format format) {
+        // pass default value inline
+        this(format, 2);
+    }
+
+    /**
+     * Constructs a new AstPrinter
+     *
+     * @param format the output format.
+     * @param indentWidth the number of spaces per level of nesting (or 0
+     *        to print S-expressions and JSON on a single line).
+     */
+    public AstPrinter(Format format, int indentWidth) {
+        this.format = format;
+        this.indentWidth = Math.max(indentWidth, 0);
+    }
+
+    public void print(Stmt root, Appendable out) throws IOException {
+        print(FlatAst.of(root), out);
+    }
+
+    public void print(Expr root, Appendable out) throws IOException {
+        print(FlatAst.of(root), out);
+    }
+
+    /**
+     * Prints an expression into a string (e.g. for an error message).
+     */
+    public String toString(Expr root) {
+        StringBuilder out = new StringBuilder();
+
+        try {
+            print(root, out);
+        } catch (IOException ex) {
+            // @INFO: A StringBuilder never fails to append
+            throw new IllegalStateException(ex);
+        }
+        return out.toString();
+    }
+
+    public void print(NodeTable table, Appendable out) throws IOException {
+        if (table.size() == 0) {
+            return;
+        }
+
+        if (format == Format.DOT) {
+            out.append("digraph AST {\n");
+            indent(out, 1);
+            out.append("node [shape=box, fontname=\"monospace\"];\n");
+        }
+
+        NodeCursor cursor = table.cursor();
+        open(table, cursor, true, out);
+
+        // @HINT: Pre-order walk by cursor moves alone (i.e. no recursion, no stack of frames)
+        while (true) {
+            if (cursor.gotoFirstChild()) {
+                open(table, cursor, true, out);
+                continue;
+            }
+
+            close(table, cursor, out);
+
+            while (!cursor.gotoNextSibling()) {
+                if (!cursor.gotoParent()) {
+                    if (format == Format.DOT) {
+                        out.append("}\n");
+                    } else if (indentWidth > 0) {
+                        out.append('\n');
+                    }
+                    return;
+                }
+                close(table, cursor, out);
+            }
+            open(table, cursor, false, out);
+        }
+    }
+
+    private void open(NodeTable table, NodeCursor cursor, boolean isFirstChild, Appendable out) throws IOException {
+        int node = cursor.getNode();
+        int depth = cursor.getDepth();
+
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth * 2);
+        }
+        path[depth] = node;
+
+        Token token = table.getToken(node);
+        Object value = table.getValue(node);
+
+        switch (format) {
+            case S_EXPRESSION -> {
+                if (depth > 0) {
+                    breakLine(out, depth);
+                }
+                out.append('(').append(table.getKind(node).name());
+
+                if (token != null) {
+                    out.append(' ');
+                    quote(token.getImage(), out);
+                }
+
+                if (value != null) {
+                    out.append(' ');
+                    printValue(value, out);
+                }
+            }
+            case JSON -> {
+                if (depth > 0) {
+                    if (!isFirstChild) {
+                        out.append(',');
+                    }
+                    breakLine(out, depth);
+                }
+                out.append("{\"kind\": \"").append(table.getKind(node).name()).append('"');
+
+                if (token != null) {
+                    out.append(", \"token\": ");
+                    quote(token.getImage(), out);
+                }
+
+                if (value != null) {
+                    out.append(", \"value\": ");
+                    printValue(value, out);
+                }
+
+                long span = table.getSpan(node);
+
+                if (span != Span.NONE) {
+                    out.append(", \"span\": [")
+                        .append(String.valueOf(Span.getFileId(span))).append(", ")
+                        .append(String.valueOf(Span.getStart(span))).append(", ")
+                        .append(String.valueOf(Span.getLength(span))).append(']');
+                }
+
+                if (table.getFirstChild(node) != NodeTable.NO_NODE) {
+                    out.append(", \"children\": [");
+                }
+            }
+            case DOT -> {
+                indent(out, 1);
+                out.append('n').append(String.valueOf(node)).append(" [label=\"");
+                escape(table.getKind(node).name(), out);
+
+                if (token != null) {
+                    out.append("\\n");
+                    escape(token.getImage(), out);
+                }
+
+                if (value != null) {
+                    out.append("\\n");
+                    escape(valueText(value), out);
+                }
+
+                long span = table.getSpan(node);
+
+                if (span != Span.NONE) {
+                    out.append("\\n@");
+                    escape(Span.toString(span), out);
+                }
+                out.append("\"];\n");
+
+                if (depth > 0) {
+                    indent(out, 1);
+                    out.append('n').append(String.valueOf(path[depth - 1]))
+                        .append(" -> n").append(String.valueOf(node)).append(";\n");
+                }
+            }
+        }
+    }
+
+    private void close(NodeTable table, NodeCursor cursor, Appendable out) throws IOException {
+        switch (format) {
+            case S_EXPRESSION -> out.append(')');
+            case JSON -> {
+                if (table.getFirstChild(cursor.getNode()) != NodeTable.NO_NODE) {
+                    breakLine(out, cursor.getDepth());
+                    out.append(']');
+                }
+                out.append('}');
+            }
+            case DOT -> {
+                // @INFO: Nothing to close (i.e. every node is a line of its own)
+            }
+        }
+    }
+
+    private void breakLine(Appendable out, int depth) throws IOException {
+        if (indentWidth == 0) {
+            out.append(' ');
+        } else {
+            out.append('\n');
+            indent(out, depth);
+        }
+    }
+
+    private void indent(Appendable out, int depth) throws IOException {
+        for (int count = depth * indentWidth; count > 0; count--) {
+            out.append(' ');
+        }
+    }
+
+    private void printValue(Object value, Appendable out) throws IOException {
+        if (value instanceof Number || value instanceof Boolean) {
+            out.append(value.toString());
+        } else {
+            quote(valueText(value), out);
+        }
+    }
+
+    private static String valueText(Object value) {
+        if (value instanceof Token) {
+            return ((Token) value).getImage();
+        }
+
+        if (value instanceof TokenType) {
+            return ((TokenType) value).getSymbol();
+        }
+        return String.valueOf(value);
+    }
+
+    private static void quote(String text, Appendable out) throws IOException {
+        out.append('"');
+        escape(text, out);
+        out.append('"');
+    }
+
+    /**
+     * Escapes a string for a quoted JSON string, S-expression string or
+     * DOT label (i.e. the escapes the three have in common).
+     */
+    private static void escape(String text, Appendable out) throws IOException {
+        if (text == null) {
+            return;
+        }
+
+        for (int index = 0; index < text.length(); index++) {
+            char c = text.charAt(index);
+
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Walks a tree in pre-order, calling `enter(...)` before a node's children
+ * and `exit(...)` after them. A pass overrides only the hooks it needs
+ * (i.e. unlike `Expr.Visitor` / `Stmt.Visitor`, there is no method per
+ * node kind to implement) and picks out the kinds it cares about with a
+ * pattern match:
+ *
+ *    new AstWalker() {
+ *        @Override
+ *        protected Visit enter(Stmt stmt) {
+ *            // @HINT: Calls never occur in imports, so leave them unvisited
+ *            return stmt instanceof Require ? Visit.SKIP_SUBTREE : Visit.CONTINUE;
+ *        }
+ *
+ *        @Override
+ *        protected Visit enter(Expr expr) {
+ *            if (expr instanceof Call call) {
+ *                // ...
+ *            }
+ *            return Visit.CONTINUE;
+ *        }
+ *    }.walk(program);
+ *
+ * Children are listed by `NodeChildren` (i.e. a type switch over the
+ * sealed `Stmt` / `Expr` hierarchies, in the same order as in a `FlatAst`),
+ * and the walk keeps its own stack, so its depth is only limited by the
+ * heap. A `switch` case or a `try` chain has no hooks of its own: its
+ * parts are walked as if they were children of the `Switch` or `Trial`.
+ */
+public abstract class AstWalker {
+    /**
+     * What a walk does after entering a node.
+     */
+    public enum Visit {
+        // Go on with the node's children
+        CONTINUE,
+        // Leave the node's children out (e.g. a deferred function body is then never parsed)
+        SKIP_SUBTREE,
+        // Stop the whole walk
+        TERMINATE
+    }
+
+    // The work stack: nodes left to enter (or, when flagged, to exit)
+    private Object[] stackNodes = new Object[64];
+    private boolean[] stackExits = new boolean[64];
+    private int stackSize = 0;
+
+    // The children of the node being entered (pushed in reverse once all are known)
+    private final List<Object> children = new ArrayList<>();
+    private final ChildCollector sink = new ChildCollector();
+
+    /**
+     * Called before the children of a statement.
+     */
+    protected Visit enter(Stmt stmt) {
+        return Visit.CONTINUE;
+    }
+
+    /**
+     * Called after the children of a statement (also when they were skipped).
+     */
+    protected void exit(Stmt stmt) {
+    }
+
+    /**
+     * Called before the children of an expression.
+     */
+    protected Visit enter(Expr expr) {
+        return Visit.CONTINUE;
+    }
+
+    /**
+     * Called after the children of an expression (also when they were skipped).
+     */
+    protected void exit(Expr expr) {
+    }
+
+    /**
+     * Walks a tree (e.g. a `Program`).
+     *
+     * @return false if the walk was terminated early.
+     */
+    public final boolean walk(Stmt root) {
+        return run(root);
+    }
+
+    public final boolean walk(Expr root) {
+        return run(root);
+    }
+
+    private boolean run(Object root) {
+        stackSize = 0;
+        push(root, false);
+
+        while (stackSize > 0) {
+            stackSize--;
+
+            Object node = stackNodes[stackSize];
+            boolean isExit = stackExits[stackSize];
+
+            stackNodes[stackSize] = null;
+
+            if (isExit) {
+                if (node instanceof Stmt stmt) {
+                    exit(stmt);
+                } else {
+                    exit((Expr) node);
+                }
+                continue;
+            }
+
+            if (node instanceof Stmt || node instanceof Expr) {
+                Visit visit = node instanceof Stmt stmt ? enter(stmt) : enter((Expr) node);
+
+                if (visit == Visit.TERMINATE) {
+                    Arrays.fill(stackNodes, 0, stackSize, null);
+                    stackSize = 0;
+                    return false;
+                }
+
+                push(node, true);
+
+                if (visit == Visit.SKIP_SUBTREE) {
+                    continue;
+                }
+            }
+
+            // @INFO: A `switch` case or `try` chain has no hooks of its own (i.e. only its parts are walked)
+            NodeChildren.list(node, sink);
+
+            for (int index = children.size() - 1; index >= 0; index--) {
+                push(children.get(index), false);
+            }
+            children.clear();
+        }
+        return true;
+    }
+
+    private void push(Object node, boolean isExit) {
+        if (stackSize == stackNodes.length) {
+            stackNodes = Arrays.copyOf(stackNodes, stackSize * 2);
+            stackExits = Arrays.copyOf(stackExits, stackSize * 2);
+        }
+
+        stackNodes[stackSize] = node;
+        stackExits[stackSize++] = isExit;
+    }
+
+    /**
+     * Collects the children `NodeChildren` lists (i.e. the parts that are
+     * there; tokens and assignment targets are not nodes of their own).
+     */
+    private final class ChildCollector implements NodeChildren.Sink {
+        @Override
+        public void child(Object item) {
+            if (item != null) {
+                children.add(item);
+            }
+        }
+
+        @Override
+        public void optionalChild(Object item) {
+            child(item);
+        }
+
+        @Override
+        public void tokens(List<Token> tokens, NodeKind kind) {
+        }
+
+        @Override
+        public void target(String name, long span) {
+        }
+    }
+}
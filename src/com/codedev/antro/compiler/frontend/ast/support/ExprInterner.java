@@ -0,0 +1,104 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
+
+import com.codedev.antro.compiler.frontend.ast.rules.Literal;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Shares the span-free parts of expressions (i.e. what generated code
+ * repeats most): asking twice for the literal of the same value yields the
+ * very same `Literal` node, and asking twice for the same variable name
+ * yields the very same string.
+ *
+ * Nodes that carry a span (i.e. `Variable`, `Unary` and `Binary`) are never
+ * shared, so every occurrence keeps its own span (and diagnostics, indexes
+ * and the like point at the occurrence itself, not at the first one).
+ *
+ * An interner is thread-safe: one may be shared by parses running at the
+ * same time (e.g. the definitions of `ParallelProgramParser`, lazy function
+ * bodies or the files of a `CompilationPipeline`).
+ */
+public final class ExprInterner {
+    // Stands in for the `null` value (i.e. a ConcurrentHashMap holds no null keys)
+    private static final Object NULL_VALUE = new Object();
+
+    private final ConcurrentHashMap<Object, Expr> literals = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> names = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Retrieves the shared `Literal` node of a value (values of different
+     * types, e.g. `1` and `1.0`, never share a node).
+     */
+    public Expr literal(Object value) {
+        Object key = value == null ? NULL_VALUE : value;
+        Expr shared = literals.get(key);
+
+        if (shared == null) {
+            Expr created = new Literal(value);
+            // @HINT: Another parse may have built the same literal in the meantime
+            shared = literals.putIfAbsent(key, created);
+
+            if (shared == null) {
+                return created;
+            }
+        }
+
+        hits.increment();
+        return shared;
+    }
+
+    /**
+     * Retrieves the shared instance of a variable name (i.e. the `Variable`
+     * nodes of every occurrence hold one string rather than a copy each).
+     */
+    public String name(String name) {
+        String shared = names.get(name);
+
+        if (shared == null) {
+            shared = names.putIfAbsent(name, name);
+
+            if (shared == null) {
+                return name;
+            }
+        }
+
+        hits.increment();
+        return shared;
+    }
+
+    /**
+     * Retrieves the number of distinct literals and names kept so far.
+     */
+    public final int size() {
+        return literals.size() + names.size();
+    }
+
+    /**
+     * Retrieves the number of times an existing literal (or name) was handed
+     * out instead of a new one.
+     */
+    public final long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Forgets every literal and name (e.g. between modules, so that their trees share nothing).
+     * Not to be called while a parse is using the interner.
+     */
+    public void clear() {
+        literals.clear();
+        names.clear();
+        hits.reset();
+    }
+}
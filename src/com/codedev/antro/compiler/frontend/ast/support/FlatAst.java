@@ -0,0 +1,436 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.codedev.antro.compiler.frontend.lexer.Span;
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
+
+import com.codedev.antro.compiler.frontend.ast.rules.Assignment;
+import com.codedev.antro.compiler.frontend.ast.rules.Binary;
+import com.codedev.antro.compiler.frontend.ast.rules.Block;
+import com.codedev.antro.compiler.frontend.ast.rules.Break;
+import com.codedev.antro.compiler.frontend.ast.rules.Call;
+import com.codedev.antro.compiler.frontend.ast.rules.Continue;
+import com.codedev.antro.compiler.frontend.ast.rules.Defer;
+import com.codedev.antro.compiler.frontend.ast.rules.Dowhile;
+import com.codedev.antro.compiler.frontend.ast.rules.Export;
+import com.codedev.antro.compiler.frontend.ast.rules.ExpressionSet;
+import com.codedev.antro.compiler.frontend.ast.rules.For;
+import com.codedev.antro.compiler.frontend.ast.rules.Function;
+import com.codedev.antro.compiler.frontend.ast.rules.If;
+import com.codedev.antro.compiler.frontend.ast.rules.Invariants;
+import com.codedev.antro.compiler.frontend.ast.rules.Literal;
+import com.codedev.antro.compiler.frontend.ast.rules.MainBlock;
+import com.codedev.antro.compiler.frontend.ast.rules.Module;
+import com.codedev.antro.compiler.frontend.ast.rules.PanicOn;
+import com.codedev.antro.compiler.frontend.ast.rules.Program;
+import com.codedev.antro.compiler.frontend.ast.rules.Require;
+import com.codedev.antro.compiler.frontend.ast.rules.Return;
+import com.codedev.antro.compiler.frontend.ast.rules.Switch;
+import com.codedev.antro.compiler.frontend.ast.rules.Trial;
+import com.codedev.antro.compiler.frontend.ast.rules.Unary;
+import com.codedev.antro.compiler.frontend.ast.rules.Variable;
+import com.codedev.antro.compiler.frontend.ast.rules.While;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * An AST stored flat (i.e. in a handful of primitive arrays rather than
+ * an object per node). Each node is an index: its kind, first child,
+ * next sibling, token (index into the token table), value (index into
+ * the value table) and span sit at that index of the arrays.
+ *
+ * Nodes are numbered in pre-order (i.e. the root is 0 and a node always
+ * comes before its children), so a whole tree is walked by going up the
+ * indices. The order of each kind's children is set out in `NodeKind`.
+ *
+ *    FlatAst ast = FlatAst.of(program);
+ *    NodeCursor cursor = ast.cursor();
+ *
+ *    if (cursor.gotoFirstChild()) {
+ *        do {
+ *            // ... cursor.getKind(), cursor.getToken()
+ *        } while (cursor.gotoNextSibling());
+ *    }
+ */
+public final class FlatAst implements NodeTable {
+    private static final NodeKind[] KINDS = NodeKind.values();
+
+    private byte[] kinds;
+    private int[] firstChildren;
+    private int[] nextSiblings;
+    private int[] tokenIndices;
+    private int[] valueIndices;
+    private long[] spans;
+    private int size = 0;
+
+    private Token[] tokens;
+    private int tokenCount = 0;
+    private Object[] values;
+    private int valueCount = 0;
+
+    private FlatAst(int capacity) {
+        kinds = new byte[capacity];
+        firstChildren = new int[capacity];
+        nextSiblings = new int[capacity];
+        tokenIndices = new int[capacity];
+        valueIndices = new int[capacity];
+        spans = new long[capacity];
+        tokens = new Token[capacity];
+        values = new Object[Math.max(capacity / 4, 4)];
+    }
+
+    /**
+     * Flattens a tree (e.g. a `Program`, or any statement or expression).
+     * Deferred function bodies are parsed along the way.
+     */
+    public static FlatAst of(Stmt root) {
+        return new Builder(new FlatAst(256)).build(root);
+    }
+
+    public static FlatAst of(Expr root) {
+        return new Builder(new FlatAst(64)).build(root);
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @Override
+    public final NodeKind getKind(int node) {
+        return KINDS[kinds[node]];
+    }
+
+    @Override
+    public final int getFirstChild(int node) {
+        return firstChildren[node];
+    }
+
+    @Override
+    public final int getNextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    @Override
+    public final Token getToken(int node) {
+        int index = tokenIndices[node];
+        return index == NO_NODE ? null : tokens[index];
+    }
+
+    @Override
+    public final Object getValue(int node) {
+        int index = valueIndices[node];
+        return index == NO_NODE ? null : values[index];
+    }
+
+    @Override
+    public final long getSpan(int node) {
+        return spans[node];
+    }
+
+    private int addNode(NodeKind kind) {
+        if (size == kinds.length) {
+            int capacity = size * 2;
+
+            kinds = Arrays.copyOf(kinds, capacity);
+            firstChildren = Arrays.copyOf(firstChildren, capacity);
+            nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+            tokenIndices = Arrays.copyOf(tokenIndices, capacity);
+            valueIndices = Arrays.copyOf(valueIndices, capacity);
+            spans = Arrays.copyOf(spans, capacity);
+        }
+
+        kinds[size] = (byte) kind.ordinal();
+        firstChildren[size] = NO_NODE;
+        nextSiblings[size] = NO_NODE;
+        tokenIndices[size] = NO_NODE;
+        valueIndices[size] = NO_NODE;
+        spans[size] = Span.NONE;
+
+        return size++;
+    }
+
+    private void setToken(int node, Token token) {
+        if (token == null) {
+            return;
+        }
+
+        if (tokenCount == tokens.length) {
+            tokens = Arrays.copyOf(tokens, tokenCount * 2);
+        }
+        tokens[tokenCount] = token;
+        tokenIndices[node] = tokenCount++;
+    }
+
+    private void setValue(int node, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        if (valueCount == values.length) {
+            values = Arrays.copyOf(values, valueCount * 2);
+        }
+        values[valueCount] = value;
+        valueIndices[node] = valueCount++;
+    }
+
+    private void setSpan(int node, long span) {
+        spans[node] = span;
+    }
+
+    private void trim() {
+        kinds = Arrays.copyOf(kinds, size);
+        firstChildren = Arrays.copyOf(firstChildren, size);
+        nextSiblings = Arrays.copyOf(nextSiblings, size);
+        tokenIndices = Arrays.copyOf(tokenIndices, size);
+        valueIndices = Arrays.copyOf(valueIndices, size);
+        spans = Arrays.copyOf(spans, size);
+        tokens = Arrays.copyOf(tokens, tokenCount);
+        values = Arrays.copyOf(values, valueCount);
+    }
+
+    /**
+     * Flattens a tree in pre-order with an explicit work stack (i.e. the
+     * depth of the tree is only limited by the heap). The children of each
+     * node are listed by `NodeChildren`, the same as for an `AstWalker`.
+     */
+    private static final class Builder implements NodeChildren.Sink {
+        private final FlatAst ast;
+
+        // The work stack: what is left to add, as which kind (for tokens), under which parent
+        private Object[] stackItems = new Object[64];
+        private NodeKind[] stackKinds = new NodeKind[64];
+        private int[] stackParents = new int[64];
+        private int stackSize = 0;
+
+        // The latest child added to each node so far
+        private int[] lastChildren = new int[256];
+
+        // The children of the node being added (pushed in reverse once all are known)
+        private final List<Object> childItems = new ArrayList<>();
+        private final List<NodeKind> childKinds = new ArrayList<>();
+
+        Builder(FlatAst ast) {
+            this.ast = ast;
+        }
+
+        FlatAst build(Object root) {
+            push(root, null, NO_NODE);
+
+            while (stackSize > 0) {
+                stackSize--;
+
+                Object item = stackItems[stackSize];
+                NodeKind leafKind = stackKinds[stackSize];
+                int parent = stackParents[stackSize];
+
+                stackItems[stackSize] = null;
+
+                int node = add(item, leafKind, parent);
+
+                for (int index = childItems.size() - 1; index >= 0; index--) {
+                    push(childItems.get(index), childKinds.get(index), node);
+                }
+                childItems.clear();
+                childKinds.clear();
+            }
+
+            ast.trim();
+            return ast;
+        }
+
+        private void push(Object item, NodeKind leafKind, int parent) {
+            if (stackSize == stackItems.length) {
+                stackItems = Arrays.copyOf(stackItems, stackSize * 2);
+                stackKinds = Arrays.copyOf(stackKinds, stackSize * 2);
+                stackParents = Arrays.copyOf(stackParents, stackSize * 2);
+            }
+
+            stackItems[stackSize] = item;
+            stackKinds[stackSize] = leafKind;
+            stackParents[stackSize++] = parent;
+        }
+
+        private int link(NodeKind kind, int parent) {
+            int node = ast.addNode(kind);
+
+            if (node == lastChildren.length) {
+                lastChildren = Arrays.copyOf(lastChildren, node * 2);
+            }
+            lastChildren[node] = NO_NODE;
+
+            if (parent != NO_NODE) {
+                if (ast.firstChildren[parent] == NO_NODE) {
+                    ast.firstChildren[parent] = node;
+                } else {
+                    ast.nextSiblings[lastChildren[parent]] = node;
+                }
+                lastChildren[parent] = node;
+            }
+            return node;
+        }
+
+        @Override
+        public void child(Object item) {
+            childItems.add(item);
+            childKinds.add(item == null ? NodeKind.EMPTY : null);
+        }
+
+        @Override
+        public void optionalChild(Object item) {
+            if (item != null) {
+                child(item);
+            }
+        }
+
+        @Override
+        public void tokens(List<Token> items, NodeKind kind) {
+            for (Token item : items) {
+                childItems.add(item);
+                childKinds.add(kind);
+            }
+        }
+
+        @Override
+        public void target(String name, long span) {
+            child(new Variable(name, span));
+        }
+
+        /**
+         * Adds a node for an item and lists its children.
+         */
+        private int add(Object item, NodeKind leafKind, int parent) {
+            if (leafKind != null) {
+                // @HINT: A token (e.g. a parameter) or a missing optional part
+                int node = link(leafKind, parent);
+                ast.setToken(node, (Token) item);
+                return node;
+            }
+
+            int node;
+
+            if (item instanceof Stmt stmt) {
+                node = add(stmt, parent);
+            } else if (item instanceof Expr expr) {
+                node = add(expr, parent);
+            } else if (item instanceof Trial.Chain chain) {
+                node = link(NodeKind.CHAIN, parent);
+                ast.setToken(node, chain.getType());
+            } else {
+                // @INFO: The only other item `NodeChildren` lists is a `switch` case
+                node = link(NodeKind.CASE, parent);
+            }
+
+            NodeChildren.list(item, this);
+            return node;
+        }
+
+        /**
+         * Adds the node of a statement (i.e. its kind and tokens).
+         */
+        private int add(Stmt stmt, int parent) {
+            // @HINT: No `default`, so a new kind of statement fails to compile here until it is flattened
+            return switch (stmt) {
+                case Program program -> link(NodeKind.PROGRAM, parent);
+                case Module module -> {
+                    int node = link(NodeKind.MODULE, parent);
+                    ast.setToken(node, module.getPath());
+                    yield node;
+                }
+                case Require require -> {
+                    int node = link(NodeKind.REQUIRE, parent);
+                    ast.setToken(node, require.getPath());
+                    ast.setValue(node, require.getNamespace());
+                    yield node;
+                }
+                case Export export -> link(NodeKind.EXPORT, parent);
+                case MainBlock main -> link(NodeKind.MAIN, parent);
+                case Function function -> {
+                    int node = link(NodeKind.FUNCTION, parent);
+                    ast.setToken(node, function.getName());
+                    ast.setValue(node, Boolean.valueOf(function.globalFlag));
+                    yield node;
+                }
+                case Block block -> link(NodeKind.BLOCK, parent);
+                case If ifStmt -> link(NodeKind.IF, parent);
+                case While whileStmt -> link(NodeKind.WHILE, parent);
+                case Dowhile doWhile -> link(NodeKind.DO_WHILE, parent);
+                case For forStmt -> link(NodeKind.FOR, parent);
+                case Switch switchStmt -> link(NodeKind.SWITCH, parent);
+                case ExpressionSet set -> link(NodeKind.EXPRESSION_SET, parent);
+                case Return returnStmt -> link(NodeKind.RETURN, parent);
+                case Break breakStmt -> {
+                    int node = link(NodeKind.BREAK, parent);
+                    ast.setToken(node, breakStmt.getLabel());
+                    yield node;
+                }
+                case Continue continueStmt -> {
+                    int node = link(NodeKind.CONTINUE, parent);
+                    ast.setToken(node, continueStmt.getLabel());
+                    yield node;
+                }
+                case Defer defer -> link(NodeKind.DEFER, parent);
+                case PanicOn panic -> {
+                    int node = link(NodeKind.PANIC, parent);
+                    ast.setToken(node, panic.getErrorVariable());
+                    yield node;
+                }
+                case Invariants invariants -> link(NodeKind.INVARIANTS, parent);
+            };
+        }
+
+        /**
+         * Adds the node of an expression (i.e. its kind, value and span).
+         */
+        private int add(Expr expr, int parent) {
+            return switch (expr) {
+                case Binary binary -> {
+                    int node = link(NodeKind.BINARY, parent);
+                    ast.setValue(node, binary.getOperator());
+                    ast.setSpan(node, binary.getSpan());
+                    yield node;
+                }
+                case Unary unary -> {
+                    int node = link(NodeKind.UNARY, parent);
+                    ast.setValue(node, unary.getOperator());
+                    ast.setSpan(node, unary.getSpan());
+                    yield node;
+                }
+                case Literal literal -> {
+                    int node = link(NodeKind.LITERAL, parent);
+                    ast.setValue(node, literal.getValue());
+                    yield node;
+                }
+                case Variable variable -> {
+                    int node = link(NodeKind.VARIABLE, parent);
+                    ast.setValue(node, variable.getName());
+                    ast.setSpan(node, variable.getSpan());
+                    yield node;
+                }
+                case Assignment assignment -> {
+                    int node = link(NodeKind.ASSIGNMENT, parent);
+                    ast.setValue(node, assignment.getOperator());
+                    ast.setSpan(node, assignment.getSpan());
+                    yield node;
+                }
+                case Call call -> {
+                    int node = link(NodeKind.CALL, parent);
+                    ast.setValue(node, call.getName());
+                    ast.setSpan(node, call.getSpan());
+                    yield node;
+                }
+                case Trial trial -> link(NodeKind.TRIAL, parent);
+            };
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * An AST file (see `AstFile`) mapped into memory and read in place. No
+ * node object is ever built: a node's kind and links are read straight
+ * from the mapped node table, and tokens and strings are decoded the
+ * first time they are asked for (then kept). A tool that only looks at a
+ * few functions only ever touches the pages those functions sit on.
+ *
+ * Not thread-safe (i.e. the decoded tokens and strings are cached
+ * without synchronization); open one per thread.
+ */
+public final class MappedAst implements NodeTable {
+    private static final NodeKind[] KINDS = NodeKind.values();
+
+    private final ByteBuffer buffer;
+
+    private final long sourceSize;
+    private final long sourceModified;
+    private final int nodeCount;
+    private final int tokenCount;
+    private final int valueCount;
+    private final int stringCount;
+
+    // The offsets of the tables in the buffer
+    private final int nodesAt;
+    private final int tokensAt;
+    private final int valuesAt;
+    private final int stringOffsetsAt;
+    private final int stringBytesAt;
+
+    private final Token[] tokens;
+    private final String[] strings;
+
+    // @INFO: Two-argument constructor (Arity = 2)
+    MappedAst(ByteBuffer buffer, Path file) throws IOException {
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != AstFile.MAGIC) {
+            throw new IOException("not an AST file: " + file);
+        }
+
+        if (buffer.getShort(4) != AstFile.VERSION) {
+            throw new IOException("unsupported AST file version " + buffer.getShort(4) + ": " + file);
+        }
+
+        sourceSize = buffer.getLong(8);
+        sourceModified = buffer.getLong(16);
+        nodeCount = buffer.getInt(24);
+        tokenCount = buffer.getInt(28);
+        valueCount = buffer.getInt(32);
+        stringCount = buffer.getInt(36);
+
+        long stringBytes = buffer.getInt(40);
+        long end = AstFile.HEADER_SIZE
+            + (long) nodeCount * AstFile.NODE_RECORD_SIZE
+            + (long) tokenCount * AstFile.TOKEN_RECORD_SIZE
+            + (long) valueCount * AstFile.VALUE_RECORD_SIZE
+            + (long) (stringCount + 1) * Integer.BYTES
+            + stringBytes;
+
+        if (nodeCount < 0 || tokenCount < 0 || valueCount < 0 || stringCount < 0 || end != buffer.capacity()) {
+            throw new IOException("truncated or corrupt AST file: " + file);
+        }
+
+        nodesAt = AstFile.HEADER_SIZE;
+        tokensAt = nodesAt + nodeCount * AstFile.NODE_RECORD_SIZE;
+        valuesAt = tokensAt + tokenCount * AstFile.TOKEN_RECORD_SIZE;
+        stringOffsetsAt = valuesAt + valueCount * AstFile.VALUE_RECORD_SIZE;
+        stringBytesAt = stringOffsetsAt + (stringCount + 1) * Integer.BYTES;
+
+        tokens = new Token[tokenCount];
+        strings = new String[stringCount];
+    }
+
+    /**
+     * Retrieves the size of the source file this AST was parsed from (at the time).
+     */
+    public final long getSourceSize() {
+        return sourceSize;
+    }
+
+    /**
+     * Retrieves the last-modified time (in millis) of the source file this
+     * AST was parsed from (at the time).
+     */
+    public final long getSourceModified() {
+        return sourceModified;
+    }
+
+    @Override
+    public final int size() {
+        return nodeCount;
+    }
+
+    @Override
+    public final NodeKind getKind(int node) {
+        return KINDS[buffer.get(nodeAt(node))];
+    }
+
+    @Override
+    public final int getFirstChild(int node) {
+        return buffer.getInt(nodeAt(node) + 1);
+    }
+
+    @Override
+    public final int getNextSibling(int node) {
+        return buffer.getInt(nodeAt(node) + 5);
+    }
+
+    @Override
+    public final Token getToken(int node) {
+        return tokenAt(buffer.getInt(nodeAt(node) + 9));
+    }
+
+    @Override
+    public final long getSpan(int node) {
+        return buffer.getLong(nodeAt(node) + 17);
+    }
+
+    @Override
+    public final Object getValue(int node) {
+        int index = buffer.getInt(nodeAt(node) + 13);
+
+        if (index == NO_NODE) {
+            return null;
+        }
+
+        int record = valuesAt + index * AstFile.VALUE_RECORD_SIZE;
+        long payload = buffer.getLong(record + 1);
+
+        switch (buffer.get(record)) {
+            case AstFile.TAG_INTEGER:
+                return Integer.valueOf((int) payload);
+            case AstFile.TAG_DOUBLE:
+                return Double.valueOf(Double.longBitsToDouble(payload));
+            case AstFile.TAG_BOOLEAN:
+                return Boolean.valueOf(payload != 0);
+            case AstFile.TAG_STRING:
+                return stringAt((int) payload);
+            case AstFile.TAG_TOKEN:
+                return tokenAt((int) payload);
+            case AstFile.TAG_TOKEN_TYPE:
+                return TokenType.valueOf(stringAt((int) payload));
+            default:
+                throw new IllegalStateException("corrupt AST file: unknown value tag " + buffer.get(record));
+        }
+    }
+
+    private int nodeAt(int node) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IndexOutOfBoundsException("node " + node + " of " + nodeCount);
+        }
+        return nodesAt + node * AstFile.NODE_RECORD_SIZE;
+    }
+
+    private Token tokenAt(int index) {
+        if (index == NO_NODE) {
+            return null;
+        }
+
+        Token token = tokens[index];
+
+        if (token == null) {
+            int record = tokensAt + index * AstFile.TOKEN_RECORD_SIZE;
+
+            token = new Token(
+                TokenType.valueOf(stringAt(buffer.getInt(record))),
+                stringAt(buffer.getInt(record + 4)),
+                buffer.getInt(record + 8),
+                buffer.getInt(record + 12),
+                buffer.getInt(record + 16),
+                buffer.getInt(record + 20)
+            );
+            tokens[index] = token;
+        }
+        return token;
+    }
+
+    private String stringAt(int index) {
+        if (index == NO_NODE) {
+            return null;
+        }
+
+        String string = strings[index];
+
+        if (string == null) {
+            int start = buffer.getInt(stringOffsetsAt + index * Integer.BYTES);
+            int end = buffer.getInt(stringOffsetsAt + (index + 1) * Integer.BYTES);
+            byte[] bytes = new byte[end - start];
+
+            buffer.get(stringBytesAt + start, bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[index] = string;
+        }
+        return string;
+    }
+}
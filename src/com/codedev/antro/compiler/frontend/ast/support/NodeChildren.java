@@ -0,0 +1,197 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+import java.util.List;
+
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Expr;
+import com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt;
+
+import com.codedev.antro.compiler.frontend.ast.rules.Assignment;
+import com.codedev.antro.compiler.frontend.ast.rules.Binary;
+import com.codedev.antro.compiler.frontend.ast.rules.Block;
+import com.codedev.antro.compiler.frontend.ast.rules.Break;
+import com.codedev.antro.compiler.frontend.ast.rules.Call;
+import com.codedev.antro.compiler.frontend.ast.rules.Continue;
+import com.codedev.antro.compiler.frontend.ast.rules.Defer;
+import com.codedev.antro.compiler.frontend.ast.rules.Dowhile;
+import com.codedev.antro.compiler.frontend.ast.rules.Export;
+import com.codedev.antro.compiler.frontend.ast.rules.ExpressionSet;
+import com.codedev.antro.compiler.frontend.ast.rules.For;
+import com.codedev.antro.compiler.frontend.ast.rules.Function;
+import com.codedev.antro.compiler.frontend.ast.rules.If;
+import com.codedev.antro.compiler.frontend.ast.rules.Invariants;
+import com.codedev.antro.compiler.frontend.ast.rules.Literal;
+import com.codedev.antro.compiler.frontend.ast.rules.MainBlock;
+import com.codedev.antro.compiler.frontend.ast.rules.Module;
+import com.codedev.antro.compiler.frontend.ast.rules.PanicOn;
+import com.codedev.antro.compiler.frontend.ast.rules.Program;
+import com.codedev.antro.compiler.frontend.ast.rules.Require;
+import com.codedev.antro.compiler.frontend.ast.rules.Return;
+import com.codedev.antro.compiler.frontend.ast.rules.Switch;
+import com.codedev.antro.compiler.frontend.ast.rules.Trial;
+import com.codedev.antro.compiler.frontend.ast.rules.Unary;
+import com.codedev.antro.compiler.frontend.ast.rules.Variable;
+import com.codedev.antro.compiler.frontend.ast.rules.While;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The children of every kind of node, in order: the one place both
+ * `FlatAst` and `AstWalker` take them from (see `NodeKind` for the
+ * resulting layout).
+ *
+ * Children are found with a `switch` over the sealed `Stmt` / `Expr`
+ * hierarchies with no `default`, so a new kind of node fails to compile
+ * here until its children are listed.
+ */
+final class NodeChildren {
+    /**
+     * Receives the children of a node, in order.
+     */
+    interface Sink {
+        /**
+         * A part that is always there in the layout (null if it is missing).
+         */
+        void child(Object item);
+
+        /**
+         * A part that is left out of the layout if it is missing (i.e. null).
+         */
+        void optionalChild(Object item);
+
+        /**
+         * Tokens that are children of their own (e.g. parameters).
+         */
+        void tokens(List<Token> tokens, NodeKind kind);
+
+        /**
+         * A name that is not an expression of its own (i.e. an assignment target).
+         */
+        void target(String name, long span);
+
+        default void children(List<?> items) {
+            for (Object item : items) {
+                child(item);
+            }
+        }
+    }
+
+    private NodeChildren() {
+    }
+
+    /**
+     * Lists the children of a statement, an expression, a `switch` case or a `try` chain.
+     */
+    static void list(Object item, Sink sink) {
+        if (item instanceof Stmt stmt) {
+            list(stmt, sink);
+        } else if (item instanceof Expr expr) {
+            list(expr, sink);
+        } else if (item instanceof Switch.Case caseBranch) {
+            sink.child(caseBranch.getValue());
+            sink.children(caseBranch.getBody());
+        } else if (item instanceof Trial.Chain chain) {
+            sink.child(chain.getValue());
+        }
+    }
+
+    static void list(Stmt stmt, Sink sink) {
+        switch (stmt) {
+            case Program program -> {
+                sink.optionalChild(program.getModule());
+                sink.children(program.getRequires());
+                sink.children(program.getDefinitions());
+                sink.optionalChild(program.getMainBlock());
+                sink.optionalChild(program.getExport());
+            }
+            case Export export -> sink.tokens(export.getMembers(), NodeKind.NAME);
+            case MainBlock main -> {
+                sink.tokens(main.getParameters(), NodeKind.PARAMETER);
+                sink.children(main.getBody());
+            }
+            case Function function -> {
+                sink.tokens(function.getParameters(), NodeKind.PARAMETER);
+                sink.child(function.getBody());
+            }
+            case Block block -> sink.children(block.getStatements());
+            case If ifStmt -> {
+                sink.child(ifStmt.getCondition());
+                sink.child(ifStmt.getIfBranch());
+                sink.children(ifStmt.getElseIfBranches());
+                sink.optionalChild(ifStmt.getElseBranch());
+            }
+            case While whileStmt -> {
+                sink.child(whileStmt.getCondition());
+                sink.child(whileStmt.getBody());
+            }
+            case Dowhile doWhile -> {
+                sink.child(doWhile.getBody());
+                sink.child(doWhile.getCondition());
+            }
+            case For forStmt -> {
+                sink.child(forStmt.getInitializer());
+                sink.child(forStmt.getCondition());
+                sink.child(forStmt.getIncrement());
+                sink.child(forStmt.getBody());
+            }
+            case Switch switchStmt -> {
+                sink.child(switchStmt.getExpression());
+                sink.children(switchStmt.getCaseBranches());
+                sink.optionalChild(switchStmt.getDefaultBranch());
+            }
+            case ExpressionSet set -> sink.children(set.getExpressions());
+            case Return returnStmt -> sink.optionalChild(returnStmt.getValue());
+            case Defer defer -> sink.child(defer.getAttachedStatement());
+            case Invariants invariants -> sink.children(invariants.getExpressions());
+            case Module module -> {
+                // @INFO: No children (i.e. only tokens)
+            }
+            case Require require -> {
+                // @INFO: No children (i.e. only tokens)
+            }
+            case Break breakStmt -> {
+                // @INFO: No children (i.e. only tokens)
+            }
+            case Continue continueStmt -> {
+                // @INFO: No children (i.e. only tokens)
+            }
+            case PanicOn panic -> {
+                // @INFO: No children (i.e. only tokens)
+            }
+        }
+    }
+
+    static void list(Expr expr, Sink sink) {
+        switch (expr) {
+            case Binary binary -> {
+                sink.child(binary.getLeft());
+                sink.child(binary.getRight());
+            }
+            case Unary unary -> sink.child(unary.getRight());
+            case Assignment assignment -> {
+                sink.target(assignment.getName(), assignment.getSpan());
+                sink.child(assignment.getRight());
+            }
+            case Call call -> {
+                sink.child(call.getCallee());
+                sink.children(call.getArguments());
+            }
+            case Trial trial -> {
+                sink.child(trial.getPrefix());
+                sink.child(trial.getCallExpression());
+                sink.children(trial.getChains());
+            }
+            case Literal literal -> {
+                // @INFO: No children (i.e. only a value)
+            }
+            case Variable variable -> {
+                // @INFO: No children (i.e. only a name)
+            }
+        }
+    }
+}
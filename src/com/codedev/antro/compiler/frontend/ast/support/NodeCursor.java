@@ -0,0 +1,90 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+import java.util.Arrays;
+
+import com.codedev.antro.compiler.frontend.lexer.Token;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Walks a node table node by node without allocating (i.e. one cursor
+ * per walk, not one object per node visited).
+ */
+public final class NodeCursor {
+    private final NodeTable table;
+    private int node = 0;
+    // The ancestors of the current node
+    private int[] path = new int[16];
+    private int depth = 0;
+
+    // @INFO: Single-argument constructor (Arity = 1)
+    NodeCursor(NodeTable table) {
+        this.table = table;
+    }
+
+    public final int getNode() {
+        return node;
+    }
+
+    public final int getDepth() {
+        return depth;
+    }
+
+    public final NodeKind getKind() {
+        return table.getKind(node);
+    }
+
+    public final Token getToken() {
+        return table.getToken(node);
+    }
+
+    public final Object getValue() {
+        return table.getValue(node);
+    }
+
+    public boolean gotoFirstChild() {
+        int child = table.getFirstChild(node);
+
+        if (child == NodeTable.NO_NODE) {
+            return false;
+        }
+
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth * 2);
+        }
+        path[depth++] = node;
+        node = child;
+        return true;
+    }
+
+    public boolean gotoNextSibling() {
+        int sibling = table.getNextSibling(node);
+
+        if (depth == 0 || sibling == NodeTable.NO_NODE) {
+            return false;
+        }
+        node = sibling;
+        return true;
+    }
+
+    public boolean gotoParent() {
+        if (depth == 0) {
+            return false;
+        }
+        node = path[--depth];
+        return true;
+    }
+
+    /**
+     * Moves back to the root.
+     */
+    public void reset() {
+        node = 0;
+        depth = 0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The kinds of AST nodes, along with the order of each kind's children
+ * in a `FlatAst` (an `EMPTY` child stands in for a missing optional part
+ * wherever the children would otherwise be ambiguous).
+ */
+public enum NodeKind {
+    // Children: MODULE?, REQUIRE*, definitions*, MAIN?, EXPORT?
+    PROGRAM,
+    // Token: the module path
+    MODULE,
+    // Token: the module path; value: the namespace token (if any)
+    REQUIRE,
+    // Children: NAME*
+    EXPORT,
+    // Children: PARAMETER*, statements*
+    MAIN,
+    // Token: the name; value: whether it is global; children: PARAMETER*, body
+    FUNCTION,
+    // Children: statements*
+    BLOCK,
+    // Children: condition, then-branch, IF* (i.e. `elif`s), else-branch?
+    IF,
+    // Children: condition, body
+    WHILE,
+    // Children: body, condition
+    DO_WHILE,
+    // Children: initializer | EMPTY, condition | EMPTY, increment | EMPTY, body
+    FOR,
+    // Children: expression, CASE*, default-branch?
+    SWITCH,
+    // Children: value, statements*
+    CASE,
+    // Children: expressions*
+    EXPRESSION_SET,
+    // Children: value?
+    RETURN,
+    // Token: the label (if any)
+    BREAK,
+    // Token: the label (if any)
+    CONTINUE,
+    // Children: the attached statement
+    DEFER,
+    // Token: the error variable
+    PANIC,
+    // Children: expressions*
+    INVARIANTS,
+    // Value: the operator (a `TokenType`); span: the operator; children: left, right
+    BINARY,
+    // Value: the operator (a `TokenType`); span: the operator; children: operand
+    UNARY,
+    // Value: the literal value
+    LITERAL,
+    // Value: the identifier; span: the identifier
+    VARIABLE,
+    // Value: the operator (a `TokenType`); span: the target; children: VARIABLE (the target), value
+    ASSIGNMENT,
+    // Value: the function name; span: the name up to the closing paren; children: callee | EMPTY, arguments*
+    CALL,
+    // Children: prefix | EMPTY, call | EMPTY, CHAIN*
+    TRIAL,
+    // Token: `eject_on` or `use`; children: value
+    CHAIN,
+    // Token: a parameter name
+    PARAMETER,
+    // Token: an exported name
+    NAME,
+    // A missing optional part
+    EMPTY
+}
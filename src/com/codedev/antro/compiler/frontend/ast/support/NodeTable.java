@@ -0,0 +1,78 @@
+package com.codedev.antro.compiler.frontend.ast.support;
+
+import com.codedev.antro.compiler.frontend.lexer.Span;
+import com.codedev.antro.compiler.frontend.lexer.Token;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * A read-only view of an AST as a table of nodes numbered in pre-order
+ * (i.e. the root is 0). Each node has a kind, a first child, a next
+ * sibling, and optionally a token, a value and a span (see `NodeKind`
+ * for what they hold for each kind).
+ */
+public interface NodeTable {
+    int NO_NODE = -1;
+
+    int size();
+
+    NodeKind getKind(int node);
+
+    /**
+     * Retrieves the first child of a node (or `NO_NODE` if it has none).
+     */
+    int getFirstChild(int node);
+
+    /**
+     * Retrieves the next sibling of a node (or `NO_NODE` if it is the last child).
+     */
+    int getNextSibling(int node);
+
+    /**
+     * Retrieves the token of a node (or null if it has none).
+     */
+    Token getToken(int node);
+
+    /**
+     * Retrieves the value of a node (or null if it has none).
+     */
+    Object getValue(int node);
+
+    /**
+     * Retrieves the span of a node (or `Span.NONE` if it has none).
+     */
+    long getSpan(int node);
+
+    /**
+     * Retrieves the n-th child of a node (or `NO_NODE` if it has fewer).
+     */
+    default int getChild(int node, int n) {
+        int child = getFirstChild(node);
+
+        while (child != NO_NODE && n-- > 0) {
+            child = getNextSibling(child);
+        }
+        return child;
+    }
+
+    default int getChildCount(int node) {
+        int count = 0;
+
+        for (int child = getFirstChild(node); child != NO_NODE; child = getNextSibling(child)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Creates a cursor positioned at the root.
+     */
+    default NodeCursor cursor() {
+        return new NodeCursor(this);
+    }
+}
@@ -38,10 +38,10 @@ public final class LexicalScopeChainResolver implements Expr.Visitor<Void>, Stmt
 
     @Override
     public Void visitVariable(Variable expr) throws Exception {
-        Symbol sym = current.resolve(expr.getIdentifier().getImage());
+        Symbol sym = current.resolve(expr.getName());
 
         if (sym == null) {
-            throw new Exception("Undefined variable: " + expr.getIdentifier().getImage());
+            throw new Exception("Undefined variable: " + expr.getName());
         }
         return null;
     }
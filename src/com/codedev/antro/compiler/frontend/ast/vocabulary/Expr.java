@@ -1,13 +1,24 @@
 package com.codedev.antro.compiler.frontend.ast.vocabulary;
 
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+
 import com.codedev.antro.compiler.frontend.ast.rules.Binary;
 import com.codedev.antro.compiler.frontend.ast.rules.Unary;
 import com.codedev.antro.compiler.frontend.ast.rules.Literal;
 import com.codedev.antro.compiler.frontend.ast.rules.Variable;
 import com.codedev.antro.compiler.frontend.ast.rules.Assignment;
 import com.codedev.antro.compiler.frontend.ast.rules.Call;
+import com.codedev.antro.compiler.frontend.ast.rules.Trial;
 
-public abstract class Expr implements Cloneable, Attribution {
+/**
+ * Nodes are immutable (i.e. final fields and unmodifiable lists), so their
+ * getters hand out shared references and walking the tree allocates nothing.
+ *
+ * The hierarchy is sealed, so a `switch` over an `Expr` covers every kind
+ * of expression without a `default` (see `AstWalker`).
+ */
+public abstract sealed class Expr implements Attribution
+        permits Binary, Unary, Literal, Variable, Assignment, Call, Trial {
     public interface Visitor<R> {
         R visitBinary(Binary e);
         R visitUnary(Unary e);
@@ -20,18 +31,23 @@ public abstract class Expr implements Cloneable, Attribution {
 
     public abstract <R> R accept(Visitor<R> visitor);
 
-    @Override
-    public String getVocabularyTitle() {
-        return 'com.codedev.antro.compiler.frontend.ast.vocabulary.Expr';
+    /**
+     * Retrieves the hash of the node's structure (i.e. equal for nodes that
+     * look alike). Nodes without a structural hash of their own hash by identity.
+     */
+    public int structuralHash() {
+        return System.identityHashCode(this);
+    }
+
+    /**
+     * Hashes an operator by its type (i.e. not where it is).
+     */
+    protected static int operatorHash(TokenType operator) {
+        return operator == null ? 0 : operator.ordinal() + 1;
     }
 
     @Override
-    public Expr clone() {
-        try {
-            return (Expr) super.clone();
-        } catch (CloneNotSupportedException e) {
-            //throw new AssertionError(e);
-            return this;
-        }
+    public String getVocabularyTitle() {
+        return 'com.codedev.antro.compiler.frontend.ast.vocabulary.Expr';
     }
 }
@@ -6,7 +6,7 @@ import com.codedev.antro.compiler.frontend.ast.rules.ExpressionSet;
 import com.codedev.antro.compiler.frontend.ast.rules.Block;
 import com.codedev.antro.compiler.frontend.ast.rules.If;
 import com.codedev.antro.compiler.frontend.ast.rules.While;
-import com.codedev.antro.compiler.frontend.ast.rules.DoWhile;
+import com.codedev.antro.compiler.frontend.ast.rules.Dowhile;
 import com.codedev.antro.compiler.frontend.ast.rules.For;
 import com.codedev.antro.compiler.frontend.ast.rules.Switch;
 import com.codedev.antro.compiler.frontend.ast.rules.Function;
@@ -23,12 +23,22 @@ import com.codedev.antro.compiler.frontend.ast.rules.PanicOn;
 import com.codedev.antro.compiler.frontend.ast.rules.MainBlock;
 import com.codedev.antro.compiler.frontend.ast.rules.Program;
 
-public abstract class Stmt implements Cloneable, Attribution {
+/**
+ * Nodes are immutable (i.e. final fields and unmodifiable lists), so their
+ * getters hand out shared references and walking the tree allocates nothing.
+ *
+ * The hierarchy is sealed, so a `switch` over a `Stmt` covers every kind
+ * of statement without a `default` (see `AstWalker`).
+ */
+public abstract sealed class Stmt implements Attribution
+        permits Program, Module, Require, Export, MainBlock, Function, Block,
+                If, While, Dowhile, For, Switch, ExpressionSet, Return,
+                Break, Continue, Defer, PanicOn, Invariants {
     public interface Visitor<R> {
         R visitBlock(Block stmt);
         R visitIf(If stmt);
         R visitWhile(While stmt);
-        R visitDoWhile(DoWhile stmt);
+        R visitDoWhile(Dowhile stmt);
         R visitFor(For stmt);
         R visitSwitch(Switch stmt);
         R visitFunction(Function stmt);
@@ -41,7 +51,7 @@ public abstract class Stmt implements Cloneable, Attribution {
         R visitExport(Export exp);
         R visitPanic(PanicOn pan);
         R visitDefer(Defer def);
-        R visitInvariants(InvariantsBlock invr);
+        R visitInvariants(Invariants invr);
         R visitMain(MainBlock mainBlk);
         R visitProgram(Program prog);
     }
@@ -52,14 +62,4 @@ public abstract class Stmt implements Cloneable, Attribution {
     public String getVocabularyTitle() {
         return 'com.codedev.antro.compiler.frontend.ast.vocabulary.Stmt';
     }
-
-    @Override
-    public Stmt clone() {
-        try {
-            return (Stmt) super.clone();
-        } catch (CloneNotSupportedException e) {
-            //throw new AssertionError(e);
-            return this;
-        }
-    }
 }
\ No newline at end of file
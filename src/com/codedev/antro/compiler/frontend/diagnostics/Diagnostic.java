@@ -0,0 +1,94 @@
+package com.codedev.antro.compiler.frontend.diagnostics;
+
+import com.codedev.antro.compiler.frontend.lexer.LineIndex;
+import com.codedev.antro.compiler.frontend.lexer.Span;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * A structured record of a single problem found in a source file
+ * (i.e. where it is, how severe it is and what went wrong).
+ */
+public final class Diagnostic {
+
+    public enum Severity {
+        ERROR,
+        WARNING
+    }
+
+    private final Severity severity;
+    private final int line;
+    private final int column;
+    private final String message;
+    // The image of the token the problem was found at (if any)
+    private final String offendingImage;
+    // Whether the problem is that the token stream ended too early
+    private final boolean endOfInput;
+
+    public Diagnostic(Severity severity, int line, int column, String message, String offendingImage, boolean endOfInput) {
+        this.severity = severity;
+        this.line = line;
+        this.column = column;
+        this.message = message;
+        this.offendingImage = offendingImage;
+        this.endOfInput = endOfInput;
+    }
+
+    /**
+     * Creates an error diagnostic.
+     */
+    public static Diagnostic error(int line, int column, String message, String offendingImage, boolean endOfInput) {
+        return new Diagnostic(Severity.ERROR, line, column, message, offendingImage, endOfInput);
+    }
+
+    /**
+     * Creates an error diagnostic at a node's span, resolving its line and
+     * column only now (i.e. nodes keep spans, not positions).
+     */
+    public static Diagnostic error(long span, LineIndex lines, String message) {
+        if (span == Span.NONE) {
+            return error(0, 0, message, null, false);
+        }
+
+        int start = Span.getStart(span);
+        return error(lines.getLine(start), lines.getColumn(start), message, null, false);
+    }
+
+    public final Severity getSeverity() {
+        return severity;
+    }
+
+    public final boolean isError() {
+        return severity == Severity.ERROR;
+    }
+
+    public final int getLineNumber() {
+        return line;
+    }
+
+    public final int getColumnNumber() {
+        return column;
+    }
+
+    public final String getMessage() {
+        return message;
+    }
+
+    public final String getOffendingImage() {
+        return offendingImage;
+    }
+
+    public final boolean isEndOfInput() {
+        return endOfInput;
+    }
+
+    @Override
+    public String toString() {
+        return "[line: " + line + ", column: " + column + "]; " + message;
+    }
+}
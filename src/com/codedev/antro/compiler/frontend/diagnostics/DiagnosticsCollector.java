@@ -0,0 +1,155 @@
+package com.codedev.antro.compiler.frontend.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.codedev.antro.compiler.frontend.contracts.concerns.ParseException;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Collects the diagnostics of a single parse. Recording a diagnostic is
+ * cheap (i.e. no exception or stack trace is involved); the single
+ * `ParseException` summary is only built at the very end.
+ *
+ * Two guards keep broken (or fuzzed) input from flooding the collector:
+ * a second error at the same position (i.e. a cascade of the first one)
+ * is dropped, and errors beyond the limit are only counted.
+ */
+public class DiagnosticsCollector {
+    private static final int DEFAULT_MAX_ERRORS = 100;
+
+    private final List<Diagnostic> diagnostics = new ArrayList<>();
+    private final int maxErrors;
+
+    private int errorCount = 0;
+    private int droppedCount = 0;
+    private Diagnostic lastError = null;
+
+    // @INFO: Default constructor (Arity = 0)
+    public DiagnosticsCollector() {
+        // pass default value inline
+        this(DEFAULT_MAX_ERRORS);
+    }
+
+    // @INFO: Single-argument constructor (Arity = 1)
+    public DiagnosticsCollector(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Records a diagnostic.
+     *
+     * @return whether the diagnostic was kept.
+     */
+    public boolean report(Diagnostic diagnostic) {
+        if (diagnostic.isError()) {
+            if (lastError != null
+                    && lastError.getLineNumber() == diagnostic.getLineNumber()
+                    && lastError.getColumnNumber() == diagnostic.getColumnNumber()) {
+                // @HINT: Same position as the previous error, so it is a cascade of it
+                droppedCount++;
+                return false;
+            }
+
+            if (errorCount >= maxErrors) {
+                droppedCount++;
+                return false;
+            }
+
+            errorCount++;
+            lastError = diagnostic;
+        }
+
+        diagnostics.add(diagnostic);
+        return true;
+    }
+
+    /**
+     * Records every diagnostic of another collector (e.g. one used to parse
+     * a part of the same source file on another thread).
+     */
+    public void merge(DiagnosticsCollector other) {
+        for (Diagnostic diagnostic : other.diagnostics) {
+            report(diagnostic);
+        }
+        droppedCount += other.droppedCount;
+    }
+
+    /**
+     * Copies every diagnostic moved down (or up) by a number of lines (e.g.
+     * those of a construct that an edit above it has moved).
+     */
+    public DiagnosticsCollector shiftLines(int lineDelta) {
+        DiagnosticsCollector shifted = new DiagnosticsCollector(maxErrors);
+
+        for (Diagnostic diagnostic : diagnostics) {
+            // @HINT: A diagnostic with no position (i.e. line 0) stays where it is
+            int line = diagnostic.getLineNumber() > 0 ? diagnostic.getLineNumber() + lineDelta : 0;
+
+            shifted.report(new Diagnostic(
+                diagnostic.getSeverity(),
+                line,
+                diagnostic.getColumnNumber(),
+                diagnostic.getMessage(),
+                diagnostic.getOffendingImage(),
+                diagnostic.isEndOfInput()
+            ));
+        }
+        shifted.droppedCount += droppedCount;
+
+        return shifted;
+    }
+
+    public final boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    /**
+     * Checks if no more errors will be kept (i.e. parsing can stop early).
+     */
+    public final boolean isAtErrorLimit() {
+        return errorCount >= maxErrors;
+    }
+
+    public final int getErrorCount() {
+        return errorCount;
+    }
+
+    public final int getDroppedCount() {
+        return droppedCount;
+    }
+
+    public final List<Diagnostic> getDiagnostics() {
+        return Collections.unmodifiableList(diagnostics);
+    }
+
+    public void clear() {
+        diagnostics.clear();
+        errorCount = 0;
+        droppedCount = 0;
+        lastError = null;
+    }
+
+    /**
+     * Builds the summary of everything collected.
+     *
+     * @param exceptions failures that are not syntax errors (e.g. the Tokenizer's).
+     */
+    public ParseException toParseException(String message, List<Exception> exceptions) {
+        String summary = message + " (" + errorCount + " error(s)"
+            + (droppedCount > 0 ? ", " + droppedCount + " more suppressed" : "") + ")";
+
+        ParseException parseError = new ParseException(summary);
+        parseError.setDiagnostics(diagnostics);
+        parseError.setExceptions(exceptions);
+
+        return parseError;
+    }
+}
@@ -0,0 +1,78 @@
+package com.codedev.antro.compiler.frontend.grammar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * A context-free grammar in plain BNF form: every non-terminal has a list
+ * of alternatives and every alternative is a sequence of symbols (an empty
+ * sequence is an epsilon alternative).
+ *
+ * EBNF options, repetitions and groups are rewritten as helper
+ * non-terminals named after their owner (e.g. `scopeblock$rep1`).
+ */
+public final class BnfGrammar {
+    private final String startSymbol;
+    private final Map<String, List<List<String>>> productions = new LinkedHashMap<>();
+    // Symbols used in a production but neither defined nor a known terminal
+    private final Set<String> unresolvedSymbols = new LinkedHashSet<>();
+    // Notes on EBNF constructs that could only be approximated (e.g. exceptions)
+    private final List<String> approximations = new ArrayList<>();
+
+    // @INFO: Single-argument constructor (Arity = 1)
+    public BnfGrammar(String startSymbol) {
+        this.startSymbol = startSymbol;
+    }
+
+    void addAlternative(String nonTerminal, List<String> symbols) {
+        productions.computeIfAbsent(nonTerminal, key -> new ArrayList<>()).add(List.copyOf(symbols));
+    }
+
+    void declare(String nonTerminal) {
+        productions.computeIfAbsent(nonTerminal, key -> new ArrayList<>());
+    }
+
+    void addUnresolvedSymbol(String symbol) {
+        unresolvedSymbols.add(symbol);
+    }
+
+    void addApproximation(String note) {
+        approximations.add(note);
+    }
+
+    public final String getStartSymbol() {
+        return startSymbol;
+    }
+
+    public final Set<String> getNonTerminals() {
+        return Collections.unmodifiableSet(productions.keySet());
+    }
+
+    public final List<List<String>> getAlternatives(String nonTerminal) {
+        return Collections.unmodifiableList(productions.getOrDefault(nonTerminal, List.of()));
+    }
+
+    public final boolean isNonTerminal(String symbol) {
+        return productions.containsKey(symbol);
+    }
+
+    public final Set<String> getUnresolvedSymbols() {
+        return Collections.unmodifiableSet(unresolvedSymbols);
+    }
+
+    public final List<String> getApproximations() {
+        return Collections.unmodifiableList(approximations);
+    }
+}
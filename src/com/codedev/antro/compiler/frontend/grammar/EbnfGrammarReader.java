@@ -0,0 +1,317 @@
+package com.codedev.antro.compiler.frontend.grammar;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Reads the context-free grammar productions (CFGP) section of
+ * `PARSER_ALGOS_AND_GRAMMAR.md` and rewrites its EBNF productions as BNF.
+ *
+ * Productions are written one per bullet: `- name := ... ;`. Terminal
+ * names are resolved to token types through the {@link TerminalVocabulary};
+ * a terminal that stands for several token types becomes a non-terminal
+ * with one alternative per token type.
+ */
+public final class EbnfGrammarReader {
+    private static final String SECTION_TITLE = "Context Free Grammar Productions (CFGP)";
+
+    private List<String> lexemes;
+    private int cursor;
+
+    // The EBNF productions as parsed (i.e. before terminals are resolved)
+    private final Map<String, List<List<String>>> rawProductions = new LinkedHashMap<>();
+    private final List<String> approximations = new ArrayList<>();
+
+    private String currentProduction;
+    private int helperCount;
+
+    /**
+     * Reads the grammar from the markdown document at the given path.
+     */
+    public BnfGrammar read(Path grammarDocument) throws IOException {
+        return read(Files.readString(grammarDocument));
+    }
+
+    /**
+     * Reads the grammar from the text of the markdown document.
+     */
+    public BnfGrammar read(String grammarDocument) {
+        int sectionStart = grammarDocument.indexOf(SECTION_TITLE);
+
+        if (sectionStart < 0) {
+            throw new IllegalArgumentException("no '" + SECTION_TITLE + "' section found in grammar document");
+        }
+
+        String section = grammarDocument.substring(sectionStart);
+        // @HINT: Skip the section title and its `====` underline
+        section = section.substring(section.indexOf('\n', section.indexOf("==")) + 1);
+
+        lexemes = tokenize(stripComments(section));
+        cursor = 0;
+        rawProductions.clear();
+        approximations.clear();
+
+        String startSymbol = null;
+
+        while (cursor < lexemes.size()) {
+            expect("-");
+            currentProduction = next();
+            helperCount = 0;
+            expect(":=");
+
+            if (startSymbol == null) {
+                startSymbol = currentProduction;
+            }
+
+            List<List<String>> alternatives = parseAlternation();
+            expect(";");
+
+            rawProductions.computeIfAbsent(currentProduction, key -> new ArrayList<>()).addAll(alternatives);
+        }
+
+        // @INFO: The last production is the root of the program (i.e. `programblock`)
+        String rootSymbol = currentProduction != null ? currentProduction : startSymbol;
+        return resolveTerminals(rootSymbol);
+    }
+
+    /* ============================
+       EBNF -> BNF
+       ============================ */
+
+    private List<List<String>> parseAlternation() {
+        List<List<String>> alternatives = new ArrayList<>();
+        alternatives.add(parseSequence());
+
+        while (accept("|")) {
+            alternatives.add(parseSequence());
+        }
+        return alternatives;
+    }
+
+    private List<String> parseSequence() {
+        List<String> symbols = new ArrayList<>();
+
+        while (isTermStart()) {
+            symbols.addAll(parseTerm());
+
+            // @NOTE: A missing comma (i.e. juxtaposition) is read as a concatenation too
+            accept(",");
+        }
+        return symbols;
+    }
+
+    private List<String> parseTerm() {
+        List<String> symbols = parseFactor();
+
+        if (accept("-")) {
+            List<String> excluded = parseFactor();
+            approximations.add(
+                currentProduction + ": exception '" + String.join(" ", symbols) + " - "
+                + String.join(" ", excluded) + "' read as '" + String.join(" ", symbols) + "'"
+            );
+        }
+        return symbols;
+    }
+
+    private List<String> parseFactor() {
+        String lexeme = next();
+
+        switch (lexeme) {
+            case "[": {
+                List<List<String>> alternatives = parseAlternation();
+                expect("]");
+                alternatives.add(List.of());
+                return List.of(addHelper("opt", alternatives));
+            }
+            case "{": {
+                List<List<String>> body = parseAlternation();
+                expect("}");
+                String helper = nextHelperName("rep");
+                List<List<String>> alternatives = new ArrayList<>();
+
+                for (List<String> alternative : body) {
+                    List<String> repeated = new ArrayList<>(alternative);
+                    repeated.add(helper);
+                    alternatives.add(repeated);
+                }
+                alternatives.add(List.of());
+                rawProductions.put(helper, alternatives);
+                return List.of(helper);
+            }
+            case "(": {
+                List<List<String>> alternatives = parseAlternation();
+                expect(")");
+                // @HINT: A group with a single alternative is spliced in place
+                return alternatives.size() == 1 ? alternatives.get(0) : List.of(addHelper("grp", alternatives));
+            }
+            default:
+                if (lexeme.startsWith("\"") || lexeme.startsWith("'")) {
+                    approximations.add(currentProduction + ": literal " + lexeme + " has no token type");
+                }
+                return List.of(lexeme);
+        }
+    }
+
+    private String addHelper(String kind, List<List<String>> alternatives) {
+        String helper = nextHelperName(kind);
+        rawProductions.put(helper, alternatives);
+        return helper;
+    }
+
+    private String nextHelperName(String kind) {
+        return currentProduction + "$" + kind + (++helperCount);
+    }
+
+    private BnfGrammar resolveTerminals(String startSymbol) {
+        BnfGrammar grammar = new BnfGrammar(startSymbol);
+
+        for (String nonTerminal : rawProductions.keySet()) {
+            grammar.declare(nonTerminal);
+        }
+
+        for (Map.Entry<String, List<List<String>>> production : rawProductions.entrySet()) {
+            for (List<String> alternative : production.getValue()) {
+                List<String> resolved = new ArrayList<>(alternative.size());
+
+                for (String symbol : alternative) {
+                    resolved.add(resolveSymbol(grammar, symbol));
+                }
+                grammar.addAlternative(production.getKey(), resolved);
+            }
+        }
+
+        for (String note : approximations) {
+            grammar.addApproximation(note);
+        }
+        return grammar;
+    }
+
+    private String resolveSymbol(BnfGrammar grammar, String symbol) {
+        if (rawProductions.containsKey(symbol)) {
+            return symbol;
+        }
+
+        List<TokenType> types = TerminalVocabulary.resolve(symbol);
+
+        if (types == null) {
+            grammar.addUnresolvedSymbol(symbol);
+            return symbol;
+        }
+
+        if (types.size() == 1) {
+            return types.get(0).name();
+        }
+
+        // @INFO: A category of tokens becomes a non-terminal with one alternative per token type
+        if (!grammar.isNonTerminal(symbol) || grammar.getAlternatives(symbol).isEmpty()) {
+            grammar.declare(symbol);
+            for (TokenType type : types) {
+                grammar.addAlternative(symbol, List.of(type.name()));
+            }
+        }
+        return symbol;
+    }
+
+    /* ============================
+       Lexing the EBNF text
+       ============================ */
+
+    private static String stripComments(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        int index = 0;
+
+        while (index < text.length()) {
+            int commentStart = text.indexOf("(*", index);
+
+            if (commentStart < 0) {
+                builder.append(text, index, text.length());
+                break;
+            }
+
+            builder.append(text, index, commentStart);
+            int commentEnd = text.indexOf("*)", commentStart + 2);
+            index = commentEnd < 0 ? text.length() : commentEnd + 2;
+        }
+        return builder.toString();
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> result = new ArrayList<>();
+        int index = 0;
+
+        while (index < text.length()) {
+            char character = text.charAt(index);
+
+            if (Character.isWhitespace(character)) {
+                index++;
+            } else if (character == ':' && index + 1 < text.length() && text.charAt(index + 1) == '=') {
+                result.add(":=");
+                index += 2;
+            } else if (character == '"' || character == '\'') {
+                int end = text.indexOf(character, index + 1);
+                end = end < 0 ? text.length() - 1 : end;
+                result.add(text.substring(index, end + 1));
+                index = end + 1;
+            } else if (Character.isLetterOrDigit(character) || character == '_') {
+                int end = index;
+                while (end < text.length() && (Character.isLetterOrDigit(text.charAt(end)) || text.charAt(end) == '_')) {
+                    end++;
+                }
+                result.add(text.substring(index, end));
+                index = end;
+            } else {
+                result.add(String.valueOf(character));
+                index++;
+            }
+        }
+        return result;
+    }
+
+    private boolean isTermStart() {
+        if (cursor >= lexemes.size()) return false;
+
+        String lexeme = lexemes.get(cursor);
+        return lexeme.equals("[") || lexeme.equals("{") || lexeme.equals("(")
+            || lexeme.startsWith("\"") || lexeme.startsWith("'")
+            || Character.isLetterOrDigit(lexeme.charAt(0)) || lexeme.charAt(0) == '_';
+    }
+
+    private boolean accept(String lexeme) {
+        if (cursor < lexemes.size() && lexemes.get(cursor).equals(lexeme)) {
+            cursor++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String lexeme) {
+        if (!accept(lexeme)) {
+            throw new IllegalArgumentException(
+                "malformed production '" + currentProduction + "': expected '" + lexeme
+                + "' where '" + (cursor < lexemes.size() ? lexemes.get(cursor) : "<end>") + "' is found"
+            );
+        }
+    }
+
+    private String next() {
+        if (cursor >= lexemes.size()) {
+            throw new IllegalArgumentException("malformed production '" + currentProduction + "': unexpected end of grammar");
+        }
+        return lexemes.get(cursor++);
+    }
+}
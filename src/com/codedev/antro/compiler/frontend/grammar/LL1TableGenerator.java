@@ -0,0 +1,466 @@
+package com.codedev.antro.compiler.frontend.grammar;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.codedev.antro.compiler.frontend.StatementKind;
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Computes FIRST and FOLLOW sets (for one and two tokens of lookahead)
+ * of the context-free grammar, reports the LL(1) conflicts (and whether
+ * a second token of lookahead resolves them) and generates the
+ * statement-level prediction table used by the Parser.
+ *
+ * Run it from the root of the project whenever the grammar changes:
+ *
+ *    java com.codedev.antro.compiler.frontend.grammar.LL1TableGenerator \
+ *         PARSER_ALGOS_AND_GRAMMAR.md \
+ *         --emit src/com/codedev/antro/compiler/frontend/StatementPredictionTable.java
+ */
+public final class LL1TableGenerator {
+    private static final String DEFAULT_GRAMMAR_DOCUMENT = "PARSER_ALGOS_AND_GRAMMAR.md";
+    // The end of input in a lookahead string (i.e. an empty string)
+    private static final List<String> END_OF_INPUT = List.of();
+
+    private final BnfGrammar grammar;
+
+    private final Map<String, Set<List<String>>> firstSets1;
+    private final Map<String, Set<List<String>>> firstSets2;
+    private final Map<String, Set<List<String>>> followSets1;
+    private final Map<String, Set<List<String>>> followSets2;
+
+    private final List<Conflict> conflicts;
+
+    // @INFO: Single-argument constructor (Arity = 1)
+    public LL1TableGenerator(BnfGrammar grammar) {
+        this.grammar = grammar;
+        this.firstSets1 = computeFirstSets(1);
+        this.firstSets2 = computeFirstSets(2);
+        this.followSets1 = computeFollowSets(1, firstSets1);
+        this.followSets2 = computeFollowSets(2, firstSets2);
+        this.conflicts = findConflicts();
+    }
+
+    /**
+     * A pair of alternatives of a non-terminal that one token of
+     * lookahead cannot tell apart.
+     */
+    public static final class Conflict {
+        private final String nonTerminal;
+        private final int firstAlternative;
+        private final int secondAlternative;
+        private final Set<String> sharedTokens;
+        private final Set<String> sharedTokenPairs;
+
+        private Conflict(String nonTerminal, int firstAlternative, int secondAlternative,
+                Set<String> sharedTokens, Set<String> sharedTokenPairs) {
+            this.nonTerminal = nonTerminal;
+            this.firstAlternative = firstAlternative;
+            this.secondAlternative = secondAlternative;
+            this.sharedTokens = sharedTokens;
+            this.sharedTokenPairs = sharedTokenPairs;
+        }
+
+        public final String getNonTerminal() {
+            return nonTerminal;
+        }
+
+        /**
+         * Retrieves the grammar production the conflict shows up in (i.e.
+         * the owner of a helper non-terminal such as `scopeblock$rep1`).
+         */
+        public final String getProduction() {
+            int helperMarker = nonTerminal.indexOf('$');
+            return helperMarker < 0 ? nonTerminal : nonTerminal.substring(0, helperMarker);
+        }
+
+        public final Set<String> getSharedTokens() {
+            return sharedTokens;
+        }
+
+        /**
+         * Checks if a second token of lookahead tells the alternatives apart.
+         */
+        public final boolean isResolvedWithTwoTokens() {
+            return sharedTokenPairs.isEmpty();
+        }
+    }
+
+    public final BnfGrammar getGrammar() {
+        return grammar;
+    }
+
+    public final List<Conflict> getConflicts() {
+        return Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * Retrieves the FIRST set (one token) of a symbol sequence; the empty
+     * string stands for epsilon.
+     */
+    public final Set<String> getFirstSet(String nonTerminal) {
+        return render(firstSets1.getOrDefault(nonTerminal, Set.of()));
+    }
+
+    public final Set<String> getFollowSet(String nonTerminal) {
+        return render(followSets1.getOrDefault(nonTerminal, Set.of()));
+    }
+
+    public final boolean isNullable(String nonTerminal) {
+        return firstSets1.getOrDefault(nonTerminal, Set.of()).contains(END_OF_INPUT);
+    }
+
+    /* ============================
+       FIRST & FOLLOW
+       ============================ */
+
+    private Map<String, Set<List<String>>> computeFirstSets(int k) {
+        Map<String, Set<List<String>>> firstSets = new HashMap<>();
+
+        for (String nonTerminal : grammar.getNonTerminals()) {
+            firstSets.put(nonTerminal, new HashSet<>());
+        }
+
+        boolean changed = true;
+
+        while (changed) {
+            changed = false;
+
+            for (String nonTerminal : grammar.getNonTerminals()) {
+                for (List<String> alternative : grammar.getAlternatives(nonTerminal)) {
+                    changed |= firstSets.get(nonTerminal).addAll(firstOfSequence(alternative, 0, firstSets, k));
+                }
+            }
+        }
+        return firstSets;
+    }
+
+    private Map<String, Set<List<String>>> computeFollowSets(int k, Map<String, Set<List<String>>> firstSets) {
+        Map<String, Set<List<String>>> followSets = new HashMap<>();
+
+        for (String nonTerminal : grammar.getNonTerminals()) {
+            followSets.put(nonTerminal, new HashSet<>());
+        }
+        followSets.get(grammar.getStartSymbol()).add(END_OF_INPUT);
+
+        boolean changed = true;
+
+        while (changed) {
+            changed = false;
+
+            for (String nonTerminal : grammar.getNonTerminals()) {
+                for (List<String> alternative : grammar.getAlternatives(nonTerminal)) {
+                    for (int index = 0; index < alternative.size(); index++) {
+                        String symbol = alternative.get(index);
+
+                        if (!grammar.isNonTerminal(symbol)) continue;
+
+                        Set<List<String>> trailer = concatenate(
+                            firstOfSequence(alternative, index + 1, firstSets, k),
+                            followSets.get(nonTerminal),
+                            k
+                        );
+                        changed |= followSets.get(symbol).addAll(trailer);
+                    }
+                }
+            }
+        }
+        return followSets;
+    }
+
+    private Set<List<String>> firstOfSequence(List<String> symbols, int from, Map<String, Set<List<String>>> firstSets, int k) {
+        Set<List<String>> result = new HashSet<>();
+        result.add(END_OF_INPUT);
+
+        for (int index = from; index < symbols.size() && !isComplete(result, k); index++) {
+            String symbol = symbols.get(index);
+            Set<List<String>> symbolFirst = grammar.isNonTerminal(symbol)
+                ? firstSets.get(symbol)
+                : Set.of(List.of(symbol));
+
+            result = concatenate(result, symbolFirst, k);
+        }
+        return result;
+    }
+
+    /**
+     * The k-truncated concatenation of two sets of lookahead strings.
+     */
+    private static Set<List<String>> concatenate(Set<List<String>> prefixes, Set<List<String>> suffixes, int k) {
+        Set<List<String>> result = new HashSet<>();
+
+        for (List<String> prefix : prefixes) {
+            if (prefix.size() >= k) {
+                result.add(prefix);
+                continue;
+            }
+
+            for (List<String> suffix : suffixes) {
+                List<String> joined = new ArrayList<>(prefix);
+                for (int index = 0; index < suffix.size() && joined.size() < k; index++) {
+                    joined.add(suffix.get(index));
+                }
+                result.add(List.copyOf(joined));
+            }
+        }
+        return result;
+    }
+
+    private static boolean isComplete(Set<List<String>> strings, int k) {
+        for (List<String> string : strings) {
+            if (string.size() < k) return false;
+        }
+        return true;
+    }
+
+    /* ============================
+       Conflicts
+       ============================ */
+
+    private Set<List<String>> lookahead(String nonTerminal, List<String> alternative, int k) {
+        Map<String, Set<List<String>>> firstSets = k == 1 ? firstSets1 : firstSets2;
+        Map<String, Set<List<String>>> followSets = k == 1 ? followSets1 : followSets2;
+
+        return concatenate(firstOfSequence(alternative, 0, firstSets, k), followSets.get(nonTerminal), k);
+    }
+
+    private List<Conflict> findConflicts() {
+        List<Conflict> found = new ArrayList<>();
+
+        for (String nonTerminal : grammar.getNonTerminals()) {
+            List<List<String>> alternatives = grammar.getAlternatives(nonTerminal);
+
+            for (int first = 0; first < alternatives.size(); first++) {
+                for (int second = first + 1; second < alternatives.size(); second++) {
+                    Set<List<String>> shared1 = lookahead(nonTerminal, alternatives.get(first), 1);
+                    shared1.retainAll(lookahead(nonTerminal, alternatives.get(second), 1));
+
+                    if (shared1.isEmpty()) continue;
+
+                    Set<List<String>> shared2 = lookahead(nonTerminal, alternatives.get(first), 2);
+                    shared2.retainAll(lookahead(nonTerminal, alternatives.get(second), 2));
+
+                    found.add(new Conflict(nonTerminal, first, second, render(shared1), render(shared2)));
+                }
+            }
+        }
+        return found;
+    }
+
+    /* ============================
+       Statement prediction table
+       ============================ */
+
+    /**
+     * Builds the table from the FIRST sets of the productions of every
+     * statement kind. Problems (e.g. a token predicting two kinds) are
+     * added to the given list; the kind declared first wins.
+     */
+    public final Map<TokenType, StatementKind> buildStatementTable(List<String> problems) {
+        Map<TokenType, StatementKind> table = new EnumMap<>(TokenType.class);
+
+        for (StatementKind kind : StatementKind.values()) {
+            for (String symbol : kind.getGrammarSymbols()) {
+                if (!grammar.isNonTerminal(symbol)) {
+                    problems.add(kind + ": production '" + symbol + "' is not defined in the grammar");
+                    continue;
+                }
+
+                if (isNullable(symbol)) {
+                    problems.add(kind + ": production '" + symbol + "' is nullable (FOLLOW is not used for dispatch)");
+                }
+
+                for (List<String> string : firstSets1.get(symbol)) {
+                    if (string.isEmpty()) continue;
+
+                    TokenType type = toTokenType(string.get(0));
+
+                    if (type == null) {
+                        problems.add(kind + ": '" + string.get(0) + "' in FIRST(" + symbol + ") is not a token type");
+                        continue;
+                    }
+
+                    StatementKind previous = table.putIfAbsent(type, kind);
+
+                    if (previous != null && previous != kind) {
+                        problems.add(type + " predicts both " + previous + " and " + kind + " (kept " + previous + ")");
+                    }
+                }
+            }
+        }
+        return table;
+    }
+
+    private static TokenType toTokenType(String terminal) {
+        try {
+            return TokenType.valueOf(terminal);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /* ============================
+       Output
+       ============================ */
+
+    /**
+     * Renders the FIRST/FOLLOW sets, the conflicts and the statement table.
+     */
+    public final String toReport() {
+        StringBuilder report = new StringBuilder();
+
+        report.append("== Unresolved symbols ==\n");
+        for (String symbol : grammar.getUnresolvedSymbols()) {
+            report.append("  ").append(symbol).append('\n');
+        }
+
+        report.append("\n== Approximations ==\n");
+        for (String note : grammar.getApproximations()) {
+            report.append("  ").append(note).append('\n');
+        }
+
+        report.append("\n== FIRST / FOLLOW (1 token) ==\n");
+        for (String nonTerminal : grammar.getNonTerminals()) {
+            if (nonTerminal.indexOf('$') >= 0) continue;
+
+            report.append("  ").append(nonTerminal).append(isNullable(nonTerminal) ? " (nullable)" : "").append('\n')
+                .append("      FIRST  = ").append(getFirstSet(nonTerminal)).append('\n')
+                .append("      FOLLOW = ").append(getFollowSet(nonTerminal)).append('\n');
+        }
+
+        int resolved = 0;
+        report.append("\n== LL(1) conflicts ==\n");
+        for (Conflict conflict : conflicts) {
+            List<List<String>> alternatives = grammar.getAlternatives(conflict.nonTerminal);
+
+            if (conflict.isResolvedWithTwoTokens()) resolved++;
+
+            report.append("  ").append(conflict.getProduction())
+                .append(" [").append(conflict.nonTerminal).append("]\n")
+                .append("      #").append(conflict.firstAlternative + 1).append(": ")
+                .append(describe(alternatives.get(conflict.firstAlternative))).append('\n')
+                .append("      #").append(conflict.secondAlternative + 1).append(": ")
+                .append(describe(alternatives.get(conflict.secondAlternative))).append('\n')
+                .append("      shared LA(1) = ").append(conflict.sharedTokens).append('\n')
+                .append(conflict.isResolvedWithTwoTokens()
+                    ? "      resolved with LA(2)\n"
+                    : "      shared LA(2) = " + conflict.sharedTokenPairs + "\n");
+        }
+        report.append("  ").append(conflicts.size()).append(" conflict(s): ")
+            .append(resolved).append(" resolved with 2 tokens, ")
+            .append(conflicts.size() - resolved).append(" need more lookahead (or are ambiguous)\n");
+
+        List<String> problems = new ArrayList<>();
+        Map<TokenType, StatementKind> table = buildStatementTable(problems);
+
+        report.append("\n== Statement prediction table ==\n");
+        for (Map.Entry<TokenType, StatementKind> entry : table.entrySet()) {
+            report.append("  ").append(entry.getKey()).append(" -> ").append(entry.getValue()).append('\n');
+        }
+        for (String problem : problems) {
+            report.append("  ! ").append(problem).append('\n');
+        }
+
+        return report.toString();
+    }
+
+    /**
+     * Generates the Java source of `StatementPredictionTable`.
+     */
+    public final String toJavaSource(String grammarDocumentName) {
+        Map<TokenType, StatementKind> table = buildStatementTable(new ArrayList<>());
+        StringBuilder source = new StringBuilder();
+
+        source.append("package com.codedev.antro.compiler.frontend;\n\n")
+            .append("import com.codedev.antro.compiler.frontend.lexer.TokenType;\n\n")
+            .append("/*\n")
+            .append(" * Antro Compiler Project\n")
+            .append(" * https://www.coolcodes.io/antro\n")
+            .append(" * Copyright (c) 2014-2026 Ifeora Okechukwu\n")
+            .append(" * Licensed under the MIT license. See 'LICENSE' for details.\n")
+            .append(" */\n\n")
+            .append("/**\n")
+            .append(" * The statement-level LL(1) prediction table: the kind of statement\n")
+            .append(" * that starts with a given token.\n")
+            .append(" *\n")
+            .append(" * @NOTE: Generated by `LL1TableGenerator` from ").append(grammarDocumentName).append(" (do not edit)\n")
+            .append(" */\n")
+            .append("public final class StatementPredictionTable {\n")
+            .append("    private static final StatementKind[] PREDICTIONS = new StatementKind[TokenType.values().length];\n\n")
+            .append("    static {\n");
+
+        for (Map.Entry<TokenType, StatementKind> entry : table.entrySet()) {
+            source.append("        PREDICTIONS[TokenType.").append(entry.getKey().name())
+                .append(".ordinal()] = StatementKind.").append(entry.getValue().name()).append(";\n");
+        }
+
+        source.append("    }\n\n")
+            .append("    private StatementPredictionTable() {\n")
+            .append("    }\n\n")
+            .append("    /**\n")
+            .append("     * Predicts the kind of statement from its first token.\n")
+            .append("     */\n")
+            .append("    public static StatementKind predict(TokenType type) {\n")
+            .append("        StatementKind kind = PREDICTIONS[type.ordinal()];\n")
+            .append("        return kind == null ? StatementKind.EXPRESSION : kind;\n")
+            .append("    }\n")
+            .append("}\n");
+
+        return source.toString();
+    }
+
+    private static String describe(List<String> alternative) {
+        return alternative.isEmpty() ? "<epsilon>" : String.join(" ", alternative);
+    }
+
+    private static Set<String> render(Set<List<String>> strings) {
+        Set<String> rendered = new TreeSet<>();
+
+        for (List<String> string : strings) {
+            rendered.add(string.isEmpty() ? "<end>" : String.join(" ", string));
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(rendered));
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path grammarDocument = Paths.get(DEFAULT_GRAMMAR_DOCUMENT);
+        Path emitTarget = null;
+
+        for (int index = 0; index < args.length; index++) {
+            if (args[index].equals("--emit") && index + 1 < args.length) {
+                emitTarget = Paths.get(args[++index]);
+            } else {
+                grammarDocument = Paths.get(args[index]);
+            }
+        }
+
+        LL1TableGenerator generator = new LL1TableGenerator(new EbnfGrammarReader().read(grammarDocument));
+        System.out.print(generator.toReport());
+
+        if (emitTarget != null) {
+            Files.writeString(emitTarget, generator.toJavaSource(grammarDocument.getFileName().toString()));
+            System.out.println("\nWrote " + emitTarget);
+        }
+    }
+}
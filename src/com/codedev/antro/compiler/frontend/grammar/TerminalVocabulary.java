@@ -0,0 +1,122 @@
+package com.codedev.antro.compiler.frontend.grammar;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.codedev.antro.compiler.frontend.lexer.TokenType;
+import static com.codedev.antro.compiler.frontend.lexer.TokenType.*;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Maps the terminal names used by the context-free productions (i.e. the
+ * names of the regular grammar productions) to the token types emitted by
+ * the Tokenizer. A single name may stand for a whole category of tokens
+ * (e.g. `relationaloperator`).
+ */
+final class TerminalVocabulary {
+    private static final Map<String, List<TokenType>> TERMINALS = new HashMap<>();
+
+    static {
+        // Identifiers & literals
+        map("identifier", IDENTIFIER);
+        map("int", INT_LITERAL);
+        map("float", FLOAT_LITERAL);
+        map("string", STRING);
+        map("formattedstring", FORMATTED_STRING);
+        map("boolean", BOOLEAN);
+        map("null", NULL);
+        map("literal", INT_LITERAL, FLOAT_LITERAL, STRING, FORMATTED_STRING, BOOLEAN, NULL);
+        map("type", TYPE_INT, TYPE_FLT, TYPE_STR, TYPE_ARR, TYPE_BOOL, TYPE_NIL, TYPE_BYTE, TYPE_CHAR, TYPE_DBL, TYPE_CUSTOM);
+
+        // Keywords
+        map("if", IF);
+        map("else", ELSE);
+        map("elif", ELIF);
+        map("for", FOR);
+        map("while", WHILE);
+        map("do", DO);
+        map("begin", BEGIN);
+        map("end", END);
+        map("def", DEF);
+        map("var", VAR);
+        map("retn", RETURN);
+        map("module", MODULE);
+        map("void", VOID);
+        map("switch", SWITCH);
+        map("case", CASE);
+        map("default", DEFAULT);
+        map("break", BREAK);
+        map("continue", CONTINUE);
+        map("export", EXPORT);
+        map("require", REQUIRE);
+        map("defer", DEFER);
+        map("hook", USE);
+        map("opanic", PANIC_ON);
+        map("oeject", EJECT_ON);
+        map("call", CALL);
+        map("new", NEW);
+        map("invariants", INVARIANTS);
+        map("aliaser", ALIASER);
+        map("struct", STRUCT);
+        map("implementation", IMPLEMENTATION);
+        map("pause", PAUSE);
+        map("inherits", INHERITS);
+        map("trait", TRAIT);
+
+        // Operators
+        map("plus", PLUS);
+        map("minus", MINUS);
+        map("multiply", STAR);
+        map("divide", SLASH);
+        map("modulo", MODULO);
+        map("arithmeticbinaryoperator", PLUS, MINUS, STAR, SLASH, MODULO);
+        map("arithmeticbinaryoperators", PLUS, MINUS, STAR, SLASH, MODULO);
+        map("arithmeticunaryoperator", INCREMENT, DECREMENT);
+        map("arithmeticunaryoperators", INCREMENT, DECREMENT);
+        map("assignmentoperator", ASSIGN, PLUS_ASSIGN, MINUS_ASSIGN, STAR_ASSIGN, SLASH_ASSIGN, MOD_ASSIGN);
+        map("relationaloperator", EQUAL, NOT_EQUAL, GREATER, GREATER_EQUAL, LESS, LESS_EQUAL);
+        map("logicalbinaryoperator", LOGICAL_AND, LOGICAL_OR);
+        map("logicalbinaryoperators", LOGICAL_AND, LOGICAL_OR);
+        map("logicalunaryoperator", LOGICAL_NOT);
+        map("bitwise", BIT_AND, BIT_OR);
+        map("link", ARROW);
+        map("signlink", DOUBLE_ARROW);
+
+        // Delimiters
+        map("openbracket", LPAREN);
+        map("closebracket", RPAREN);
+        map("openbrace", LBRACE);
+        map("closebrace", RBRACE);
+        map("opencue", LBRACKET);
+        map("closecue", RBRACKET);
+        map("comma", COMMA);
+        map("dot", DOT);
+        map("cursor", COLON);
+        map("terminator", SEMICOLON);
+        map("ace", AT);
+        map("annotation", ANNOTATION);
+        map("joiner", JOINER);
+        map("EOF", EOF);
+    }
+
+    private TerminalVocabulary() {
+    }
+
+    private static void map(String name, TokenType... types) {
+        TERMINALS.put(name, List.of(types));
+    }
+
+    /**
+     * Returns the token types a terminal name stands for (or null if the name is unknown).
+     */
+    static List<TokenType> resolve(String name) {
+        return TERMINALS.get(name);
+    }
+}
@@ -0,0 +1,151 @@
+package com.codedev.antro.compiler.frontend.lexer;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.codedev.antro.compiler.frontend.lexer.metrics.LexemeQueueMetrics;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Bounds the number of tokens in a `LexemeQueue` by an effective capacity
+ * that grows or shrinks (within bounds) based on how long the producer
+ * (i.e. Tokenizer) stalls and the consumer (i.e. Parser) waits.
+ *
+ * After every window of pushes, the stall and wait times recorded in that
+ * window decide the next capacity. The gate times both sides itself, so
+ * it adapts whether or not (and however) the queue's metrics are kept:
+ *
+ * - both sides blocked: the rates are bursty, so the capacity doubles to absorb the bursts.
+ * - only the producer blocked: the Parser is the bottleneck and a full queue just holds
+ *   tokens in memory, so the capacity shrinks by a quarter.
+ * - only the consumer blocked: the Tokenizer is the bottleneck and the queue stays near
+ *   empty, so the capacity shrinks by a quarter.
+ * - neither side blocked: the capacity is kept.
+ */
+final class AdaptiveCapacityGate {
+    private static final int WINDOW_SIZE = 64;
+    // Blocking shorter than this (per window) is treated as noise
+    private static final long BLOCKED_THRESHOLD_NANOS = 20_000;
+
+    private final int minCapacity;
+    private final int maxCapacity;
+    private final ResizableSemaphore permits;
+
+    private volatile int capacity;
+
+    // @INFO: Written by the consumer thread, read by the producer thread
+    private final AtomicLong consumerWaitNanos = new AtomicLong();
+
+    // @INFO: Only ever touched by the producer thread
+    private int pushesInWindow = 0;
+    private long producerStallNanos = 0;
+    private long lastProducerStallNanos = 0;
+    private long lastConsumerWaitNanos = 0;
+
+    AdaptiveCapacityGate(int minCapacity, int maxCapacity) {
+        if (minCapacity < 1 || maxCapacity < minCapacity) {
+            throw new IllegalArgumentException(
+                "invalid capacity bounds: [" + minCapacity + ", " + maxCapacity + "]"
+            );
+        }
+        this.minCapacity = minCapacity;
+        this.maxCapacity = maxCapacity;
+        this.capacity = minCapacity;
+        this.permits = new ResizableSemaphore(minCapacity);
+    }
+
+    /**
+     * Takes a slot in the queue for the next token.
+     * Called by the producer (thread) before queuing a token.
+     */
+    void acquire(LexemeQueueMetrics metrics) throws InterruptedException {
+        if (!permits.tryAcquire()) {
+            // @HINT: Only time the hand-off when the producer actually has to block
+            long stallStart = System.nanoTime();
+            permits.acquire();
+            long stall = System.nanoTime() - stallStart;
+
+            producerStallNanos += stall;
+            metrics.recordProducerStall(stall);
+        }
+
+        if (++pushesInWindow >= WINDOW_SIZE) {
+            pushesInWindow = 0;
+            adapt();
+        }
+    }
+
+    /**
+     * Frees the slot of a token taken out of the queue.
+     * Called by the consumer (thread).
+     */
+    void release() {
+        permits.release();
+    }
+
+    /**
+     * Records how long the consumer (thread) blocked waiting for a token.
+     */
+    void recordConsumerWait(long nanos) {
+        consumerWaitNanos.addAndGet(nanos);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    private void adapt() {
+        long totalConsumerWaitNanos = consumerWaitNanos.get();
+
+        boolean producerBlocked = producerStallNanos - lastProducerStallNanos > BLOCKED_THRESHOLD_NANOS;
+        boolean consumerBlocked = totalConsumerWaitNanos - lastConsumerWaitNanos > BLOCKED_THRESHOLD_NANOS;
+
+        lastProducerStallNanos = producerStallNanos;
+        lastConsumerWaitNanos = totalConsumerWaitNanos;
+
+        if (producerBlocked && consumerBlocked) {
+            resize(Math.min(maxCapacity, capacity * 2));
+        } else if (producerBlocked || consumerBlocked) {
+            resize(Math.max(minCapacity, capacity - Math.max(1, capacity / 4)));
+        }
+    }
+
+    private void resize(int newCapacity) {
+        int delta = newCapacity - capacity;
+
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            // @NOTE: Permits may go negative; the producer then waits for the consumer to drain the excess
+            permits.reducePermits(-delta);
+        }
+
+        capacity = newCapacity;
+    }
+
+    /**
+     * A semaphore that exposes `reducePermits(...)` so the capacity can shrink.
+     */
+    private static final class ResizableSemaphore extends Semaphore {
+        private static final long serialVersionUID = 1L;
+
+        ResizableSemaphore(int permits) {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -4,10 +4,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Deque;
 import java.util.ArrayDeque;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
+import com.codedev.antro.compiler.frontend.lexer.metrics.LexemeQueueMetrics;
+
 import com.codedev.antro.compiler.frontend.helpers.NoticeConsoleLogger;
+import com.codedev.antro.compiler.frontend.contracts.concerns.LexisException;
 
 /*
  * Antro Compiler Project
@@ -17,22 +21,46 @@ import com.codedev.antro.compiler.frontend.helpers.NoticeConsoleLogger;
  */
 
 /**
- * A idle-wait blocking queue that coordinates the transfer of tokens
+ * A blocking queue that coordinates the transfer of tokens
  * from a producer (i.e. Tokenizer) to a consumer (i.e. Parser) in a 
  * thread-safe way while dealing with back-pressure and synchronization.
+ *
+ * The end of the token stream is signalled explicitly by the producer: 
+ * either with an EOF token (i.e. success) or with a {@link PoisonToken}
+ * (i.e. failure). The consumer never has to guess it by timing out.
+ *
+ * The capacity is either fixed at construction or adaptive (i.e. it moves
+ * between a lower and an upper bound driven by the measured stall times 
+ * on both sides; see {@link AdaptiveCapacityGate}).
+ *
+ * A queue may also be one side of a {@link TokenBroadcastRing}: either the
+ * producer's side or a single consumer's side. Then every consumer (e.g. 
+ * Parser, highlighter, indexer) reads the same token stream at its own pace.
  */
 public class LexemeQueue {
-    private boolean ALL_TOKENS_QUEUED;
+    private volatile boolean ALL_TOKENS_QUEUED;
     // Stores a history of the last 5 tokens processed (optional diagnostic use)
     private final List<Token> tokensHistoryList;
-    // The thread-safe conduit between `Tokenizer` and `Parser`
-    private final LinkedBlockingQueue<Token> tokenQueue;
+    // The thread-safe conduit between `Tokenizer` and `Parser` (null on the producer side of a broadcast ring)
+    private final BlockingQueue<Token> tokenQueue;
+    // The producer side of a broadcast ring (null for any other queue)
+    private final TokenBroadcastRing.Publisher ringPublisher;
     // Used to handle the "pushBack" logic specifically
     private final Deque<Token> lookaheadStack = new ArrayDeque<>();
     // The head index of the history of the last 5 tokens processed
     private final int tokensHistoryList_HeadIndex = 0;
 
-    private int lastSeenLineNumber = 0;
+    // The EOF (or poison) token once it has been received by the consumer
+    private Token terminalToken = null;
+    // The failure reported by the producer (if any)
+    private volatile LexisException producerFailure = null;
+
+    private volatile int lastSeenLineNumber = 0;
+
+    // Hand-off counters and histograms (i.e. stalls, waits, occupancy); `DISABLED` unless asked for
+    private final LexemeQueueMetrics metrics;
+    // Bounds the effective capacity in adaptive mode (null when the capacity is fixed)
+    private final AdaptiveCapacityGate capacityGate;
 
     // @INFO: Default constructor (Arity = 0)
     public LexemeQueue() {
@@ -42,22 +70,109 @@ public class LexemeQueue {
 
     // @INFO: Single-argument constructor (Arity = 1)
     public LexemeQueue(int queueCapacity) {
+        this(queueCapacity, LexemeQueueMetrics.DISABLED);
+    }
+
+    // @INFO: Two-argument constructor (Arity = 2)
+    public LexemeQueue(int queueCapacity, LexemeQueueMetrics metrics) {
         this.tokensHistoryList = new ArrayList<>();
         this.tokenQueue = new LinkedBlockingQueue<>(queueCapacity);
+        this.ringPublisher = null;
+        this.ALL_TOKENS_QUEUED = false;
+        this.metrics = metrics == null ? LexemeQueueMetrics.DISABLED : metrics;
+        this.capacityGate = null;
+    }
+
+    // @INFO: Three-argument constructor (Arity = 3) for the adaptive capacity mode
+    public LexemeQueue(int minQueueCapacity, int maxQueueCapacity, LexemeQueueMetrics metrics) {
+        this.tokensHistoryList = new ArrayList<>();
+        this.capacityGate = new AdaptiveCapacityGate(minQueueCapacity, maxQueueCapacity);
+        // @HINT: The poison token may need one extra slot beyond the upper bound
+        this.tokenQueue = new LinkedBlockingQueue<>(maxQueueCapacity + 1);
+        this.ringPublisher = null;
+        this.ALL_TOKENS_QUEUED = false;
+        this.metrics = metrics == null ? LexemeQueueMetrics.DISABLED : metrics;
+    }
+
+    // @INFO: Single-argument constructor (Arity = 1) for the producer side of a broadcast ring
+    public LexemeQueue(TokenBroadcastRing ring) {
+        this.tokensHistoryList = new ArrayList<>();
+        this.tokenQueue = null;
+        this.ringPublisher = ring.publisher();
+        this.ALL_TOKENS_QUEUED = false;
+        this.metrics = LexemeQueueMetrics.DISABLED;
+        this.capacityGate = null;
+    }
+
+    // @INFO: Single-argument constructor (Arity = 1) for a consumer side of a broadcast ring
+    public LexemeQueue(TokenBroadcastRing.Subscription subscription) {
+        this.tokensHistoryList = new ArrayList<>();
+        this.tokenQueue = subscription;
+        this.ringPublisher = null;
         this.ALL_TOKENS_QUEUED = false;
+        this.metrics = LexemeQueueMetrics.DISABLED;
+        this.capacityGate = null;
     }
 
     /**
-     * Adds a token to the end of the queue. 
-     * Called by the Tokenizer (thread).
+     * Adds a token to the end of the queue, blocking while the 
+     * queue is at capacity. Called by the Tokenizer (thread).
      */
     public final boolean pushNextToken(Token token) throws InterruptedException {
         if (token == null) return false;
+        if (ALL_TOKENS_QUEUED) {
+            // @HINT: Nothing is accepted after the stream has been closed
+            return false;
+        }
         if (isEOFToken(token)) {
             ALL_TOKENS_QUEUED = true;
         }
         lastSeenLineNumber = token.getLineNumber();
-        return tokenQueue.offer(token, 120, TimeUnit.MILLISECONDS);
+        metrics.recordPush(queuedCount());
+
+        if (ringPublisher != null) {
+            ringPublisher.put(token);
+        } else if (capacityGate != null) {
+            // @INFO: The gate blocks (and records the stall) while at the effective capacity
+            capacityGate.acquire(metrics);
+            tokenQueue.put(token);
+        } else if (!tokenQueue.offer(token)) {
+            // @HINT: Only time the hand-off when the producer actually has to block
+            long stallStart = System.nanoTime();
+            tokenQueue.put(token);
+            metrics.recordProducerStall(System.nanoTime() - stallStart);
+        }
+        return true;
+    }
+
+    /**
+     * Closes the stream on behalf of a failed producer. Called by the
+     * Tokenizer (thread) when lexical analysis fails.
+     *
+     * Tokens still pending are discarded and a {@link PoisonToken} is 
+     * queued in their place, so that the consumer fails right away.
+     */
+    public final boolean abortWithFailure(LexisException failure) {
+        if (ALL_TOKENS_QUEUED) return false;
+
+        producerFailure = failure;
+        ALL_TOKENS_QUEUED = true;
+
+        /* 
+            @NOTE:
+            
+            The queue is cleared first so there is always room for the 
+            poison token. This way the producer can never block here.
+        */
+        PoisonToken poison = new PoisonToken(failure, lastSeenLineNumber + 1);
+
+        if (ringPublisher != null) {
+            // @HINT: Published tokens belong to the consumers; the poison overtakes them instead
+            return ringPublisher.offer(poison);
+        }
+
+        tokenQueue.clear();
+        return tokenQueue.offer(poison);
     }
 
     /**
@@ -65,77 +180,74 @@ public class LexemeQueue {
      * push-back buffer or the main queue.
      */
     public final boolean hasMoreTokens() {
-        return !lookaheadStack.isEmpty() || !tokenQueue.isEmpty() || !ALL_TOKENS_QUEUED;
+        return !lookaheadStack.isEmpty() || terminalToken == null;
+    }
+
+    /**
+     * Checks if the producer closed the stream because of a failure.
+     */
+    public final boolean hasProducerFailed() {
+        return producerFailure != null;
+    }
+
+    /**
+     * Retrieves the failure reported by the producer (if any).
+     */
+    public final LexisException getProducerFailure() {
+        return producerFailure;
     }
 
     /**
      * Retrieves the next token without removing it.
+     * Blocks until the producer has queued a token.
      */
     public final Token peekLookAheadToken() throws InterruptedException {
         if (!lookaheadStack.isEmpty()) {
             return lookaheadStack.peek();
         }
-        
-        // This snippet achieves the exact wait logic (4 cycles of 100ms = 400ms) efficiently:
-        // `Token token = tokenQueue.poll(400, TimeUnit.MILLISECONDS);`
 
-        /* 
-            @NOTE:
-            
-            However, i don't want to use `tokenQueue.poll(...)` because i'm going to have to 
-            re-add the token back to the queue after calling `tokenQueue.poll(...)`.
-
-            Therefore, i'll use `tokenQueue.peek(...)` along with `Thread.sleep(...)` instead
-        */
-
-        Token token = null;
-        int MAX_IDLE_WAIT_CYCLE = 4;
-        int CURR_IDLE_WAIT_CYCLE = 0;
+        Token token = receiveNextToken();
 
-        while ((token = tokenQueue.peek()) == null) {
-            Thread.sleep(100);
-            if (!tokenQueue.isEmpty()) {
-                continue;
-            }
-
-            if (CURR_IDLE_WAIT_CYCLE >= MAX_IDLE_WAIT_CYCLE || tokenQueue.isEmpty()) {
-                break;
-            }
-            CURR_IDLE_WAIT_CYCLE++;
+        if (token != terminalToken) {
+            // @HINT: Park the token in front so the next pull returns it
+            lookaheadStack.push(token);
         }
 
-        return token == null ? new Token(TokenType.EOF, "\0", lastSeenLineNumber + 1, 1) : token;
+        return token;
     }
 
     /**
      * Pulls the next token out entirely. 
-     * If the queue is empty, this will return `null` after trigerring
-     * a scheduling point (i.e. calling `Thread.sleep(...)`).
+     * If `canIdleWait` is false and the queue stays empty for a short
+     * while, this will return `null`.
      */
     public final Token pullNextToken(boolean canIdleWait) throws InterruptedException {
         Token token;
-        int MAX_IDLE_WAIT_CYCLE = 2;
-        int CURR_IDLE_WAIT_CYCLE = 0;
 
         if (!lookaheadStack.isEmpty()) {
             token = lookaheadStack.pop();
+        } else if (canIdleWait) {
+            token = receiveNextToken();
         } else {
-            token = canIdleWait ? tokenQueue.take() : tokenQueue.poll(150, TimeUnit.MILLISECONDS);
-        }
+            token = terminalToken != null ? terminalToken : consumerQueue().poll();
 
-        while (token == null && (token = peekLookAheadToken()) == null) {
-            Thread.sleep(120);
-            if (!tokenQueue.isEmpty()) {
-                continue;
+            if (token == null) {
+                long waitStart = System.nanoTime();
+                token = consumerQueue().poll(150, TimeUnit.MILLISECONDS);
+                recordConsumerWait(System.nanoTime() - waitStart);
             }
 
-            if (CURR_IDLE_WAIT_CYCLE >= MAX_IDLE_WAIT_CYCLE) {
-                break;
+            if (token != null && token != terminalToken) {
+                releaseSlot();
+            }
+
+            if (token != null && isEOFToken(token)) {
+                markTerminal(token);
             }
-            CURR_IDLE_WAIT_CYCLE++;
         }
 
         if (token != null) {
+            metrics.recordPull();
             tokensHistoryList.add(token.clone());
 
             if (tokensHistoryList.size() > 5) {
@@ -150,7 +262,7 @@ public class LexemeQueue {
      * Overload version of `pullNextToken(boolean canIdleWait)`
      */
     public final Token pullNextToken() throws InterruptedException {
-        return pullNextToken(false);
+        return pullNextToken(true);
     }
 
     /**
@@ -174,9 +286,67 @@ public class LexemeQueue {
      * Check if the token queue is full.
      */
     public final boolean isAtCapacity () {
-        int currentSize = tokenQueue.size();
-        int totalCapacity = currentSize + tokenQueue.remainingCapacity();
-        return currentSize == totalCapacity;
+        return queuedCount() >= getCapacity();
+    }
+
+    /**
+     * Retrieve the current (effective) capacity of the token queue.
+     */
+    public final int getCapacity () {
+        if (capacityGate != null) {
+            return capacityGate.getCapacity();
+        }
+        if (ringPublisher != null) {
+            return ringPublisher.size() + ringPublisher.remainingCapacity();
+        }
+        return tokenQueue.size() + tokenQueue.remainingCapacity();
+    }
+
+    /**
+     * Retrieve the number of tokens queued (i.e. not yet read by the
+     * slowest consumer, on the producer side of a broadcast ring).
+     */
+    private int queuedCount() {
+        return ringPublisher != null ? ringPublisher.size() : tokenQueue.size();
+    }
+
+    /**
+     * Retrieve the queue the consumer reads from.
+     */
+    private BlockingQueue<Token> consumerQueue() {
+        if (tokenQueue == null) {
+            throw new IllegalStateException("the producer side of a broadcast ring cannot be read");
+        }
+        return tokenQueue;
+    }
+
+    /**
+     * Records a consumer wait in the metrics and (in adaptive mode) the
+     * capacity gate, which resizes by its own timings.
+     */
+    private void recordConsumerWait(long nanos) {
+        metrics.recordConsumerWait(nanos);
+
+        if (capacityGate != null) {
+            capacityGate.recordConsumerWait(nanos);
+        }
+    }
+
+    /**
+     * Frees the slot of a token just taken out of the queue (adaptive mode only).
+     */
+    private void releaseSlot() {
+        if (capacityGate != null) {
+            capacityGate.release();
+        }
+    }
+
+    /**
+     * Retrieve the hand-off metrics of this queue (`LexemeQueueMetrics.DISABLED`
+     * unless some were given at construction).
+     */
+    public final LexemeQueueMetrics getMetrics () {
+        return metrics;
     }
 
     /**
@@ -187,10 +357,66 @@ public class LexemeQueue {
         return lastSeenLineNumber;
     }
 
+    /**
+     * Takes the next token from the producer. Once the terminal token 
+     * (i.e. EOF or poison) is received, it is handed out on every call
+     * without blocking again.
+     */
+    private Token receiveNextToken() throws InterruptedException {
+        if (terminalToken != null) {
+            return terminalToken;
+        }
+
+        Token token = consumerQueue().poll();
+
+        if (token == null) {
+            // @HINT: Only time the hand-off when the consumer actually has to block
+            long waitStart = System.nanoTime();
+            token = consumerQueue().take();
+            recordConsumerWait(System.nanoTime() - waitStart);
+        }
+
+        releaseSlot();
+
+        if (isEOFToken(token)) {
+            markTerminal(token);
+        }
+
+        return token;
+    }
+
+    /**
+     * Records the terminal token received by the consumer. A poison token
+     * carries the producer's failure across to this (consumer) side, which
+     * matters when producer and consumer do not share the same queue
+     * (i.e. broadcast ring).
+     */
+    private void markTerminal(Token token) {
+        terminalToken = token;
+
+        if (token instanceof PoisonToken && producerFailure == null) {
+            producerFailure = ((PoisonToken) token).getFailure();
+        }
+    }
+
+    /**
+     * Stops a consumer of a broadcast ring from holding back the producer
+     * (e.g. when the Parser bails out before EOF). No-op for other queues.
+     */
+    public final void unsubscribe() {
+        if (tokenQueue instanceof TokenBroadcastRing.Subscription) {
+            ((TokenBroadcastRing.Subscription) tokenQueue).cancel();
+        }
+    }
+
     /**
      * Pushes a token back to the front of the queue.
      * Useful when `Parser` needs to "un-read" a token.
+     *
+     * @deprecated Only single tokens can be un-read this way; the Parser
+     *             looks ahead with `TokenCursor.peekNext()` (i.e. LA(2)) instead.
      */
+    @Deprecated
     public final int pushBackToken(Token token) {
         if (token != null) {
             if (!lookaheadStack.isEmpty() && !lookaheadStack.peek().equals(token)) {
@@ -200,8 +426,9 @@ public class LexemeQueue {
                 );
             }
             lookaheadStack.push(token);
+            metrics.recordPushBack();
         }
-        return lookaheadStack.size() + tokenQueue.size();
+        return lookaheadStack.size() + queuedCount();
     }
 }
 
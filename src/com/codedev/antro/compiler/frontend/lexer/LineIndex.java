@@ -0,0 +1,87 @@
+package com.codedev.antro.compiler.frontend.lexer;
+
+import java.util.Arrays;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The start offset of every line of a source file, so that an offset (e.g.
+ * the start of a `Span`) is turned into a line and column by a binary
+ * search. Lines and columns are 1-based, as on tokens.
+ *
+ * The Tokenizer fills one in as it reads lines; read it only once the
+ * Tokenizer is done (i.e. it is not thread-safe).
+ */
+public final class LineIndex {
+    private int[] lineStarts = new int[256];
+    private int lineCount = 0;
+
+    /**
+     * Indexes the lines of a source text. Like the Tokenizer, it counts
+     * `\r\n`, `\r` and `\n` as a single line terminator (i.e. one offset).
+     */
+    public static LineIndex of(CharSequence source) {
+        LineIndex index = new LineIndex();
+        int offset = 0;
+
+        index.addLine(0);
+
+        for (int position = 0; position < source.length(); position++) {
+            char c = source.charAt(position);
+
+            if (c == '\r' && position + 1 < source.length() && source.charAt(position + 1) == '\n') {
+                continue;
+            }
+
+            offset++;
+
+            if ((c == '\n' || c == '\r') && position + 1 < source.length()) {
+                index.addLine(offset);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Records the start offset of the next line.
+     */
+    public void addLine(int start) {
+        if (lineCount == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+        }
+        lineStarts[lineCount++] = start;
+    }
+
+    public final int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Retrieves the start offset of a (1-based) line.
+     */
+    public final int getLineStart(int line) {
+        return lineStarts[line - 1];
+    }
+
+    /**
+     * Retrieves the (1-based) line an offset is on.
+     */
+    public final int getLine(int offset) {
+        int found = Arrays.binarySearch(lineStarts, 0, lineCount, offset);
+
+        // @HINT: Between two line starts, the line is the one before the insertion point
+        return found >= 0 ? found + 1 : Math.max(-found - 1, 1);
+    }
+
+    /**
+     * Retrieves the (1-based) column an offset is at.
+     */
+    public final int getColumn(int offset) {
+        return offset - getLineStart(getLine(offset)) + 1;
+    }
+}
@@ -0,0 +1,38 @@
+package com.codedev.antro.compiler.frontend.lexer;
+
+import com.codedev.antro.compiler.frontend.contracts.concerns.LexisException;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * A terminal token queued by the producer (i.e. Tokenizer) when lexical
+ * analysis fails. It reads as an EOF token to the consumer (i.e. Parser)
+ * so that parsing stops at once, while still carrying the lexer failure.
+ */
+public class PoisonToken extends Token {
+
+    private final LexisException failure;
+
+    /**
+     * Constructs a new PoisonToken
+     *
+     * @param failure the exception that aborted the lexical analysis.
+     * @param line the line number just after the last queued token.
+     */
+    public PoisonToken(LexisException failure, int line) {
+        super(TokenType.EOF, String.valueOf('\0'), line, 1);
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the exception that aborted the lexical analysis.
+     */
+    public final LexisException getFailure() {
+        return this.failure;
+    }
+}
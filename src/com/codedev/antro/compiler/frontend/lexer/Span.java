@@ -0,0 +1,101 @@
+package com.codedev.antro.compiler.frontend.lexer;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * A source range packed into a single `long` (i.e. no object per node):
+ *
+ *    | file id (16 bits) | start offset (32 bits) | length (16 bits) |
+ *
+ * Offsets count characters as the Tokenizer reads them (i.e. a line
+ * terminator counts as one). A span is resolved to a line and column
+ * with a `LineIndex`, and only when it is reported.
+ */
+public final class Span {
+    // No position (e.g. a node built without a source)
+    public static final long NONE = -1L;
+
+    public static final int MAX_FILE_ID = 0xFFFF;
+    public static final int MAX_LENGTH = 0xFFFF;
+
+    private Span() {
+    }
+
+    /**
+     * Packs a span (a length beyond `MAX_LENGTH` is clamped).
+     */
+    public static long of(int fileId, int start, int length) {
+        if (fileId < 0 || fileId > MAX_FILE_ID) {
+            throw new IllegalArgumentException("file id out of range: " + fileId);
+        }
+
+        if (start < 0) {
+            return NONE;
+        }
+
+        return ((long) fileId << 48)
+            | ((start & 0xFFFFFFFFL) << 16)
+            | Math.min(Math.max(length, 0), MAX_LENGTH);
+    }
+
+    /**
+     * Packs the span of a token (or `NONE` if it has no position).
+     */
+    public static long of(int fileId, Token token) {
+        return token == null ? NONE : of(fileId, token.getOffset(), token.getLength());
+    }
+
+    /**
+     * Packs the span from the start of one span to the end of another
+     * (e.g. a call, from its name to its closing paren).
+     */
+    public static long cover(long first, long last) {
+        if (first == NONE) {
+            return last;
+        }
+
+        if (last == NONE) {
+            return first;
+        }
+        return of(getFileId(first), getStart(first), getEnd(last) - getStart(first));
+    }
+
+    /**
+     * Moves a span by a number of characters (e.g. a construct below an
+     * edit that added some), keeping its file id and length.
+     */
+    public static long shift(long span, int delta) {
+        if (span == NONE || delta == 0) {
+            return span;
+        }
+        return of(getFileId(span), getStart(span) + delta, getLength(span));
+    }
+
+    public static int getFileId(long span) {
+        return (int) (span >>> 48);
+    }
+
+    public static int getStart(long span) {
+        return (int) ((span >>> 16) & 0xFFFFFFFFL);
+    }
+
+    public static int getLength(long span) {
+        return (int) (span & MAX_LENGTH);
+    }
+
+    public static int getEnd(long span) {
+        return getStart(span) + getLength(span);
+    }
+
+    public static String toString(long span) {
+        if (span == NONE) {
+            return "<no span>";
+        }
+        return getFileId(span) + ":" + getStart(span) + "+" + getLength(span);
+    }
+}
@@ -16,12 +16,21 @@ public class Token implements Cloneable {
     private final String lexeme;
     private final int line;
     private final int column;
+    // Where the token sits in the source (i.e. its span), or -1 if unknown
+    private final int offset;
+    private final int length;
 
     public Token(TokenType type, String lexeme, int line, int column) {
+        this(type, lexeme, line, column, -1, 0);
+    }
+
+    public Token(TokenType type, String lexeme, int line, int column, int offset, int length) {
         this.type = type;
         this.lexeme = lexeme;
         this.line = line;
         this.column = column;
+        this.offset = offset;
+        this.length = length;
     }
 
     /**
@@ -52,13 +61,27 @@ public class Token implements Cloneable {
         return this.column;
     }
 
+    /**
+     * Retrieves the offset of the token's first character in the source (or -1 if unknown).
+     */
+    public final int getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Retrieves the number of source characters the token spans.
+     */
+    public final int getLength() {
+        return this.length;
+    }
+
     @Override
     public final Token clone() {
         try {
             return (Token) super.clone();
         } catch (CloneNotSupportedException e) {
             //throw new AssertionError(e);
-            return new Token(this.type, this.lexeme, this.line, this.column);
+            return new Token(this.type, this.lexeme, this.line, this.column, this.offset, this.length);
         }
     }
 
@@ -0,0 +1,398 @@
+package com.codedev.antro.compiler.frontend.lexer;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * A single-producer, multi-consumer broadcast ring buffer of tokens (in the
+ * style of the LMAX Disruptor). One Tokenizer run feeds any number of
+ * independent consumers (e.g. the Parser, a syntax highlighter and an
+ * identifier indexer) and every consumer sees every token.
+ *
+ * Each consumer owns a sequence (i.e. the next slot it will read). Reading
+ * never removes a token for the other consumers, and the producer only
+ * overwrites a slot once the slowest consumer has moved past it.
+ *
+ * The consumer side is exposed as a (read-only) `BlockingQueue` and the
+ * producer side as a `Publisher`, so both plug straight into a `LexemeQueue`:
+ *
+ *    TokenBroadcastRing ring = new TokenBroadcastRing(64, 3);
+ *    Tokenizer tokenizer = new Tokenizer(reader, new LexemeQueue(ring));
+ *    Parser parser = new Parser(new LexemeQueue(ring.subscribe()));
+ *    // ... one more `new LexemeQueue(ring.subscribe())` per tool
+ */
+public class TokenBroadcastRing {
+    private final Token[] slots;
+    private final int mask;
+    private final int capacity;
+    private final Subscription[] subscriptions;
+    private int subscribedCount = 0;
+
+    // The sequence of the last published token (-1 when nothing is published yet)
+    private volatile long publishedSequence = -1L;
+    // The poison token once the producer has failed (overtakes all pending tokens)
+    private volatile PoisonToken abortToken = null;
+    // @INFO: Producer-only cache of the slowest consumer's sequence
+    private long cachedGatingSequence = 0L;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition progress = lock.newCondition();
+    private volatile int waiters = 0;
+
+    /**
+     * Constructs a new TokenBroadcastRing
+     *
+     * @param capacity the number of slots (rounded up to a power of two).
+     * @param consumers the number of consumers (all must subscribe before they fall behind).
+     */
+    public TokenBroadcastRing(int capacity, int consumers) {
+        if (capacity < 1 || consumers < 1) {
+            throw new IllegalArgumentException(
+                "a broadcast ring needs at least one slot and one consumer"
+            );
+        }
+
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.capacity = capacity == 1 ? 1 : size;
+        this.mask = this.capacity - 1;
+        this.slots = new Token[this.capacity];
+
+        // @HINT: All consumers gate the producer from the start, so none of them can miss a token
+        this.subscriptions = new Subscription[consumers];
+        for (int index = 0; index < consumers; index++) {
+            this.subscriptions[index] = new Subscription();
+        }
+    }
+
+    /**
+     * Hands out the next consumer's subscription.
+     */
+    public final synchronized Subscription subscribe() {
+        if (subscribedCount >= subscriptions.length) {
+            throw new IllegalStateException(
+                "all " + subscriptions.length + " consumer(s) of the broadcast ring already subscribed"
+            );
+        }
+        return subscriptions[subscribedCount++];
+    }
+
+    /**
+     * Returns the producer's view of this ring (i.e. write-only).
+     */
+    public final Publisher publisher() {
+        return new Publisher();
+    }
+
+    public final int getCapacity() {
+        return capacity;
+    }
+
+    /* ============================
+       Producer side
+       ============================ */
+
+    private boolean publish(Token token, long nanos) throws InterruptedException {
+        if (token instanceof PoisonToken) {
+            // @INFO: A failure is broadcast at once and never waits for a free slot
+            abortToken = (PoisonToken) token;
+            signalProgress();
+            return true;
+        }
+
+        long nextSequence = publishedSequence + 1;
+        long wrapPoint = nextSequence - capacity;
+
+        if (cachedGatingSequence <= wrapPoint) {
+            cachedGatingSequence = minimumGatingSequence();
+
+            if (cachedGatingSequence <= wrapPoint) {
+                if (!awaitProgress(() -> minimumGatingSequence() > wrapPoint, nanos)) {
+                    return false;
+                }
+                cachedGatingSequence = minimumGatingSequence();
+            }
+        }
+
+        slots[(int) (nextSequence & mask)] = token;
+        // @HINT: The volatile write publishes the slot to every consumer
+        publishedSequence = nextSequence;
+        signalProgress();
+        return true;
+    }
+
+    private long minimumGatingSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (Subscription subscription : subscriptions) {
+            minimum = Math.min(minimum, subscription.nextSequence);
+        }
+        return minimum;
+    }
+
+    /* ============================
+       Waiting & signalling
+       ============================ */
+
+    private boolean awaitProgress(BooleanSupplier isReady, long nanos) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            waiters++;
+            try {
+                while (!isReady.getAsBoolean()) {
+                    if (nanos <= 0L) {
+                        return false;
+                    }
+                    nanos = progress.awaitNanos(nanos);
+                }
+                return true;
+            } finally {
+                waiters--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signalProgress() {
+        // @HINT: Skip the lock entirely when nobody is waiting (i.e. the common case)
+        if (waiters > 0) {
+            lock.lock();
+            try {
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * The write-only view used by the producer (i.e. Tokenizer). Only the
+     * publishing half of a queue is exposed, since the producer never reads.
+     */
+    public final class Publisher {
+
+        private Publisher() {
+        }
+
+        /**
+         * Publishes a token if a slot is free (without blocking).
+         */
+        public boolean offer(Token token) {
+            try {
+                return publish(token, 0L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        /**
+         * Publishes a token, blocking until the slowest consumer frees a slot.
+         */
+        public void put(Token token) throws InterruptedException {
+            publish(token, Long.MAX_VALUE);
+        }
+
+        /**
+         * Retrieves the number of tokens not yet read by the slowest consumer.
+         */
+        public int size() {
+            return (int) Math.max(0L, publishedSequence + 1 - minimumGatingSequence());
+        }
+
+        public int remainingCapacity() {
+            return capacity - size();
+        }
+    }
+
+    /**
+     * A single consumer's read-only view of the ring. Reading a token only
+     * moves this consumer's own sequence forward.
+     *
+     * Once the EOF (or poison) token is read, it is handed out again on
+     * every read that follows (i.e. it is never consumed). Blocking reads
+     * of a cancelled subscription fail instead of waiting for good.
+     */
+    public final class Subscription extends AbstractQueue<Token> implements BlockingQueue<Token> {
+        // The sequence of the next token this consumer will read
+        private volatile long nextSequence = 0L;
+        // The EOF (or poison) token once read (i.e. the end of this consumer's stream)
+        private Token terminalToken = null;
+        private volatile boolean cancelled = false;
+
+        @Override
+        public Token poll() {
+            if (terminalToken != null) {
+                return terminalToken;
+            }
+
+            PoisonToken poison = abortToken;
+
+            if (poison != null) {
+                return end(poison);
+            }
+
+            long sequence = nextSequence;
+
+            if (sequence > publishedSequence) {
+                return null;
+            }
+
+            Token token = slots[(int) (sequence & mask)];
+
+            if (token.getType() == TokenType.EOF) {
+                return end(token);
+            }
+
+            nextSequence = sequence + 1;
+            // @HINT: The producer may be waiting for this slot to be freed
+            signalProgress();
+            return token;
+        }
+
+        @Override
+        public Token poll(long timeout, TimeUnit unit) throws InterruptedException {
+            Token token = poll();
+
+            if (token == null && awaitProgress(this::isReadable, unit.toNanos(timeout))) {
+                token = poll();
+            }
+            return token;
+        }
+
+        @Override
+        public Token take() throws InterruptedException {
+            Token token;
+
+            while ((token = poll()) == null) {
+                if (cancelled) {
+                    throw new IllegalStateException("the subscription to the broadcast ring was cancelled");
+                }
+                awaitProgress(this::isReadable, Long.MAX_VALUE);
+            }
+            return token;
+        }
+
+        @Override
+        public Token peek() {
+            if (terminalToken != null) {
+                return terminalToken;
+            }
+
+            PoisonToken poison = abortToken;
+
+            if (poison != null) {
+                return poison;
+            }
+
+            long sequence = nextSequence;
+            return sequence > publishedSequence ? null : slots[(int) (sequence & mask)];
+        }
+
+        @Override
+        public int size() {
+            if (terminalToken != null) {
+                return 1;
+            }
+            return (int) Math.max(0L, publishedSequence + 1 - nextSequence);
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return capacity - size();
+        }
+
+        @Override
+        public boolean offer(Token token) {
+            throw new UnsupportedOperationException("a subscription to a broadcast ring is read-only");
+        }
+
+        @Override
+        public boolean offer(Token token, long timeout, TimeUnit unit) {
+            throw new UnsupportedOperationException("a subscription to a broadcast ring is read-only");
+        }
+
+        @Override
+        public void put(Token token) {
+            throw new UnsupportedOperationException("a subscription to a broadcast ring is read-only");
+        }
+
+        @Override
+        public int drainTo(Collection<? super Token> sink) {
+            return drainTo(sink, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int drainTo(Collection<? super Token> sink, int maxElements) {
+            int drained = 0;
+            Token token;
+
+            while (drained < maxElements && (token = poll()) != null) {
+                sink.add(token);
+                drained++;
+            }
+            return drained;
+        }
+
+        @Override
+        public Iterator<Token> iterator() {
+            Token head = peek();
+
+            if (head == terminalToken || head instanceof PoisonToken) {
+                // @HINT: The end of the stream (if reached) is all there is to read
+                return head == null ? Collections.emptyIterator() : Collections.singletonList(head).iterator();
+            }
+
+            List<Token> pending = new ArrayList<>();
+            long published = publishedSequence;
+
+            for (long sequence = nextSequence; sequence <= published; sequence++) {
+                pending.add(slots[(int) (sequence & mask)]);
+            }
+            return Collections.unmodifiableList(pending).iterator();
+        }
+
+        /**
+         * Stops this consumer from holding back the producer (e.g. when a
+         * tool is closed before the end of the token stream).
+         */
+        public void cancel() {
+            cancelled = true;
+            stopGating();
+        }
+
+        /**
+         * Ends this consumer's stream with the token read (i.e. EOF or poison).
+         */
+        private Token end(Token token) {
+            terminalToken = token;
+            // @HINT: Nothing is read past the end, so the producer need not wait for this consumer
+            stopGating();
+            return token;
+        }
+
+        private void stopGating() {
+            nextSequence = Long.MAX_VALUE;
+            signalProgress();
+        }
+
+        private boolean isReadable() {
+            return cancelled || abortToken != null || nextSequence <= publishedSequence;
+        }
+    }
+}
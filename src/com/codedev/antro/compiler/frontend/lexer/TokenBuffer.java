@@ -0,0 +1,110 @@
+package com.codedev.antro.compiler.frontend.lexer;
+
+import java.util.Arrays;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * A pre-lexed token stream (i.e. every token of a source file, up to and
+ * including the EOF or poison token) held in a plain array. Once filled, a
+ * buffer is only ever read, so slices of it can be parsed on several
+ * threads at once.
+ */
+public final class TokenBuffer {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private Token[] tokens;
+    private int size = 0;
+
+    // @INFO: Default constructor (Arity = 0)
+    public TokenBuffer() {
+        // pass default value inline
+        this(INITIAL_CAPACITY);
+    }
+
+    // @INFO: Single-argument constructor (Arity = 1)
+    public TokenBuffer(int initialCapacity) {
+        this.tokens = new Token[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Takes every token out of the queue (up to and including the EOF or
+     * poison token) into a new buffer.
+     */
+    public static TokenBuffer drain(LexemeQueue tokenQueue) throws InterruptedException {
+        TokenBuffer buffer = new TokenBuffer();
+        Token token;
+
+        do {
+            token = tokenQueue.pullNextToken(true);
+            buffer.add(token);
+        } while (!tokenQueue.isEOFToken(token));
+
+        return buffer;
+    }
+
+    public void add(Token token) {
+        if (size == tokens.length) {
+            tokens = Arrays.copyOf(tokens, tokens.length * 2);
+        }
+        tokens[size++] = token;
+    }
+
+    public final Token get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("token index " + index + " out of bounds for size " + size);
+        }
+        return tokens[index];
+    }
+
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Reads the whole buffer.
+     */
+    public TokenSource source() {
+        return slice(0, size);
+    }
+
+    /**
+     * Reads the tokens in `[from, to)` and then an EOF token (the buffer's
+     * own, if the slice runs to its end) on every call that follows.
+     */
+    public TokenSource slice(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("slice [" + from + ", " + to + ") out of bounds for size " + size);
+        }
+
+        final Token endToken = endTokenOf(to);
+
+        return new TokenSource() {
+            private int next = from;
+
+            @Override
+            public Token nextToken() {
+                return next < to ? tokens[next++] : endToken;
+            }
+        };
+    }
+
+    private Token endTokenOf(int to) {
+        if (to > 0 && tokens[to - 1].getType() == TokenType.EOF) {
+            return tokens[to - 1];
+        }
+
+        // @HINT: A slice cut short of the end gets an EOF token where the next token starts
+        if (to < size) {
+            return new Token(TokenType.EOF, String.valueOf('\0'), tokens[to].getLineNumber(), tokens[to].getColumnNumber());
+        }
+
+        int line = to > 0 ? tokens[to - 1].getLineNumber() + 1 : 1;
+        return new Token(TokenType.EOF, String.valueOf('\0'), line, 1);
+    }
+}
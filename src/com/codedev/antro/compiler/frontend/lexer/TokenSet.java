@@ -0,0 +1,119 @@
+package com.codedev.antro.compiler.frontend.lexer;
+
+import java.util.StringJoiner;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * An immutable set of token types stored as a bitmask over the ordinals
+ * of {@link TokenType} (e.g. FIRST/FOLLOW sets or error recovery sets).
+ *
+ * There are more than 64 token types, so the mask is split over two
+ * words. Membership is a single shift-and-mask test.
+ */
+public final class TokenSet {
+    private static final int WORD_SIZE = Long.SIZE;
+    private static final int MAX_TOKEN_TYPES = WORD_SIZE * 2;
+
+    public static final TokenSet EMPTY = new TokenSet(0L, 0L);
+
+    // Bits for the ordinals [0, 63]
+    private final long lowWord;
+    // Bits for the ordinals [64, 127]
+    private final long highWord;
+
+    private TokenSet(long lowWord, long highWord) {
+        this.lowWord = lowWord;
+        this.highWord = highWord;
+    }
+
+    /**
+     * Creates the set of the given token types.
+     */
+    public static TokenSet of(TokenType... types) {
+        long low = 0L;
+        long high = 0L;
+
+        for (TokenType type : types) {
+            int ordinal = type.ordinal();
+
+            if (ordinal >= MAX_TOKEN_TYPES) {
+                throw new IllegalArgumentException(
+                    "token type '" + type + "' does not fit in a token set"
+                );
+            }
+
+            if (ordinal < WORD_SIZE) {
+                low |= 1L << ordinal;
+            } else {
+                high |= 1L << (ordinal - WORD_SIZE);
+            }
+        }
+
+        return new TokenSet(low, high);
+    }
+
+    /**
+     * Returns a set of the token types in either set.
+     */
+    public TokenSet union(TokenSet other) {
+        return new TokenSet(lowWord | other.lowWord, highWord | other.highWord);
+    }
+
+    /**
+     * Returns a set of the token types in both sets.
+     */
+    public TokenSet intersect(TokenSet other) {
+        return new TokenSet(lowWord & other.lowWord, highWord & other.highWord);
+    }
+
+    public boolean contains(TokenType type) {
+        int ordinal = type.ordinal();
+        // @HINT: A long shift only uses the low 6 bits of the distance, so no `- 64` is needed
+        long word = ordinal < WORD_SIZE ? lowWord : highWord;
+        return (word & (1L << ordinal)) != 0L;
+    }
+
+    public boolean contains(Token token) {
+        return token != null && contains(token.getType());
+    }
+
+    public boolean isEmpty() {
+        return (lowWord | highWord) == 0L;
+    }
+
+    public int size() {
+        return Long.bitCount(lowWord) + Long.bitCount(highWord);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof TokenSet)) return false;
+
+        TokenSet that = (TokenSet) other;
+        return lowWord == that.lowWord && highWord == that.highWord;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(lowWord) * 31 + Long.hashCode(highWord);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+
+        for (TokenType type : TokenType.values()) {
+            if (contains(type)) {
+                joiner.add(type.name());
+            }
+        }
+        return joiner.toString();
+    }
+}
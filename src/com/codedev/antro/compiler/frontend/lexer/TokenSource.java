@@ -0,0 +1,21 @@
+package com.codedev.antro.compiler.frontend.lexer;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Where the Parser's `TokenCursor` takes tokens from (i.e. the live token
+ * queue or a pre-lexed `TokenBuffer`). Once the EOF (or poison) token is
+ * handed out, it is handed out on every call that follows.
+ */
+@FunctionalInterface
+public interface TokenSource {
+    /**
+     * Takes the next token (blocking until one is available).
+     */
+    Token nextToken() throws InterruptedException;
+}
@@ -57,5 +57,43 @@ public enum TokenType {
     LBRACE, RBRACE,
     LBRACKET, RBRACKET,
     COMMA, DOT, COLON, SEMICOLON,
-    AT, ANNOTATION, JOINER
+    AT, ANNOTATION, JOINER;
+
+    /**
+     * Retrieves how an operator reads in source (e.g. `+=` for `PLUS_ASSIGN`),
+     * or the name of any other type (i.e. whose image varies).
+     */
+    public String getSymbol() {
+        return switch (this) {
+            case PLUS -> "+";
+            case MINUS -> "-";
+            case STAR -> "*";
+            case SLASH -> "/";
+            case MODULO -> "%";
+            case INCREMENT -> "++";
+            case DECREMENT -> "--";
+            case ASSIGN -> "=";
+            case PLUS_ASSIGN -> "+=";
+            case MINUS_ASSIGN -> "-=";
+            case STAR_ASSIGN -> "*=";
+            case SLASH_ASSIGN -> "/=";
+            case MOD_ASSIGN -> "%=";
+            case EQUAL -> "==";
+            case NOT_EQUAL -> "!=";
+            case GREATER -> ">";
+            case GREATER_EQUAL -> ">=";
+            case LESS -> "<";
+            case LESS_EQUAL -> "<=";
+            case LOGICAL_AND -> "&&";
+            case LOGICAL_OR -> "||";
+            case LOGICAL_NOT -> "!";
+            case BIT_AND -> "&";
+            case BIT_OR -> "|";
+            case SHIFT_LEFT -> "<<";
+            case SHIFT_RIGHT -> ">>";
+            case ARROW -> "->";
+            case DOUBLE_ARROW -> "->>";
+            default -> name();
+        };
+    }
 }
@@ -0,0 +1,354 @@
+package com.codedev.antro.compiler.frontend.lexer.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * Low-overhead counters and histograms for the hand-off of tokens between
+ * the producer (i.e. Tokenizer) and the consumer (i.e. Parser).
+ *
+ * Stall and wait times are only measured on the slow path (i.e. when a
+ * side actually has to block), so an uncontended hand-off costs a few
+ * atomic increments and no clock reads.
+ *
+ * Metrics are opt-in: a queue given none records into `DISABLED`, a
+ * shared instance that ignores everything (i.e. no histograms per queue).
+ */
+public class LexemeQueueMetrics implements LexemeQueueMetricsMXBean {
+    private static final String OBJECT_NAME_PREFIX = "com.codedev.antro:type=LexemeQueue,name=";
+
+    /**
+     * The metrics of a queue that collects none (every `record...(...)` is a no-op).
+     */
+    public static final LexemeQueueMetrics DISABLED = new LexemeQueueMetrics(false);
+
+    private final boolean enabled;
+
+    private final LongAdder tokensPushed = new LongAdder();
+    private final LongAdder tokensPulled = new LongAdder();
+    private final LongAdder pushBacks = new LongAdder();
+
+    // Time the producer spent blocked in `pushNextToken(...)` on a full queue
+    private final LatencyHistogram producerStalls = new LatencyHistogram();
+    // Time the consumer spent blocked in `pullNextToken(...)` / `peekLookAheadToken()` on an empty queue
+    private final LatencyHistogram consumerWaits = new LatencyHistogram();
+    // Number of tokens already in the queue each time a token is pushed
+    private final LatencyHistogram occupancy = new LatencyHistogram();
+
+    private ObjectName registeredName = null;
+
+    // @INFO: Default constructor (Arity = 0)
+    public LexemeQueueMetrics() {
+        this(true);
+    }
+
+    private LexemeQueueMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public final boolean isEnabled() {
+        return enabled;
+    }
+
+    public final void recordPush(int queuedTokens) {
+        if (!enabled) return;
+
+        tokensPushed.increment();
+        occupancy.recordValue(queuedTokens);
+    }
+
+    public final void recordPull() {
+        if (!enabled) return;
+
+        tokensPulled.increment();
+    }
+
+    public final void recordPushBack() {
+        if (!enabled) return;
+
+        pushBacks.increment();
+    }
+
+    public final void recordProducerStall(long nanos) {
+        if (!enabled) return;
+
+        producerStalls.recordValue(nanos);
+    }
+
+    public final void recordConsumerWait(long nanos) {
+        if (!enabled) return;
+
+        consumerWaits.recordValue(nanos);
+    }
+
+    public final LatencyHistogram getProducerStalls() {
+        return producerStalls;
+    }
+
+    public final LatencyHistogram getConsumerWaits() {
+        return consumerWaits;
+    }
+
+    public final LatencyHistogram getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Adds the metrics of another queue (e.g. a finished compilation) into this one.
+     */
+    public final void add(LexemeQueueMetrics other) {
+        if (!enabled || !other.enabled) return;
+
+        tokensPushed.add(other.tokensPushed.sum());
+        tokensPulled.add(other.tokensPulled.sum());
+        pushBacks.add(other.pushBacks.sum());
+        producerStalls.add(other.producerStalls);
+        consumerWaits.add(other.consumerWaits);
+        occupancy.add(other.occupancy);
+    }
+
+    /**
+     * Takes a snapshot of the counters and totals (i.e. without the
+     * histograms), small enough to keep per compilation.
+     */
+    public final Summary summarize() {
+        return new Summary(
+            getTokensPushed(), getTokensPulled(), getPushBackCount(),
+            getProducerStallCount(), getProducerStallTotalNanos(),
+            getConsumerWaitCount(), getConsumerWaitTotalNanos()
+        );
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under the given name.
+     */
+    public final synchronized boolean register(String name) {
+        if (registeredName != null) return false;
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+            server.registerMBean(this, objectName);
+            registeredName = objectName;
+            return true;
+        } catch (JMException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server (if registered).
+     */
+    public final synchronized boolean unregister() {
+        if (registeredName == null) return false;
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            return true;
+        } catch (JMException ex) {
+            return false;
+        } finally {
+            registeredName = null;
+        }
+    }
+
+    /**
+     * Renders a human-readable report (e.g. at the end of a compilation).
+     */
+    public final String toReport(String title) {
+        StringBuilder report = new StringBuilder();
+
+        report.append("LexemeQueue hand-off report: ").append(title).append('\n');
+        report.append("  tokens pushed: ").append(getTokensPushed())
+              .append(", tokens pulled: ").append(getTokensPulled())
+              .append(", push-backs: ").append(getPushBackCount()).append('\n');
+        appendLatency(report, "producer stalls", producerStalls);
+        appendLatency(report, "consumer waits ", consumerWaits);
+        report.append("  occupancy: mean=").append(String.format("%.2f", getOccupancyMean()))
+              .append(", p99=").append(getOccupancyP99())
+              .append(", max=").append(getOccupancyMax()).append('\n');
+
+        return report.toString();
+    }
+
+    private static void appendLatency(StringBuilder report, String label, LatencyHistogram histogram) {
+        report.append("  ").append(label).append(": count=").append(histogram.getTotalCount())
+              .append(", total=").append(histogram.getTotalValue() / 1_000).append("us")
+              .append(", p50=").append(histogram.getValueAtPercentile(50.0) / 1_000).append("us")
+              .append(", p99=").append(histogram.getValueAtPercentile(99.0) / 1_000).append("us")
+              .append(", max=").append(histogram.getMaxValue() / 1_000).append("us").append('\n');
+    }
+
+    /* ============================
+       MXBean attributes
+       ============================ */
+
+    @Override
+    public long getTokensPushed() {
+        return tokensPushed.sum();
+    }
+
+    @Override
+    public long getTokensPulled() {
+        return tokensPulled.sum();
+    }
+
+    @Override
+    public long getPushBackCount() {
+        return pushBacks.sum();
+    }
+
+    @Override
+    public long getProducerStallCount() {
+        return producerStalls.getTotalCount();
+    }
+
+    @Override
+    public long getProducerStallTotalNanos() {
+        return producerStalls.getTotalValue();
+    }
+
+    @Override
+    public long getProducerStallP50Nanos() {
+        return producerStalls.getValueAtPercentile(50.0);
+    }
+
+    @Override
+    public long getProducerStallP99Nanos() {
+        return producerStalls.getValueAtPercentile(99.0);
+    }
+
+    @Override
+    public long getProducerStallMaxNanos() {
+        return producerStalls.getMaxValue();
+    }
+
+    @Override
+    public long getConsumerWaitCount() {
+        return consumerWaits.getTotalCount();
+    }
+
+    @Override
+    public long getConsumerWaitTotalNanos() {
+        return consumerWaits.getTotalValue();
+    }
+
+    @Override
+    public long getConsumerWaitP50Nanos() {
+        return consumerWaits.getValueAtPercentile(50.0);
+    }
+
+    @Override
+    public long getConsumerWaitP99Nanos() {
+        return consumerWaits.getValueAtPercentile(99.0);
+    }
+
+    @Override
+    public long getConsumerWaitMaxNanos() {
+        return consumerWaits.getMaxValue();
+    }
+
+    @Override
+    public double getOccupancyMean() {
+        return occupancy.getMean();
+    }
+
+    @Override
+    public long getOccupancyP99() {
+        return occupancy.getValueAtPercentile(99.0);
+    }
+
+    @Override
+    public long getOccupancyMax() {
+        return occupancy.getMaxValue();
+    }
+
+    @Override
+    public void reset() {
+        tokensPushed.reset();
+        tokensPulled.reset();
+        pushBacks.reset();
+        producerStalls.reset();
+        consumerWaits.reset();
+        occupancy.reset();
+    }
+
+    /**
+     * The counters and totals of a queue at some point (e.g. at the end
+     * of a compilation). All durations are in nanoseconds.
+     */
+    public static final class Summary {
+        private final long tokensPushed;
+        private final long tokensPulled;
+        private final long pushBacks;
+        private final long producerStallCount;
+        private final long producerStallTotalNanos;
+        private final long consumerWaitCount;
+        private final long consumerWaitTotalNanos;
+
+        private Summary(long tokensPushed, long tokensPulled, long pushBacks,
+                long producerStallCount, long producerStallTotalNanos,
+                long consumerWaitCount, long consumerWaitTotalNanos) {
+            this.tokensPushed = tokensPushed;
+            this.tokensPulled = tokensPulled;
+            this.pushBacks = pushBacks;
+            this.producerStallCount = producerStallCount;
+            this.producerStallTotalNanos = producerStallTotalNanos;
+            this.consumerWaitCount = consumerWaitCount;
+            this.consumerWaitTotalNanos = consumerWaitTotalNanos;
+        }
+
+        public final long getTokensPushed() {
+            return tokensPushed;
+        }
+
+        public final long getTokensPulled() {
+            return tokensPulled;
+        }
+
+        public final long getPushBackCount() {
+            return pushBacks;
+        }
+
+        public final long getProducerStallCount() {
+            return producerStallCount;
+        }
+
+        public final long getProducerStallTotalNanos() {
+            return producerStallTotalNanos;
+        }
+
+        public final long getConsumerWaitCount() {
+            return consumerWaitCount;
+        }
+
+        public final long getConsumerWaitTotalNanos() {
+            return consumerWaitTotalNanos;
+        }
+
+        /**
+         * Renders a human-readable report (i.e. a shorter `LexemeQueueMetrics.toReport(...)`).
+         */
+        public final String toReport(String title) {
+            return "LexemeQueue hand-off summary: " + title + '\n'
+                + "  tokens pushed: " + tokensPushed
+                + ", tokens pulled: " + tokensPulled
+                + ", push-backs: " + pushBacks + '\n'
+                + "  producer stalls: count=" + producerStallCount
+                + ", total=" + producerStallTotalNanos / 1_000 + "us\n"
+                + "  consumer waits : count=" + consumerWaitCount
+                + ", total=" + consumerWaitTotalNanos / 1_000 + "us\n";
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.codedev.antro.compiler.frontend.lexer.metrics;
+
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The JMX management interface for the hand-off metrics of a `LexemeQueue`
+ * (or of many queues aggregated together). All durations are in nanoseconds.
+ */
+public interface LexemeQueueMetricsMXBean {
+    long getTokensPushed();
+    long getTokensPulled();
+    long getPushBackCount();
+
+    long getProducerStallCount();
+    long getProducerStallTotalNanos();
+    long getProducerStallP50Nanos();
+    long getProducerStallP99Nanos();
+    long getProducerStallMaxNanos();
+
+    long getConsumerWaitCount();
+    long getConsumerWaitTotalNanos();
+    long getConsumerWaitP50Nanos();
+    long getConsumerWaitP99Nanos();
+    long getConsumerWaitMaxNanos();
+
+    double getOccupancyMean();
+    long getOccupancyP99();
+    long getOccupancyMax();
+
+    void reset();
+}
@@ -1,6 +1,10 @@
 package demo;
 
 import com.codedev.antro.compiler.frontend.*;
+import com.codedev.antro.compiler.frontend.lexer.LexemeQueue;
+import com.codedev.antro.compiler.frontend.lexer.Token;
+import com.codedev.antro.compiler.frontend.lexer.metrics.LexemeQueueMetrics;
+import com.codedev.antro.compiler.frontend.contracts.concerns.LexisException;
 
 import java.io.FileReader;
 import java.io.BufferedReader;
@@ -18,31 +22,9 @@ public class TokenizerDemo {
 
      public static void main(String[] args) {
 
-          boolean errorCaught = false;
-          LexemeQueue sharedQueue = new LexemeQueue(10);
-
-
-          try (BufferedReader reader = new BufferedReader(new FileReader("../../basic_program.antro"), 1000)) {
-
-               try {
-               
-                    Tokenizer tokenizer = new Tokenizer(reader, sharedQueue);
-               
-                    tokenizer.tokenize();
-               
-               } catch (LexisException e) {
-                    errorCaught = true;
-                    System.err.println("Failed to complete lexical analysis; reason: " + e.getMessage());
-               }
-          } catch (IOException e) {
-               errorCaught = true;
-               System.err.println("Failed to read the antro source file: " + e.getMessage());
-          } 
-
-          if (errorCaught) {
-               return;
-          }
+          LexemeQueue sharedQueue = new LexemeQueue(10, new LexemeQueueMetrics());
 
+          // @HINT: The consumer must be running before the Tokenizer fills the (bounded) queue
           Thread spawn = new Thread(() -> {
                while (true) {
                     try {
@@ -61,6 +43,25 @@ public class TokenizerDemo {
 
           spawn.start();
 
+          try (BufferedReader reader = new BufferedReader(new FileReader("../../basic_program.antro"), 1000)) {
+
+               try {
+               
+                    Tokenizer tokenizer = new Tokenizer(reader, sharedQueue);
+               
+                    tokenizer.tokenize();
+               
+               } catch (LexisException e) {
+                    // @INFO: The consumer still ends (i.e. on the poison token queued by the Tokenizer)
+                    System.err.println("Failed to complete lexical analysis; reason: " + e.getMessage());
+               }
+          } catch (IOException e) {
+               System.err.println("Failed to read the antro source file: " + e.getMessage());
+
+               // @NOTE: No token will ever arrive, so stop the consumer instead of waiting on it
+               spawn.interrupt();
+          }
+
           try {
                spawn.join();
           } catch (InterruptedException exp) {
@@ -70,6 +71,8 @@ public class TokenizerDemo {
                // @NOTE: Cooperative cancellation instead of forceful termination
                spawn.interrupt();
           }
+
+          System.out.println(sharedQueue.getMetrics().toReport("basic_program.antro"));
      
      }
   
@@ -0,0 +1,28 @@
+/*
+ * Antro Compiler Project
+ * https://www.coolcodes.io/antro
+ * Copyright (c) 2014-2026 Ifeora Okechukwu
+ * Licensed under the MIT license. See 'LICENSE' for details.
+ */
+
+/**
+ * The Antro compiler. A named module so that the AST vocabulary (`Expr`,
+ * `Stmt`) can be sealed over the node classes in `ast.rules`.
+ */
+module com.codedev.antro.compiler {
+    // @INFO: `LexemeQueueMetrics` registers itself as a platform MXBean
+    requires java.management;
+
+    exports com.codedev.antro.compiler.frontend;
+    exports com.codedev.antro.compiler.frontend.ast;
+    exports com.codedev.antro.compiler.frontend.ast.rules;
+    exports com.codedev.antro.compiler.frontend.ast.support;
+    exports com.codedev.antro.compiler.frontend.ast.support.semantics;
+    exports com.codedev.antro.compiler.frontend.ast.vocabulary;
+    exports com.codedev.antro.compiler.frontend.contracts.concerns;
+    exports com.codedev.antro.compiler.frontend.diagnostics;
+    exports com.codedev.antro.compiler.frontend.grammar;
+    exports com.codedev.antro.compiler.frontend.helpers;
+    exports com.codedev.antro.compiler.frontend.lexer;
+    exports com.codedev.antro.compiler.frontend.lexer.metrics;
+}